@@ -1,21 +1,28 @@
 package com.weolbu.assignment.config;
 import lombok.extern.slf4j.Slf4j;
+import com.weolbu.assignment.entity.Role;
 import com.weolbu.assignment.service.AuthService;
+import com.weolbu.assignment.service.auth.AccessTokenDenylist;
+import com.weolbu.assignment.service.auth.AuthenticatedUser;
+import com.weolbu.assignment.service.auth.UserStatusCache;
 import com.weolbu.assignment.util.JwtUtil;
-import io.jsonwebtoken.Claims;
+import com.weolbu.assignment.util.VerifiedToken;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
 @Component
 @Slf4j
 public class JwtFilter extends OncePerRequestFilter {
@@ -26,6 +33,28 @@ public class JwtFilter extends OncePerRequestFilter {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private UserStatusCache userStatusCache;
+
+    @Autowired
+    private AccessTokenDenylist accessTokenDenylist;
+
+    // claims : 토큰 클레임과 사용자 상태 캐시로 인증 (요청마다 사용자 조회 없음), database : 요청마다 사용자 조회
+    @Value("${spring.jwt.principal-source:claims}")
+    private String principalSource;
+
+    private static final Set<String> PUBLIC_GET_PATHS = Set.of(SecurityConfig.PUBLIC_GET_PATHS);
+
+    // 인증 없이 여는 조회 API는 토큰을 해석하지 않음 (재발급 API는 만료 토큰 표시가 필요하므로 제외하지 않음)
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PUBLIC_GET_PATHS.contains(path);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
@@ -33,22 +62,35 @@ public class JwtFilter extends OncePerRequestFilter {
         final String authorizationHeader = request.getHeader("Authorization");
 
         String jwt = null;
-        Long userId = null;
+        VerifiedToken token = null;
 
         try {
             if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
                 jwt = authorizationHeader.substring(7);
-                Claims claims = jwtUtil.parseToken(jwt);
+                // 서명, 만료 시간 검증은 요청당 한 번 (같은 토큰이 다시 오면 캐시된 검증 결과 사용)
+                VerifiedToken verified = jwtUtil.verify(jwt);
 
                 // 토큰이 Access Token인지 확인
-                if ("access".equals(claims.get("tokenType", String.class))) {
-                    userId = Long.valueOf(claims.getSubject());
+                if (verified.isAccessToken()) {
+                    // 로그아웃한 토큰 거부 (블룸 필터에 있을 때만 Redis 확인)
+                    if (accessTokenDenylist.isRevoked(verified)) {
+                        handleException(response, HttpServletResponse.SC_UNAUTHORIZED, "로그아웃된 토큰입니다.");
+                        return;
+                    }
+                    token = verified;
+                    // 로그아웃 API에서 사용
+                    request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verified);
                 }
             }
 
             // 인증 정보 설정
-            if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                validateAndAuthenticateUser(jwt, userId, request);
+            if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                if ("database".equals(principalSource)) {
+                    authenticateFromDatabase(token.userId(), request);
+                } else if (!authenticateFromClaims(token, request)) {
+                    handleException(response, HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+                    return;
+                }
             }
 
         } catch (ExpiredJwtException e) {
@@ -66,17 +108,34 @@ public class JwtFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
     }
 
-    private void validateAndAuthenticateUser(String jwt, Long userId, HttpServletRequest request) {
-        if (jwtUtil.validateAccessToken(jwt)) {
-            UserDetails userDetails = authService.loadUserById(userId);
+    private void authenticateFromDatabase(Long userId, HttpServletRequest request) {
+        AuthenticatedUser principal = authService.loadUserById(userId);
 
-            UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        UsernamePasswordAuthenticationToken authenticationToken =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
 
-            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    }
+
+    // 서명과 만료 시간은 verify에서 검증됨 : 탈퇴한 사용자만 거르고, 역할이 바뀌었으면 현재 역할 사용
+    private boolean authenticateFromClaims(VerifiedToken token, HttpServletRequest request) {
+        Long userId = token.userId();
+        Optional<Role> currentRole = userStatusCache.currentRole(userId);
+        if (currentRole.isEmpty()) {
+            return false;
+        }
+        if (!currentRole.get().name().equals(token.role())) {
+            log.debug("토큰 발급 이후 역할이 바뀐 사용자입니다. userId={}", userId);
         }
+
+        AuthenticatedUser principal = new AuthenticatedUser(userId, currentRole.get(), token.name());
+        UsernamePasswordAuthenticationToken authenticationToken =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        return true;
     }
 
     private void handleException(HttpServletResponse response, int status, String message) throws IOException {
@@ -1,5 +1,6 @@
 package com.weolbu.assignment.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -17,6 +18,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig{
+    // 인증 없이 여는 강의 조회 API (JwtFilter도 이 경로에서는 토큰을 해석하지 않음)
+    static final String[] PUBLIC_GET_PATHS = {
+            "/api/lectures", "/api/lectures/cursor", "/api/lectures/search", "/api/lectures/facets", "/api/lectures/stream"
+    };
+
     private final JwtFilter jwtFilter;
 
     @Bean
@@ -25,6 +31,7 @@ public class SecurityConfig{
                 .csrf(csrf -> csrf.disable()) // CSRF 비활성화
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll() // 비동기 응답 재디스패치 허용 (최초 요청에서 인증됨)
                         .requestMatchers(
                                 "/api/auth/login",
                                 "/api/auth/reissue-token",
@@ -35,7 +42,7 @@ public class SecurityConfig{
                                 "/v3/api-docs/**",
                                 "/swagger-ui.html"
                         ).permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/lectures").permitAll()
+                        .requestMatchers(HttpMethod.GET, PUBLIC_GET_PATHS).permitAll()
                         .requestMatchers(org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console()).permitAll() // H2 Console 허용
                         .anyRequest().authenticated()
                 )
@@ -5,6 +5,7 @@ import com.weolbu.assignment.dto.LoginRequest;
 import com.weolbu.assignment.dto.LoginResponse;
 import com.weolbu.assignment.exception.InvalidTokenException;
 import com.weolbu.assignment.service.AuthService;
+import com.weolbu.assignment.util.VerifiedToken;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -59,4 +60,24 @@ public class AuthController {
         AccessTokenReissueResponse response = authService.reissueAccessToken(expiredAccessToken);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+            summary = "로그아웃",
+            description = "Refresh Token을 삭제하고, 사용한 Access Token은 만료될 때까지 사용할 수 없게 합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "로그아웃 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증 실패"),
+                    @ApiResponse(responseCode = "500", description = "예상치 못한 예외")
+            }
+    )
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(HttpServletRequest request) {
+        // 필터에서 검증한 Access Token 가져오기
+        VerifiedToken accessToken = (VerifiedToken) request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE);
+        if (accessToken == null) {
+            throw new InvalidTokenException("Access Token이 없습니다.");
+        }
+        authService.logout(accessToken);
+        return ResponseEntity.ok("로그아웃되었습니다.");
+    }
 }
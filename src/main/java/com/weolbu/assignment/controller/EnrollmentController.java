@@ -1,29 +1,37 @@
 package com.weolbu.assignment.controller;
 
+import com.weolbu.assignment.dto.EnrollmentTicketResponse;
 import com.weolbu.assignment.entity.User;
-import com.weolbu.assignment.service.EnrollmentService;
+import com.weolbu.assignment.service.auth.AuthenticatedUser;
+import com.weolbu.assignment.service.auth.CurrentUser;
+import com.weolbu.assignment.service.cart.CartEnrollmentProcessor;
+import com.weolbu.assignment.service.queue.EnrollmentTicket;
+import com.weolbu.assignment.service.queue.EnrollmentTicketService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/enrollments")
 @RequiredArgsConstructor
 public class EnrollmentController {
 
-    private final EnrollmentService enrollmentService;
+    private final CartEnrollmentProcessor cartEnrollmentProcessor;
+    private final EnrollmentTicketService enrollmentTicketService;
 
     @Operation(
             summary = "수강 신청",
@@ -37,6 +45,10 @@ public class EnrollmentController {
                             - 이미 수강 신청된 강의 혹은 수강 인원 정원 초과인 강의를 신청했을 때와 수강 신청을 성공한 강의가 함께 있을 때
                             - 수강 신청 모두 성공
                             """),
+                    @ApiResponse(responseCode = "202", description = """
+                            대기열 접수 (queued=true):
+                            - 강의별 티켓 ID를 반환하며, 처리 결과는 티켓 조회 API로 확인
+                            """),
                     @ApiResponse(responseCode = "409", description = """
                             수강 신청 실패:
                             - 이미 수강 신청된 강의
@@ -48,9 +60,14 @@ public class EnrollmentController {
     @PostMapping
     public ResponseEntity<Map<String, Object>> enrollInLectures(
             @RequestBody List<Long> lectureIds,
-            @AuthenticationPrincipal UserDetails userDetails
+            @RequestParam(defaultValue = "false") boolean queued,
+            @CurrentUser AuthenticatedUser user
     ) {
-        Map<String, String> results = enrollmentService.enrollInLectures(lectureIds, userDetails);
+        if (queued) {
+            return submitToQueue(lectureIds, user.getUserId());
+        }
+
+        Map<String, String> results = cartEnrollmentProcessor.enroll(lectureIds, user.getUserId());
 
         // 상태 결정 (모두 성공 / 모두 실패 / 일부 성공)
         boolean allSuccess = results.values().stream().allMatch("강의 수강 신청 성공"::equals);
@@ -75,4 +92,39 @@ public class EnrollmentController {
 
         return ResponseEntity.status(httpStatus).body(response);
     }
-}
\ No newline at end of file
+
+    // 대기열 접수 : 티켓만 발급하고 바로 응답
+    private ResponseEntity<Map<String, Object>> submitToQueue(List<Long> lectureIds, Long studentId) {
+        List<EnrollmentTicket> tickets = enrollmentTicketService.submit(lectureIds, studentId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "accepted");
+        response.put("tickets", tickets.stream().map(EnrollmentTicketResponse::from).toList());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @Operation(
+            summary = "대기열 수강 신청 결과 조회",
+            description = """
+                    대기열로 접수한 수강 신청의 처리 결과를 조회합니다.
+                    waitMillis를 지정하면 처리가 끝나거나 대기 시간(최대 30초)이 지날 때까지 응답을 보류합니다.
+                    """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "티켓 조회 성공 (PENDING, SUCCESS, FAILED)"),
+                    @ApiResponse(responseCode = "404", description = "티켓이 없거나 만료됨")
+            }
+    )
+    @GetMapping("/tickets/{ticketId}")
+    public CompletableFuture<ResponseEntity<EnrollmentTicketResponse>> getTicket(
+            @PathVariable String ticketId,
+            @RequestParam(defaultValue = "0") long waitMillis,
+            @CurrentUser AuthenticatedUser user
+    ) {
+        return enrollmentTicketService.awaitTicket(ticketId, user.getUserId(), waitMillis)
+                .thenApply(ticket -> ticket
+                        .map(EnrollmentTicketResponse::from)
+                        .map(ResponseEntity::ok)
+                        .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+}
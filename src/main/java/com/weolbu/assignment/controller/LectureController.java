@@ -1,8 +1,18 @@
 package com.weolbu.assignment.controller;
 
 import com.weolbu.assignment.dto.LectureCreateRequest;
+import com.weolbu.assignment.dto.LectureCursorPageResponse;
+import com.weolbu.assignment.dto.LectureFacetResponse;
 import com.weolbu.assignment.dto.LectureSearchResponse;
+import com.weolbu.assignment.repository.LectureFilter;
+import com.weolbu.assignment.service.LectureFacetCache;
 import com.weolbu.assignment.service.LectureService;
+import com.weolbu.assignment.service.auth.AuthenticatedUser;
+import com.weolbu.assignment.service.auth.CurrentUser;
+import com.weolbu.assignment.service.cache.LectureCatalogVersion;
+import com.weolbu.assignment.service.cache.LectureListingCache;
+import com.weolbu.assignment.service.cache.LectureListingCache.VersionedLecturePage;
+import com.weolbu.assignment.service.stream.SeatCountBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,11 +20,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.OptionalLong;
 
 @RestController
 @Tag(name = "강의 API", description = "강의 관련 API를 제공합니다.")
@@ -23,16 +38,86 @@ import org.springframework.web.bind.annotation.*;
 public class LectureController {
 
     private final LectureService lectureService;
+    private final LectureListingCache lectureListingCache;
+    private final LectureFacetCache lectureFacetCache;
+    private final LectureCatalogVersion lectureCatalogVersion;
+    private final SeatCountBroadcaster seatCountBroadcaster;
 
     @GetMapping
-    @Operation(summary = "강의 조회 기능", description = "모든 회원은 강의를 조회할 수 있습니다.")
-    public Page<LectureSearchResponse> getLectures(
+    @Operation(summary = "강의 조회 기능",
+            description = "모든 회원은 강의를 조회할 수 있습니다. 가격 범위(minPrice, maxPrice), 강사(instructorId), "
+                    + "신청 가능 여부(availableOnly)로 거를 수 있습니다. totalElements는 근사값이며, exactTotal=true이면 정확한 값을 계산합니다. "
+                    + "응답의 ETag를 If-None-Match로 보내면 목록이 바뀌지 않았을 때 304를 반환합니다.")
+    public ResponseEntity<Page<LectureSearchResponse>> getLectures(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "popular") String sort
+            @RequestParam(defaultValue = "popular") String sort,
+            @RequestParam(defaultValue = "false") boolean exactTotal,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) Long instructorId,
+            @RequestParam(defaultValue = "false") boolean availableOnly
     ) {
+        // 목록이 바뀌지 않았으면 조회 없이 304 응답
+        OptionalLong currentVersion = lectureCatalogVersion.current();
+        if (currentVersion.isPresent() && LectureCatalogVersion.matches(ifNoneMatch, currentVersion.getAsLong())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(LectureCatalogVersion.etag(currentVersion.getAsLong()))
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
         PageRequest pageRequest = PageRequest.of(page, size);
-        return lectureService.getLectures(pageRequest, sort);
+        LectureFilter filter = new LectureFilter(minPrice, maxPrice, instructorId, availableOnly);
+        VersionedLecturePage result = exactTotal || !filter.isEmpty()
+                ? new VersionedLecturePage(lectureService.getLectures(pageRequest, sort, exactTotal, filter), currentVersion)
+                : lectureListingCache.getVersionedLectures(pageRequest, sort);
+
+        // ETag는 응답 본문을 읽기 직전의 버전 (캐시된 오래된 페이지가 최신 버전의 ETag를 갖지 않도록)
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (result.catalogVersion().isPresent()) {
+            response.eTag(LectureCatalogVersion.etag(result.catalogVersion().getAsLong()));
+        }
+        return response.body(result.page());
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "강의 필터 집계 조회",
+            description = "가격 구간별 강의 수와 신청 가능한 강의 수를 반환합니다. 주기적으로 다시 계산하는 근사값입니다.")
+    public LectureFacetResponse getLectureFacets() {
+        return lectureFacetCache.facets();
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "강의 조회 기능 (커서 방식)",
+            description = "응답의 nextCursor를 cursor로 넘겨 다음 페이지를 조회합니다. 페이지 깊이와 관계없이 조회 속도가 일정합니다.")
+    public LectureCursorPageResponse getLecturesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "popular") String sort
+    ) {
+        return lectureService.getLecturesByCursor(cursor, size, sort);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "강의 검색 기능",
+            description = "강의 제목과 강사 이름으로 강의를 검색합니다. sort는 relevance(기본), popular, recent, rate 중 하나입니다.")
+    public Page<LectureSearchResponse> searchLectures(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "relevance") String sort
+    ) {
+        return lectureService.searchLectures(q, PageRequest.of(page, size), sort);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "강의 신청자 수 스트림",
+            description = "ids로 지정한 강의의 현재 신청자 수를 snapshot 이벤트로 보낸 뒤, 신청자 수 변화량을 seats 이벤트로 보냅니다. "
+                    + "변화량은 강의별로 짧은 주기마다 합쳐서 보냅니다.")
+    public SseEmitter streamSeatCounts(@RequestParam(required = false) List<Long> ids) {
+        return seatCountBroadcaster.subscribe(ids);
     }
 
     @PostMapping
@@ -44,11 +129,11 @@ public class LectureController {
             }
     )
     public ResponseEntity<String> createLecture(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUser AuthenticatedUser user,
             @Valid @RequestBody LectureCreateRequest lectureRequest
     ) {
 
-        lectureService.createLecture(userDetails, lectureRequest);
+        lectureService.createLecture(user, lectureRequest);
 
         return ResponseEntity.status(HttpStatus.CREATED).body("강의가 성공적으로 등록되었습니다.");
     }
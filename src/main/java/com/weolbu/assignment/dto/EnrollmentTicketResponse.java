@@ -0,0 +1,24 @@
+package com.weolbu.assignment.dto;
+
+import com.weolbu.assignment.service.queue.EnrollmentTicket;
+import com.weolbu.assignment.service.queue.TicketStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class EnrollmentTicketResponse {
+    private String ticketId;
+    private Long lectureId;
+    private TicketStatus status;
+    private String message;
+
+    public static EnrollmentTicketResponse from(EnrollmentTicket ticket) {
+        return EnrollmentTicketResponse.builder()
+                .ticketId(ticket.getTicketId())
+                .lectureId(ticket.getLectureId())
+                .status(ticket.getStatus())
+                .message(ticket.getMessage())
+                .build();
+    }
+}
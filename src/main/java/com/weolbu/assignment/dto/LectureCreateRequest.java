@@ -1,5 +1,6 @@
 package com.weolbu.assignment.dto;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -20,4 +21,9 @@ public class LectureCreateRequest {
     @Min(value = 0, message = "가격은 0 이상이어야 합니다.")
     private Integer price;
 
+    // 인기 강의만 지정 : 정원을 나눠 관리할 좌석 슬롯 수 (없으면 일반 강의)
+    @Min(value = 0, message = "좌석 슬롯 수는 0 이상이어야 합니다.")
+    @Max(value = 64, message = "좌석 슬롯 수는 64 이하여야 합니다.")
+    private Integer seatSlotCount;
+
 }
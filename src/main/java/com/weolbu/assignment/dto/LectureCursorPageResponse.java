@@ -0,0 +1,14 @@
+package com.weolbu.assignment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class LectureCursorPageResponse {
+    private List<LectureSearchResponse> content;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+}
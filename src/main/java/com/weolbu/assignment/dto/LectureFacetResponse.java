@@ -0,0 +1,22 @@
+package com.weolbu.assignment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class LectureFacetResponse {
+    private long totalCount;
+    private long availableCount; // 정원이 남은 강의 수
+    private List<PriceBucket> priceBuckets;
+
+    @Getter
+    @Builder
+    public static class PriceBucket {
+        private Integer minPrice; // 포함
+        private Integer maxPrice; // 미포함, 마지막 구간이면 null
+        private long count;
+    }
+}
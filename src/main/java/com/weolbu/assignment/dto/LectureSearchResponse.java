@@ -1,11 +1,15 @@
 package com.weolbu.assignment.dto;
 
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class LectureSearchResponse {
     private Long lectureId;
     private String title;
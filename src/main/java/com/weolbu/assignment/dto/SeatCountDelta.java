@@ -0,0 +1,14 @@
+package com.weolbu.assignment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 좌석 스트림으로 내려주는 강의별 신청자 수 변화량 (한 틱 동안의 합)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatCountDelta {
+    private Long lectureId;
+    private int delta;
+}
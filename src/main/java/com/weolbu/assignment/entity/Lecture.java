@@ -13,7 +13,21 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 @Entity
-@Table(name = "lectures")
+@Table(name = "lectures",
+        indexes = {
+                @Index(name = "idx_lectures_fill_rate", columnList = "fill_rate, lecture_id"),
+                @Index(name = "idx_lectures_current_participants", columnList = "current_participants, lecture_id"),
+                @Index(name = "idx_lectures_created_at", columnList = "created_at, lecture_id"),
+                // 목록 필터 : 가격 범위, 강사별 목록은 정렬 기준마다 (강사, 정렬 값) 순서로 읽음
+                @Index(name = "idx_lectures_price", columnList = "price, lecture_id"),
+                // 가격 범위와 정렬을 함께 쓰는 목록은 정렬 값 순서로 읽으면서 가격을 인덱스 안에서 거름 (가격이 범위 조건이라 (가격, 정렬 값) 순서로는 정렬을 대신하지 못함)
+                @Index(name = "idx_lectures_participants_price", columnList = "current_participants, price, lecture_id"),
+                @Index(name = "idx_lectures_created_at_price", columnList = "created_at, price, lecture_id"),
+                @Index(name = "idx_lectures_fill_rate_price", columnList = "fill_rate, price, lecture_id"),
+                @Index(name = "idx_lectures_instructor_participants", columnList = "instructor_id, current_participants, lecture_id"),
+                @Index(name = "idx_lectures_instructor_created_at", columnList = "instructor_id, created_at, lecture_id"),
+                @Index(name = "idx_lectures_instructor_fill_rate", columnList = "instructor_id, fill_rate, lecture_id")
+        })
 public class Lecture {
 
     @Id
@@ -28,10 +42,20 @@ public class Lecture {
 
     private Integer price;
 
-    @ManyToOne
+    // 신청률 (currentParticipants / maxParticipants). 신청자 수를 바꾸는 모든 갱신에서 함께 갱신되며 신청률 정렬 인덱스에 사용
+    private Double fillRate;
+
+    // 0보다 크면 정원을 여러 좌석 슬롯으로 나눠 관리하는 인기 강의
+    private Integer seatSlotCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "instructor_id", nullable = false)
     private User instructor;
 
+    // 신청자 수가 바뀔 때마다 증가 (낙관적 잠금)
+    @Version
+    private Long version;
+
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
@@ -41,18 +65,36 @@ public class Lecture {
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        refreshFillRate();
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        refreshFillRate();
     }
 
-    public synchronized boolean canEnroll() {
+    public boolean canEnroll() {
         return this.currentParticipants < this.maxParticipants;
     }
 
-    public synchronized void incrementParticipants() {
+    public void incrementParticipants() {
         this.currentParticipants++;
+        refreshFillRate();
+    }
+
+    public void decrementParticipants() {
+        if (this.currentParticipants > 0) {
+            this.currentParticipants--;
+            refreshFillRate();
+        }
+    }
+
+    public boolean hasSeatSlots() {
+        return this.seatSlotCount != null && this.seatSlotCount > 0;
+    }
+
+    private void refreshFillRate() {
+        this.fillRate = this.currentParticipants * 1.0 / this.maxParticipants;
     }
 }
@@ -0,0 +1,57 @@
+package com.weolbu.assignment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 인기 강의의 정원을 나눠 가진 좌석 슬롯. 슬롯마다 row가 달라 신청자 수 증가가 한 row에 몰리지 않는다
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "lecture_seat_slots",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"lecture_id", "slot_no"}))
+public class LectureSeatSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long slotId;
+
+    @Column(name = "lecture_id", nullable = false)
+    private Long lectureId;
+
+    @Column(name = "slot_no", nullable = false)
+    private Integer slotNo;
+
+    private Integer capacity;
+
+    private Integer used;
+
+    // 남은 좌석 중 최대 seats개 확보 후 확보한 수 반환
+    public int take(int seats) {
+        int granted = Math.min(seats, capacity - used);
+        if (granted <= 0) {
+            return 0;
+        }
+        used += granted;
+        return granted;
+    }
+
+    // 사용한 좌석 중 최대 seats개 반환 후 반환한 수 반환
+    public int release(int seats) {
+        int released = Math.min(seats, used);
+        used -= released;
+        return released;
+    }
+
+    // 사용한 좌석을 강의 신청자 수로 옮기고 슬롯 정원에서 제외 (옮긴 수 반환)
+    public int fold() {
+        int folded = used;
+        capacity -= folded;
+        used = 0;
+        return folded;
+    }
+}
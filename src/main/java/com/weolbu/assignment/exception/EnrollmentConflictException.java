@@ -0,0 +1,7 @@
+package com.weolbu.assignment.exception;
+
+public class EnrollmentConflictException extends RuntimeException {
+    public EnrollmentConflictException(String message) {
+        super(message);
+    }
+}
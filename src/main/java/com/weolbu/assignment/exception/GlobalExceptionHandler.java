@@ -47,6 +47,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
     }
 
+    @ExceptionHandler(EnrollmentConflictException.class)
+    public ResponseEntity<String> handleEnrollmentConflictException(EnrollmentConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
     @ExceptionHandler(LectureNotFoundException.class)
     public ResponseEntity<String> handleLectureNotFoundException(LectureNotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
@@ -55,6 +60,34 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handleAlreadyEnrolledException(AlreadyEnrolledException e){
         return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
     }
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+    @ExceptionHandler(InvalidLectureFilterException.class)
+    public ResponseEntity<String> handleInvalidLectureFilterException(InvalidLectureFilterException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+    @ExceptionHandler(InvalidSeatStreamRequestException.class)
+    public ResponseEntity<String> handleInvalidSeatStreamRequestException(InvalidSeatStreamRequestException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+    @ExceptionHandler(SeatStreamCapacityExceededException.class)
+    public ResponseEntity<String> handleSeatStreamCapacityExceededException(SeatStreamCapacityExceededException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<String> handleInvalidSearchQueryException(InvalidSearchQueryException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+    @ExceptionHandler(SearchUnavailableException.class)
+    public ResponseEntity<String> handleSearchUnavailableException(SearchUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<String> handlePasswordHashingBusyException(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException e){
         Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,7 @@
+package com.weolbu.assignment.exception;
+
+public class InvalidLectureFilterException extends RuntimeException {
+    public InvalidLectureFilterException(String message) {
+        super(message);
+    }
+}
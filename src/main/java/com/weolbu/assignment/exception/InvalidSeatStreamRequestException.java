@@ -0,0 +1,7 @@
+package com.weolbu.assignment.exception;
+
+public class InvalidSeatStreamRequestException extends RuntimeException {
+    public InvalidSeatStreamRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.weolbu.assignment.exception;
+
+public class SeatStreamCapacityExceededException extends RuntimeException {
+    public SeatStreamCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,176 @@
+package com.weolbu.assignment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 여러 강의 수강 신청을 JDBC 배치로 처리하는 저장소.
+ * Enrollment는 IDENTITY 전략이라 Hibernate 배치 insert가 동작하지 않으므로 JdbcTemplate을 사용한다.
+ * 수강 신청 정보는 이미 신청한 (강의, 학생)이면 건너뛰고 저장하므로, 중복 신청 한 건 때문에 배치 전체가 실패하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EnrollmentJdbcRepository {
+
+    private static final String CLAIM_SEAT_SQL =
+            "UPDATE lectures SET fill_rate = (current_participants + 1) * 1.0 / max_participants, " +
+            "current_participants = current_participants + 1, version = version + 1, updated_at = ? " +
+            "WHERE lecture_id = ? AND current_participants < max_participants";
+
+    private static final String LOCK_REMAINING_SEATS_SQL =
+            "SELECT max_participants - current_participants FROM lectures WHERE lecture_id = ? FOR UPDATE";
+
+    private static final String ADD_PARTICIPANTS_SQL =
+            "UPDATE lectures SET fill_rate = (current_participants + ?) * 1.0 / max_participants, " +
+            "current_participants = current_participants + ?, version = version + 1, updated_at = ? " +
+            "WHERE lecture_id = ?";
+
+    // 이미 신청한 (강의, 학생)이면 저장하지 않음 (갱신 행 수 0)
+    private static final String INSERT_ENROLLMENT_IF_ABSENT_SQL =
+            "INSERT INTO enrollments (lecture_id, student_id, enrolled_at, created_at, updated_at) " +
+            "SELECT ?, ?, ?, ?, ? WHERE NOT EXISTS " +
+            "(SELECT 1 FROM enrollments WHERE lecture_id = ? AND student_id = ?)";
+
+    private static final String COUNT_ENROLLMENT_SQL =
+            "SELECT COUNT(*) FROM enrollments WHERE lecture_id = ? AND student_id = ?";
+
+    private static final String SELECT_LECTURE_STUDENTS_SQL = "SELECT lecture_id, student_id FROM enrollments";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 강의별 좌석 확보를 배치 한 번으로 처리 (각 강의의 갱신 행 수 0 또는 1 반환)
+    public int[] claimSeats(List<Long> lectureIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(CLAIM_SEAT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setTimestamp(1, now);
+                ps.setLong(2, lectureIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lectureIds.size();
+            }
+        });
+    }
+
+    // 한 학생의 여러 강의 수강 신청 정보를 배치 한 번으로 저장하고, 이미 신청되어 있어 건너뛴 강의 ID 반환
+    public Set<Long> insertEnrollments(List<Long> lectureIds, Long studentId) {
+        Set<Long> skippedIds = new HashSet<>();
+        for (int index : insertIfAbsent(lectureIds, Collections.nCopies(lectureIds.size(), studentId))) {
+            skippedIds.add(lectureIds.get(index));
+        }
+        return skippedIds;
+    }
+
+    // 강의 row에 쓰기 잠금을 걸고 남은 좌석 수 조회
+    public Optional<Integer> lockRemainingSeats(Long lectureId) {
+        List<Integer> remainingSeats = jdbcTemplate.queryForList(LOCK_REMAINING_SEATS_SQL, Integer.class, lectureId);
+        return remainingSeats.stream().findFirst();
+    }
+
+    // 신청자 수를 count만큼 한 번에 증가 (정원 확인은 잠금을 건 호출자가 수행)
+    public void addParticipants(Long lectureId, int count) {
+        jdbcTemplate.update(ADD_PARTICIPANTS_SQL, count, count, Timestamp.valueOf(LocalDateTime.now()), lectureId);
+    }
+
+    // 한 강의에 대한 여러 학생의 수강 신청 정보를 배치 한 번으로 저장하고, 이미 신청되어 있어 건너뛴 학생 ID 반환
+    public Set<Long> insertLectureEnrollments(Long lectureId, List<Long> studentIds) {
+        Set<Long> skippedIds = new HashSet<>();
+        for (int index : insertIfAbsent(Collections.nCopies(studentIds.size(), lectureId), studentIds)) {
+            skippedIds.add(studentIds.get(index));
+        }
+        return skippedIds;
+    }
+
+    // (강의, 학생) 쌍을 배치로 저장하고 건너뛴 쌍의 위치 반환.
+    // 아직 커밋되지 않은 같은 쌍이 먼저 저장 중이었다면 그 트랜잭션이 커밋된 뒤 유니크 제약 위반이 나므로,
+    // 배치를 세이브포인트로 되돌리고 이미 저장된 쌍만 빼고 다시 저장
+    private List<Integer> insertIfAbsent(List<Long> lectureIds, List<Long> studentIds) {
+        List<Integer> skipped = new ArrayList<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < lectureIds.size(); i++) {
+            pending.add(i);
+        }
+
+        while (!pending.isEmpty()) {
+            try {
+                int[] updatedRows = insertBatch(lectureIds, studentIds, pending);
+                for (int i = 0; i < pending.size(); i++) {
+                    if (updatedRows[i] == 0) {
+                        skipped.add(pending.get(i));
+                    }
+                }
+                return skipped;
+            } catch (DataIntegrityViolationException e) {
+                List<Integer> conflicts = pending.stream()
+                        .filter(i -> isEnrolled(lectureIds.get(i), studentIds.get(i)))
+                        .toList();
+                if (conflicts.isEmpty()) {
+                    throw e;
+                }
+                skipped.addAll(conflicts);
+                pending.removeAll(conflicts);
+            }
+        }
+        return skipped;
+    }
+
+    private int[] insertBatch(List<Long> lectureIds, List<Long> studentIds, List<Integer> indexes) {
+        TransactionTemplate savepoint = new TransactionTemplate(transactionManager);
+        savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return savepoint.execute(status -> jdbcTemplate.batchUpdate(INSERT_ENROLLMENT_IF_ABSENT_SQL,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        long lectureId = lectureIds.get(indexes.get(i));
+                        long studentId = studentIds.get(indexes.get(i));
+                        ps.setLong(1, lectureId);
+                        ps.setLong(2, studentId);
+                        ps.setTimestamp(3, now);
+                        ps.setTimestamp(4, now);
+                        ps.setTimestamp(5, now);
+                        ps.setLong(6, lectureId);
+                        ps.setLong(7, studentId);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return indexes.size();
+                    }
+                }));
+    }
+
+    private boolean isEnrolled(Long lectureId, Long studentId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_ENROLLMENT_SQL, Integer.class, lectureId, studentId);
+        return count != null && count > 0;
+    }
+
+    // 전체 수강 신청의 (강의 ID, 학생 ID)를 한 행씩 전달 (결과를 메모리에 모으지 않음)
+    public void forEachLectureStudent(BiConsumer<Long, Long> consumer) {
+        jdbcTemplate.query(SELECT_LECTURE_STUDENTS_SQL,
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getLong(2)));
+    }
+}
@@ -4,9 +4,34 @@ import com.weolbu.assignment.entity.Enrollment;
 import com.weolbu.assignment.entity.Lecture;
 import com.weolbu.assignment.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment,Long> {
     boolean existsByLectureAndStudent(Lecture lecture, User user);
+
+    // 학생이 이미 신청한 강의 ID 조회
+    @Query("SELECT e.lecture.lectureId FROM Enrollment e " +
+            "WHERE e.student.userId = :studentId AND e.lecture.lectureId IN :lectureIds")
+    List<Long> findEnrolledLectureIds(@Param("studentId") Long studentId, @Param("lectureIds") Collection<Long> lectureIds);
+
+    // 강의에 이미 신청한 학생 ID 조회
+    @Query("SELECT e.student.userId FROM Enrollment e " +
+            "WHERE e.lecture.lectureId = :lectureId AND e.student.userId IN :studentIds")
+    List<Long> findEnrolledStudentIds(@Param("lectureId") Long lectureId, @Param("studentIds") Collection<Long> studentIds);
+
+    // 강의별 신청 학생 ID 조회
+    @Query("SELECT e.lecture.lectureId AS lectureId, e.student.userId AS studentId " +
+            "FROM Enrollment e WHERE e.lecture.lectureId IN :lectureIds")
+    List<LectureStudent> findLectureStudentsByLectureIds(@Param("lectureIds") Collection<Long> lectureIds);
+
+    interface LectureStudent {
+        Long getLectureId();
+        Long getStudentId();
+    }
 }
@@ -0,0 +1,14 @@
+package com.weolbu.assignment.repository;
+
+/**
+ * 강의 목록 조회 필터. 값이 없는(null, false) 조건은 쿼리에 넣지 않는다.
+ * availableOnly는 신청자 수와 정원을 비교하는 대신 fill_rate &lt; 1 로 바꿔 신청률 인덱스 범위로 읽는다.
+ */
+public record LectureFilter(Integer minPrice, Integer maxPrice, Long instructorId, boolean availableOnly) {
+
+    public static final LectureFilter NONE = new LectureFilter(null, null, null, false);
+
+    public boolean isEmpty() {
+        return minPrice == null && maxPrice == null && instructorId == null && !availableOnly;
+    }
+}
@@ -0,0 +1,14 @@
+package com.weolbu.assignment.repository;
+
+import com.weolbu.assignment.repository.LectureRepository.LectureListItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+// 필터 조건에 따라 WHERE 절이 달라지는 목록 조회 (LectureRepository에 합쳐서 사용)
+public interface LectureFilterRepository {
+
+    Slice<LectureListItem> findListItemSlice(LectureFilter filter, Pageable pageable);
+
+    Page<LectureListItem> findListItemPage(LectureFilter filter, Pageable pageable);
+}
@@ -0,0 +1,106 @@
+package com.weolbu.assignment.repository;
+
+import com.weolbu.assignment.repository.LectureRepository.LectureListItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필터 목록 조회 구현.
+ * 사용하는 조건만 WHERE 절에 넣어 (:param IS NULL OR ...) 형태로 인덱스를 못 타는 일이 없도록 하고,
+ * 결과는 @Query 목록 조회와 같은 LectureListItem 프로젝션으로 반환한다.
+ */
+public class LectureFilterRepositoryImpl implements LectureFilterRepository {
+
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<LectureListItem> findListItemSlice(LectureFilter filter, Pageable pageable) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<LectureListItem> lectures = findListItems(filter, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = lectures.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? lectures.subList(0, pageable.getPageSize()) : lectures, pageable, hasNext);
+    }
+
+    @Override
+    public Page<LectureListItem> findListItemPage(LectureFilter filter, Pageable pageable) {
+        List<LectureListItem> lectures = findListItems(filter, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(lectures, pageable, () -> count(filter));
+    }
+
+    private List<LectureListItem> findListItems(LectureFilter filter, Pageable pageable, int limit) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String jpql = LectureRepository.LIST_ITEM_SELECT + where(filter, parameters) + orderBy(pageable.getSort());
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        parameters.forEach(query::setParameter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(limit);
+
+        List<LectureListItem> lectures = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            Map<String, Object> values = new HashMap<>();
+            for (TupleElement<?> element : tuple.getElements()) {
+                values.put(element.getAlias(), tuple.get(element));
+            }
+            lectures.add(PROJECTIONS.createProjection(LectureListItem.class, values));
+        }
+        return lectures;
+    }
+
+    private long count(LectureFilter filter) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        TypedQuery<Long> query = entityManager.createQuery("SELECT COUNT(l) FROM Lecture l " + where(filter, parameters), Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    // 강사 조건은 강사 조인 없이 instructor_id 컬럼으로 비교
+    private static String where(LectureFilter filter, Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.minPrice() != null) {
+            conditions.add("l.price >= :minPrice");
+            parameters.put("minPrice", filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            conditions.add("l.price <= :maxPrice");
+            parameters.put("maxPrice", filter.maxPrice());
+        }
+        if (filter.instructorId() != null) {
+            conditions.add("l.instructor.userId = :instructorId");
+            parameters.put("instructorId", filter.instructorId());
+        }
+        if (filter.availableOnly()) {
+            conditions.add("l.fillRate < 1");
+        }
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ";
+    }
+
+    // 정렬 속성은 서비스가 정한 값(currentParticipants, createdAt, fillRate, lectureId)만 들어옴
+    private static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add("l." + order.getProperty() + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return orders.isEmpty() ? "" : "ORDER BY " + String.join(", ", orders);
+    }
+}
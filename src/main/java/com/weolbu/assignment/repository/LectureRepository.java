@@ -2,24 +2,198 @@ package com.weolbu.assignment.repository;
 
 import com.weolbu.assignment.entity.Lecture;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface LectureRepository extends JpaRepository<Lecture, Long> {
-    @Query("SELECT l FROM Lecture l ORDER BY (l.currentParticipants * 1.0 / l.maxParticipants) DESC")
-    List<Lecture> findAllOrderByRate(Pageable pageable);
+public interface LectureRepository extends JpaRepository<Lecture, Long>, LectureFilterRepository {
+    // 목록 조회용 select : 강의 엔티티와 강사 User 전체 대신 응답에 필요한 컬럼과 강사 이름만 읽음
+    String LIST_ITEM_SELECT = "SELECT l.lectureId AS lectureId, l.title AS title, l.price AS price, " +
+            "i.userName AS instructorName, l.currentParticipants AS currentParticipants, " +
+            "l.maxParticipants AS maxParticipants, COALESCE(l.seatSlotCount, 0) AS seatSlotCount, " +
+            "l.createdAt AS createdAt, l.fillRate AS fillRate " +
+            "FROM Lecture l JOIN l.instructor i ";
 
-    @Lock(LockModeType.PESSIMISTIC_READ) // 비관적 읽기
+    String SEARCH_SOURCE_SELECT = "SELECT l.lectureId AS lectureId, l.title AS title, i.userName AS instructorName, " +
+            "l.createdAt AS createdAt, l.currentParticipants AS currentParticipants, l.maxParticipants AS maxParticipants " +
+            "FROM Lecture l JOIN l.instructor i ";
+
+    // 전체 건수를 세지 않고 limit + 1 건만 읽어 다음 페이지 존재 여부 확인
+    @Query(LIST_ITEM_SELECT)
+    Slice<LectureListItem> findListItemSlice(Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT, countQuery = "SELECT COUNT(l) FROM Lecture l")
+    Page<LectureListItem> findListItemPage(Pageable pageable);
+
+    // 순위로 정한 강의 ID 목록의 목록 항목 조회 (순서는 호출자가 맞춤)
+    @Query(LIST_ITEM_SELECT + "WHERE l.lectureId IN :lectureIds")
+    List<LectureListItem> findListItemsByLectureIdIn(@Param("lectureIds") Collection<Long> lectureIds);
+
+    // 강의 ID 순서로 lastLectureId 다음 강의들의 신청자 수와 정원 조회
+    @Query("SELECT l.lectureId AS lectureId, l.currentParticipants AS currentParticipants, " +
+            "l.maxParticipants AS maxParticipants, COALESCE(l.seatSlotCount, 0) AS seatSlotCount " +
+            "FROM Lecture l WHERE l.lectureId > :lastLectureId ORDER BY l.lectureId")
+    List<LectureParticipants> findParticipantsAfter(@Param("lastLectureId") Long lastLectureId, Pageable limit);
+
+    // 검색 색인용 : 강의 ID 순서로 lastLectureId 다음 강의들의 제목, 강사 이름과 정렬 기준 값 조회
+    @Query(SEARCH_SOURCE_SELECT + "WHERE l.lectureId > :lastLectureId ORDER BY l.lectureId")
+    List<LectureSearchSource> findSearchSourcesAfter(@Param("lastLectureId") Long lastLectureId, Pageable limit);
+
+    @Query(SEARCH_SOURCE_SELECT + "WHERE l.lectureId = :lectureId")
+    Optional<LectureSearchSource> findSearchSource(@Param("lectureId") Long lectureId);
+
+    // 커서 페이지 조회 : (정렬 값, 강의 ID) 복합 인덱스를 따라 커서 다음 위치부터 limit 건만 읽음
+    // (정렬 값, 강의 ID) < (:key, :lectureId) 를 인덱스를 탈 수 있는 OR 형태로 풀어 씀
+    @Query(LIST_ITEM_SELECT +
+            "ORDER BY l.currentParticipants DESC, l.lectureId DESC")
+    List<LectureListItem> findFirstPageByPopular(Pageable limit);
+
+    @Query(LIST_ITEM_SELECT +
+            "WHERE l.currentParticipants < :key OR (l.currentParticipants = :key AND l.lectureId < :lectureId) " +
+            "ORDER BY l.currentParticipants DESC, l.lectureId DESC")
+    List<LectureListItem> findNextPageByPopular(@Param("key") Integer key, @Param("lectureId") Long lectureId, Pageable limit);
+
+    @Query(LIST_ITEM_SELECT +
+            "ORDER BY l.createdAt DESC, l.lectureId DESC")
+    List<LectureListItem> findFirstPageByRecent(Pageable limit);
+
+    @Query(LIST_ITEM_SELECT +
+            "WHERE l.createdAt < :key OR (l.createdAt = :key AND l.lectureId < :lectureId) " +
+            "ORDER BY l.createdAt DESC, l.lectureId DESC")
+    List<LectureListItem> findNextPageByRecent(@Param("key") LocalDateTime key, @Param("lectureId") Long lectureId, Pageable limit);
+
+    @Query(LIST_ITEM_SELECT +
+            "ORDER BY l.fillRate DESC, l.lectureId DESC")
+    List<LectureListItem> findFirstPageByRate(Pageable limit);
+
+    @Query(LIST_ITEM_SELECT +
+            "WHERE l.fillRate < :key OR (l.fillRate = :key AND l.lectureId < :lectureId) " +
+            "ORDER BY l.fillRate DESC, l.lectureId DESC")
+    List<LectureListItem> findNextPageByRate(@Param("key") Double key, @Param("lectureId") Long lectureId, Pageable limit);
+
+    // 목록 필터 집계용 : 가격, 신청률 인덱스 범위로 계산
+    long countByPriceLessThan(Integer price);
+
+    long countByPriceGreaterThanEqual(Integer price);
+
+    long countByPriceGreaterThanEqualAndPriceLessThan(Integer minPrice, Integer maxPrice);
+
+    long countByFillRateLessThan(Double fillRate);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE) // 비관적 쓰기 (읽기 잠금끼리는 서로 막지 않아 증가 전 확인이 겹칠 수 있음)
     @Query("SELECT l FROM Lecture l WHERE l.lectureId = :lectureId")
     Optional<Lecture> findByIdForUpdate(@Param("lectureId") Long lectureId);
 
+    // 정원이 남아 있을 때만 신청자 수를 1 증가 (갱신된 행 수 0 또는 1 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Lecture l SET l.fillRate = (l.currentParticipants + 1) * 1.0 / l.maxParticipants, " +
+            "l.currentParticipants = l.currentParticipants + 1, l.version = l.version + 1 " +
+            "WHERE l.lectureId = :lectureId AND l.currentParticipants < l.maxParticipants")
+    int claimSeat(@Param("lectureId") Long lectureId);
+
+    // 같은 트랜잭션에서 확보한 좌석 하나 반환
+    @Transactional
+    @Modifying
+    @Query("UPDATE Lecture l SET l.fillRate = (l.currentParticipants - 1) * 1.0 / l.maxParticipants, " +
+            "l.currentParticipants = l.currentParticipants - 1, l.version = l.version + 1 " +
+            "WHERE l.lectureId = :lectureId AND l.currentParticipants > 0")
+    int releaseSeat(@Param("lectureId") Long lectureId);
+
+    // 낙관적 방식 : 읽은 version이 그대로일 때만 신청자 수를 1 증가
+    @Transactional
+    @Modifying
+    @Query("UPDATE Lecture l SET l.fillRate = (l.currentParticipants + 1) * 1.0 / l.maxParticipants, " +
+            "l.currentParticipants = l.currentParticipants + 1, l.version = l.version + 1 " +
+            "WHERE l.lectureId = :lectureId AND l.version = :version AND l.currentParticipants < l.maxParticipants")
+    int claimSeatIfVersion(@Param("lectureId") Long lectureId, @Param("version") Long version);
+
+    // 신청률 컬럼이 비어 있는 기존 강의 채우기 (컬럼 추가 이전에 저장된 행)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Lecture l SET l.fillRate = l.currentParticipants * 1.0 / l.maxParticipants WHERE l.fillRate IS NULL")
+    int backfillFillRate();
+
+    // 영속성 컨텍스트를 거치지 않고 현재 신청자 수와 version 조회
+    @Query("SELECT l.currentParticipants AS currentParticipants, l.maxParticipants AS maxParticipants, l.version AS version " +
+            "FROM Lecture l WHERE l.lectureId = :lectureId")
+    Optional<LectureSeatVersion> findSeatVersion(@Param("lectureId") Long lectureId);
+
+    // 강의 ID와 제목, 좌석 슬롯 수만 조회 (강사 등 연관 엔티티를 불러오지 않음)
+    @Query("SELECT l.lectureId AS lectureId, l.title AS title, COALESCE(l.seatSlotCount, 0) AS seatSlotCount " +
+            "FROM Lecture l WHERE l.lectureId IN :lectureIds")
+    List<LectureTitle> findTitlesByLectureIdIn(@Param("lectureIds") Collection<Long> lectureIds);
+
+    // 강의의 좌석 슬롯 수 조회 (강의가 없으면 빈 값)
+    @Query("SELECT COALESCE(l.seatSlotCount, 0) FROM Lecture l WHERE l.lectureId = :lectureId")
+    Optional<Integer> findSeatSlotCount(@Param("lectureId") Long lectureId);
+
+    // 좌석 슬롯으로 나눠 관리하는 강의 ID 목록
+    @Query("SELECT l.lectureId FROM Lecture l WHERE l.seatSlotCount > 0")
+    List<Long> findSeatSlottedLectureIds();
+
+    // 강의별 정원과 실제 수강 신청 건수 (COUNT(*) 기준)
+    @Query("SELECT l.lectureId AS lectureId, l.maxParticipants AS maxParticipants, COUNT(e) AS enrolledCount " +
+            "FROM Lecture l LEFT JOIN Enrollment e ON e.lecture = l " +
+            "WHERE l.lectureId IN :lectureIds GROUP BY l.lectureId, l.maxParticipants")
+    List<LectureSeatCount> findSeatCountsByLectureIdIn(@Param("lectureIds") Collection<Long> lectureIds);
+
+    interface LectureListItem {
+        Long getLectureId();
+        String getTitle();
+        Integer getPrice();
+        String getInstructorName();
+        Integer getCurrentParticipants();
+        Integer getMaxParticipants();
+        Integer getSeatSlotCount();
+        LocalDateTime getCreatedAt();
+        Double getFillRate();
+    }
+
+    interface LectureParticipants {
+        Long getLectureId();
+        Integer getCurrentParticipants();
+        Integer getMaxParticipants();
+        Integer getSeatSlotCount();
+    }
+
+    interface LectureSearchSource {
+        Long getLectureId();
+        String getTitle();
+        String getInstructorName();
+        LocalDateTime getCreatedAt();
+        Integer getCurrentParticipants();
+        Integer getMaxParticipants();
+    }
+
+    interface LectureTitle {
+        Long getLectureId();
+        String getTitle();
+        Integer getSeatSlotCount();
+    }
+
+    interface LectureSeatVersion {
+        Integer getCurrentParticipants();
+        Integer getMaxParticipants();
+        Long getVersion();
+    }
 
+    interface LectureSeatCount {
+        Long getLectureId();
+        Integer getMaxParticipants();
+        Long getEnrolledCount();
+    }
 }
@@ -0,0 +1,42 @@
+package com.weolbu.assignment.repository;
+
+import com.weolbu.assignment.entity.LectureSeatSlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LectureSeatSlotRepository extends JpaRepository<LectureSeatSlot, Long> {
+
+    // 슬롯에 남은 좌석이 있을 때만 1 증가 (갱신된 행 수 0 또는 1 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE LectureSeatSlot s SET s.used = s.used + 1 " +
+            "WHERE s.lectureId = :lectureId AND s.slotNo = :slotNo AND s.used < s.capacity")
+    int claimOne(@Param("lectureId") Long lectureId, @Param("slotNo") Integer slotNo);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<LectureSeatSlot> findByLectureIdAndSlotNo(Long lectureId, Integer slotNo);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<LectureSeatSlot> findAllByLectureId(Long lectureId);
+
+    // 강의별 슬롯 사용 좌석 합계
+    @Query("SELECT s.lectureId AS lectureId, SUM(s.used) AS used FROM LectureSeatSlot s " +
+            "WHERE s.lectureId IN :lectureIds GROUP BY s.lectureId")
+    List<SlotUsage> sumUsedByLectureIds(@Param("lectureIds") Collection<Long> lectureIds);
+
+    interface SlotUsage {
+        Long getLectureId();
+        Long getUsed();
+    }
+}
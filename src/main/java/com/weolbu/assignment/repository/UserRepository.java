@@ -1,7 +1,12 @@
 package com.weolbu.assignment.repository;
 
+import com.weolbu.assignment.entity.Role;
 import com.weolbu.assignment.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +16,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    // 토큰 인증용 사용자 상태 : 엔티티 대신 역할 컬럼만 조회
+    @Query("SELECT u.role FROM User u WHERE u.userId = :userId")
+    Optional<Role> findRoleByUserId(@Param("userId") Long userId);
+
+    // 현재 해시가 읽었을 때와 같을 때만 교체 (동시에 바뀐 비밀번호를 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.userId = :userId AND u.password = :oldPassword")
+    int updatePassword(@Param("userId") Long userId, @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
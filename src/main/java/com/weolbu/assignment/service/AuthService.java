@@ -7,14 +7,16 @@ import com.weolbu.assignment.entity.User;
 import com.weolbu.assignment.exception.InvalidLoginCredentialException;
 import com.weolbu.assignment.exception.InvalidTokenException;
 import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.auth.AccessTokenDenylist;
+import com.weolbu.assignment.service.auth.AuthenticatedUser;
+import com.weolbu.assignment.service.auth.PasswordHasher;
 import com.weolbu.assignment.util.JwtUtil;
+import com.weolbu.assignment.util.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -25,9 +27,10 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
     private final StringRedisTemplate redisTemplate;
+    private final AccessTokenDenylist accessTokenDenylist;
 
 
 
@@ -50,16 +53,20 @@ public class AuthService {
         Optional<User> optionalUser = userRepository.findByEmail(request.getEmail());
 
         // 입력한 이메일로 가입한 사용자가 없거나, 이메일과 비밀번호가 일치하지 않을 때 동일한 메세지 반환
-        if (optionalUser.isEmpty() || !passwordEncoder.matches(request.getPassword(), optionalUser.get().getPassword())) {
+        if (optionalUser.isEmpty() || !passwordHasher.matches(request.getPassword(), optionalUser.get().getPassword())) {
             throw new InvalidLoginCredentialException("이메일 또는 비밀번호가 잘못되었습니다. 아이디와 비밀번호를 정확히 입력해 주세요.");
         }
 
-        return optionalUser.get();
+        // 해시 비용이 바뀌었으면 새 비용으로 다시 저장 (그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음)
+        User user = optionalUser.get();
+        passwordHasher.rehashIfNeeded(request.getPassword(), user.getPassword(),
+                rehashed -> userRepository.updatePassword(user.getUserId(), user.getPassword(), rehashed));
+        return user;
     }
 
     // Access Token 생성
     private String generateAccessToken(User user) {
-        return jwtUtil.generateAccessToken(user.getUserId(), user.getRole().name());
+        return jwtUtil.generateAccessToken(user.getUserId(), user.getRole().name(), user.getUserName());
     }
 
     // Refresh Token 생성
@@ -85,13 +92,14 @@ public class AuthService {
 
         Long userId = Long.valueOf(claims.getSubject()); // Subject에서 User ID 추출
         String role = claims.get("role", String.class);
+        String name = claims.get("name", String.class);
 
         // Redis에서 Refresh Token 확인 및 검증
         String refreshToken = getStoredRefreshToken(userId);
         jwtUtil.validateRefreshToken(refreshToken);
 
         // 새로운 Access Token 발급
-        return new AccessTokenReissueResponse(jwtUtil.generateAccessToken(userId, role));
+        return new AccessTokenReissueResponse(jwtUtil.generateAccessToken(userId, role, name));
     }
 
     // Redis에서 Refresh Token 가져오기
@@ -103,25 +111,15 @@ public class AuthService {
         return refreshToken;
     }
 
-    public UserDetails loadUserById(Long userId) {
+    public AuthenticatedUser loadUserById(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getPassword())
-                .roles(user.getRole().name())
-                .build();
+        return new AuthenticatedUser(user.getUserId(), user.getRole(), user.getUserName());
     }
 
-    // UserDetails에서 user 가져오기
-    public User getUserFromUserDetails(UserDetails userDetails) {
-        String email = userDetails.getUsername();
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
-        return user;
+    // 로그아웃 : Refresh Token을 지워 재발급을 막고, Access Token은 남은 유효 시간 동안 거부
+    public void logout(VerifiedToken accessToken) {
+        redisTemplate.delete(String.valueOf(accessToken.userId()));
+        accessTokenDenylist.revoke(accessToken);
     }
-
-
-    // todo : 로그아웃
 }
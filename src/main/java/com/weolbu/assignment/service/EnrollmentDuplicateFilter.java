@@ -0,0 +1,71 @@
+package com.weolbu.assignment.service;
+
+import com.weolbu.assignment.repository.EnrollmentJdbcRepository;
+import com.weolbu.assignment.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (강의, 학생) 수강 신청 여부를 메모리에서 먼저 걸러내는 블룸 필터.
+ * "신청한 적 없음"이 확실하면 중복 확인 쿼리를 건너뛰고, 그 외에는 DB에서 확인한다.
+ * 다른 인스턴스에서 저장된 신청은 모를 수 있으므로 최종 판단은 enrollments의 유니크 제약이 맡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnrollmentDuplicateFilter {
+
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Value("${enrollment.duplicate-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${enrollment.duplicate-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${enrollment.duplicate-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private BloomFilter filter;
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile boolean ready;
+
+    @PostConstruct
+    private void init() {
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    // 기존 수강 신청을 모두 적재한 뒤부터 필터를 사용 (적재 전에는 항상 DB에서 확인)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        enrollmentJdbcRepository.forEachLectureStudent(this::record);
+        ready = true;
+        log.info("수강 신청 중복 필터 적재 완료 : {}건", recorded.get());
+    }
+
+    // false면 신청한 적이 없는 것이 확실함
+    public boolean mightBeEnrolled(Long lectureId, Long studentId) {
+        return !enabled || !ready || filter.mightContain(key(lectureId, studentId));
+    }
+
+    public void record(Long lectureId, Long studentId) {
+        filter.put(key(lectureId, studentId));
+        if (recorded.incrementAndGet() == expectedInsertions) {
+            log.warn("수강 신청 중복 필터가 예상 건수({})에 도달해 오탐률이 높아집니다.", expectedInsertions);
+        }
+    }
+
+    private static long key(Long lectureId, Long studentId) {
+        return (lectureId << 32) ^ studentId;
+    }
+}
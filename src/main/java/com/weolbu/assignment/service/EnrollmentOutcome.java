@@ -0,0 +1,23 @@
+package com.weolbu.assignment.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 강의 하나에 대한 수강 신청 처리 결과
+@Getter
+@RequiredArgsConstructor
+public enum EnrollmentOutcome {
+    ENROLLED("강의 수강 신청 성공"),
+    ALREADY_ENROLLED("강의를 이미 수강 신청했습니다."),
+    CAPACITY_EXCEEDED("강의는 수강 정원을 초과했습니다."),
+    LECTURE_NOT_FOUND("강의를 찾을 수 없습니다."),
+    CONFLICT("강의는 신청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    ERROR("수강 신청 처리 중 오류가 발생했습니다.");
+
+    private final String message;
+
+    // 장바구니 결과 형식 : 강의 제목 뒤에 붙는 메시지 (성공 메시지만 띄어 쓰지 않음)
+    public String toCartMessage() {
+        return this == ENROLLED ? message : " " + message;
+    }
+}
@@ -1,21 +1,34 @@
 package com.weolbu.assignment.service;
 
-import com.weolbu.assignment.entity.Enrollment;
-import com.weolbu.assignment.entity.Lecture;
-import com.weolbu.assignment.entity.User;
 import com.weolbu.assignment.exception.AlreadyEnrolledException;
 import com.weolbu.assignment.exception.EnrollmentCapacityExceededException;
-import com.weolbu.assignment.exception.LectureNotFoundException;
+import com.weolbu.assignment.exception.EnrollmentConflictException;
+import com.weolbu.assignment.repository.EnrollmentJdbcRepository;
 import com.weolbu.assignment.repository.EnrollmentRepository;
 import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.concurrency.EnrollmentConcurrencyStrategy;
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import com.weolbu.assignment.service.seat.SeatGate;
+import com.weolbu.assignment.service.seat.SeatGateResult;
+import com.weolbu.assignment.service.seat.SeatSlotCounter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
@@ -23,86 +36,261 @@ public class EnrollmentService {
 
     private final LectureRepository lectureRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+    private final SeatGate seatGate;
+    private final SeatSlotCounter seatSlotCounter;
+    private final EnrollmentConcurrencyStrategy concurrencyStrategy;
+    private final EnrollmentDuplicateFilter duplicateFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
-    private final AuthService authService;
-
-    @Transactional
-    public Map<String, String> enrollInLectures(List<Long> lectureIds, UserDetails userDetails) {
-        User user = authService.getUserFromUserDetails(userDetails);
+    // 장바구니를 트랜잭션 하나에서 처리하고, 다른 신청과 충돌한 강의만 트랜잭션을 끝낸 뒤 대기했다가 새 트랜잭션에서 다시 처리
+    public Map<String, String> enrollInLectures(List<Long> lectureIds, Long studentId) {
         Map<String, String> enrollmentResults = new HashMap<>();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
-        for (Long lectureId : lectureIds) {
-            handleEnrollment(lectureId, user, enrollmentResults);
+        Set<Long> requestedIds = new LinkedHashSet<>(lectureIds);
+        Set<Long> conflictedIds = transactionTemplate.execute(status -> enrollOnce(requestedIds, studentId, enrollmentResults));
+        for (int attempt = 0; !conflictedIds.isEmpty() && concurrencyStrategy.awaitRetry(attempt); attempt++) {
+            Set<Long> retryIds = conflictedIds;
+            conflictedIds = transactionTemplate.execute(status -> enrollOnce(retryIds, studentId, enrollmentResults));
         }
-
         return enrollmentResults;
     }
 
-    private void handleEnrollment(Long lectureId, User user, Map<String, String> results) {
-        String lectureTitle = null;
-        try {
-            Lecture lecture = getLecture(lectureId);
-            lectureTitle = lecture.getTitle();
-            enrollInSingleLecture(lecture, user);
-            results.put(lectureTitle, "강의 수강 신청 성공");
-        } catch (LectureNotFoundException e) {
-            results.put(String.valueOf(lectureId), "번 강의를 찾을 수 없습니다.");
-        } catch (EnrollmentCapacityExceededException e) {
-            results.put(lectureTitle, " 강의는 수강 정원을 초과했습니다.");
-        } catch (AlreadyEnrolledException e) {
-            results.put(lectureTitle, " 강의를 이미 수강 신청했습니다.");
+    // 강의별 결과를 기록하고 충돌한 강의 ID 반환 (충돌한 강의의 결과는 다시 처리하면 덮어씀)
+    private Set<Long> enrollOnce(Set<Long> requestedIds, Long studentId, Map<String, String> enrollmentResults) {
+        // 신청 강의 조회와 중복 신청 확인을 각각 쿼리 한 번으로 처리 (중복 필터가 신청한 적 없다고 확인한 강의는 제외)
+        Map<Long, LectureRepository.LectureTitle> lectures = findLectureTitles(requestedIds);
+        Set<Long> enrolledIds = findEnrolledLectureIds(studentId, lectures.keySet());
+
+        List<Long> candidateIds = new ArrayList<>();
+        Map<Long, SeatHold> seatHolds = new HashMap<>();
+        for (Long lectureId : requestedIds) {
+            LectureRepository.LectureTitle lecture = lectures.get(lectureId);
+            if (lecture == null) {
+                enrollmentResults.put(String.valueOf(lectureId), "번 강의를 찾을 수 없습니다.");
+                continue;
+            }
+            String lectureTitle = lecture.getTitle();
+            if (enrolledIds.contains(lectureId)) {
+                enrollmentResults.put(lectureTitle, " 강의를 이미 수강 신청했습니다.");
+                continue;
+            }
+            try {
+                SeatHold seatHold = passSeatGate(lectureId, lectureTitle, studentId);
+                if (seatHold != null) {
+                    seatHolds.put(lectureId, seatHold);
+                }
+                candidateIds.add(lectureId);
+            } catch (EnrollmentCapacityExceededException e) {
+                enrollmentResults.put(lectureTitle, " 강의는 수강 정원을 초과했습니다.");
+            } catch (AlreadyEnrolledException e) {
+                enrollmentResults.put(lectureTitle, " 강의를 이미 수강 신청했습니다.");
+            }
+        }
+
+        // 좌석 확보와 수강 신청 저장을 각각 배치 한 번으로 처리
+        Set<Long> conflictedIds = new LinkedHashSet<>();
+        List<Long> claimedIds = claimSeats(candidateIds, lectures, seatHolds, conflictedIds);
+        Set<Long> duplicateIds = claimedIds.isEmpty() ? Set.of() : insertEnrollments(claimedIds, studentId);
+        // 동시에 들어온 같은 강의 신청이 먼저 저장된 강의만 이미 신청한 것으로 처리하고 확보한 좌석 반환
+        duplicateIds.forEach(lectureId -> releaseSeat(lectures.get(lectureId), seatHolds.get(lectureId)));
+
+        for (Long lectureId : candidateIds) {
+            String lectureTitle = lectures.get(lectureId).getTitle();
+            if (duplicateIds.contains(lectureId)) {
+                enrollmentResults.put(lectureTitle, " 강의를 이미 수강 신청했습니다.");
+            } else if (claimedIds.contains(lectureId)) {
+                enrollmentResults.put(lectureTitle, "강의 수강 신청 성공");
+            } else if (conflictedIds.contains(lectureId)) {
+                enrollmentResults.put(lectureTitle, EnrollmentOutcome.CONFLICT.toCartMessage());
+            } else {
+                enrollmentResults.put(lectureTitle, " 강의는 수강 정원을 초과했습니다.");
+            }
         }
+
+        return conflictedIds;
     }
 
-    // 강의 조회
-    private Lecture getLecture(Long lectureId) {
-        return lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new LectureNotFoundException("존재하지 않는 강의입니다."));
+    // 강의 제목 일괄 조회 (IN 쿼리)
+    private Map<Long, LectureRepository.LectureTitle> findLectureTitles(Set<Long> lectureIds) {
+        if (lectureIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, LectureRepository.LectureTitle> lectures = new HashMap<>();
+        for (LectureRepository.LectureTitle lecture : lectureRepository.findTitlesByLectureIdIn(lectureIds)) {
+            lectures.put(lecture.getLectureId(), lecture);
+        }
+        return lectures;
     }
 
-    // 단일 강의 수강 신청
-    @Transactional
-    public void enrollInSingleLecture(Lecture lecture, User user) {
-        validateEnrollmentCapacity(lecture);
-        validateDuplicateEnrollment(lecture, user);
+    // 이미 신청한 강의 일괄 조회
+    private Set<Long> findEnrolledLectureIds(Long studentId, Set<Long> lectureIds) {
+        List<Long> suspectedIds = lectureIds.stream()
+                .filter(lectureId -> duplicateFilter.mightBeEnrolled(lectureId, studentId))
+                .toList();
+        if (suspectedIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(enrollmentRepository.findEnrolledLectureIds(studentId, suspectedIds));
+    }
 
-        saveEnrollment(lecture, user);
-        incrementLectureParticipants(lecture);
+    // 수강 신청 정보 배치 저장 : 동시에 들어온 중복 신청으로 이미 저장된 강의는 건너뛰고 그 강의 ID 반환
+    private Set<Long> insertEnrollments(List<Long> lectureIds, Long studentId) {
+        Set<Long> duplicateIds = enrollmentJdbcRepository.insertEnrollments(lectureIds, studentId);
+        lectureIds.forEach(lectureId -> {
+            duplicateFilter.record(lectureId, studentId);
+            if (!duplicateIds.contains(lectureId)) {
+                eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lectureId, 1));
+            }
+        });
+        return duplicateIds;
     }
 
-   // 비관적 잠금을 이용해 강의 조회
-    private Lecture getLectureWithReadLock(Long lectureId) {
-        return lectureRepository.findByIdForUpdate(lectureId)
-                .orElseThrow(() -> new LectureNotFoundException("강의를 찾을 수 없습니다. ID: " + lectureId));
+    // 확보한 좌석 반환 (이 신청이 게이트에서 확보한 좌석도 함께 반환)
+    private void releaseSeat(LectureRepository.LectureTitle lecture, SeatHold seatHold) {
+        if (lecture.getSeatSlotCount() > 0) {
+            seatSlotCounter.release(lecture.getLectureId(), lecture.getSeatSlotCount(), 1);
+        } else {
+            concurrencyStrategy.releaseSeat(lecture.getLectureId());
+        }
+        if (seatHold != null) {
+            seatHold.release();
+        }
+    }
+
+    // 좌석 일괄 확보 : 정원이 찼거나 충돌한 강의는 게이트에서 확보한 좌석을 바로 반환
+    private List<Long> claimSeats(List<Long> lectureIds, Map<Long, LectureRepository.LectureTitle> lectures,
+                                  Map<Long, SeatHold> seatHolds, Set<Long> conflictedIds) {
+        if (lectureIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 좌석 슬롯으로 나눈 인기 강의는 슬롯에서, 나머지는 강의 row에서 배치로 확보
+        List<Long> rowLectureIds = new ArrayList<>();
+        Set<Long> claimedSet = new HashSet<>();
+        for (Long lectureId : lectureIds) {
+            int seatSlotCount = lectures.get(lectureId).getSeatSlotCount();
+            if (seatSlotCount == 0) {
+                rowLectureIds.add(lectureId);
+            } else if (seatSlotCounter.claim(lectureId, seatSlotCount, 1) == 1) {
+                claimedSet.add(lectureId);
+            }
+        }
+        if (!rowLectureIds.isEmpty()) {
+            int[] updatedRows = concurrencyStrategy.claimSeats(rowLectureIds);
+            for (int i = 0; i < rowLectureIds.size(); i++) {
+                if (updatedRows[i] == 1) {
+                    claimedSet.add(rowLectureIds.get(i));
+                } else if (updatedRows[i] == EnrollmentConcurrencyStrategy.CONFLICT) {
+                    conflictedIds.add(rowLectureIds.get(i));
+                }
+            }
+        }
+
+        List<Long> claimedIds = new ArrayList<>();
+        for (Long lectureId : lectureIds) {
+            if (claimedSet.contains(lectureId)) {
+                claimedIds.add(lectureId);
+            } else if (seatHolds.containsKey(lectureId)) {
+                seatHolds.get(lectureId).release();
+            }
+        }
+        return claimedIds;
     }
 
-    // 강의 최대 수강 인원 확인
-    private void validateEnrollmentCapacity(Lecture lecture) {
-        if (!lecture.canEnroll()) {
-            throw new EnrollmentCapacityExceededException(lecture.getTitle() + "강의의 최대 수강 인원을 초과했습니다.");
+    // 강의 하나를 독립된 짧은 트랜잭션으로 수강 신청 (장바구니 병렬 처리용)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public EnrollmentOutcome enrollInLecture(LectureRepository.LectureTitle lecture, Long studentId) {
+        Long lectureId = lecture.getLectureId();
+        if (!findEnrolledLectureIds(studentId, Set.of(lectureId)).isEmpty()) {
+            return EnrollmentOutcome.ALREADY_ENROLLED;
+        }
+
+        SeatHold seatHold;
+        try {
+            seatHold = passSeatGate(lectureId, lecture.getTitle(), studentId);
+        } catch (EnrollmentCapacityExceededException e) {
+            return EnrollmentOutcome.CAPACITY_EXCEEDED;
+        } catch (AlreadyEnrolledException e) {
+            return EnrollmentOutcome.ALREADY_ENROLLED;
+        }
+
+        EnrollmentOutcome claimFailure = null;
+        try {
+            boolean claimed = lecture.getSeatSlotCount() > 0
+                    ? seatSlotCounter.claim(lectureId, lecture.getSeatSlotCount(), 1) == 1
+                    : concurrencyStrategy.claimSeat(lectureId);
+            if (!claimed) {
+                claimFailure = EnrollmentOutcome.CAPACITY_EXCEEDED;
+            }
+        } catch (EnrollmentConflictException e) {
+            // 대기와 재시도는 트랜잭션이 끝난 뒤 호출하는 쪽에서 처리
+            claimFailure = EnrollmentOutcome.CONFLICT;
         }
+        if (claimFailure != null) {
+            if (seatHold != null) {
+                seatHold.release();
+            }
+            return claimFailure;
+        }
+
+        if (!insertEnrollments(List.of(lectureId), studentId).isEmpty()) {
+            releaseSeat(lecture, seatHold);
+            return EnrollmentOutcome.ALREADY_ENROLLED;
+        }
+        return EnrollmentOutcome.ENROLLED;
     }
 
-    // 중복 수강 신청 확인
-    private void validateDuplicateEnrollment(Lecture lecture, User user) {
-        boolean alreadyEnrolled = enrollmentRepository.existsByLectureAndStudent(lecture, user);
-        if (alreadyEnrolled) {
-            throw new AlreadyEnrolledException("이미 수강 신청한 강의입니다: " + lecture.getTitle());
+    // 좌석 게이트 확인 : 정원 초과, 중복 신청은 강의 row를 갱신하기 전에 거절 (게이트가 추적하지 않는 강의는 null 반환)
+    private SeatHold passSeatGate(Long lectureId, String lectureTitle, Long studentId) {
+        SeatGateResult result = seatGate.tryAcquire(lectureId, studentId);
+        if (result == SeatGateResult.SOLD_OUT) {
+            throw new EnrollmentCapacityExceededException(lectureTitle + "강의의 최대 수강 인원을 초과했습니다.");
         }
+        if (result == SeatGateResult.ALREADY_ENROLLED) {
+            throw new AlreadyEnrolledException("이미 수강 신청한 강의입니다: " + lectureTitle);
+        }
+        if (result == SeatGateResult.ADMITTED) {
+            SeatHold seatHold = new SeatHold(lectureId, studentId);
+            releaseSeatGateOnRollback(seatHold);
+            return seatHold;
+        }
+        return null;
     }
 
-    // 수강 신청 정보 저장
-    private void saveEnrollment(Lecture lecture, User user) {
-        Enrollment enrollment = Enrollment.builder()
-                .lecture(lecture)
-                .student(user)
-                .build();
-        enrollmentRepository.save(enrollment);
+    // 트랜잭션이 롤백되면 게이트에서 확보한 좌석 반환
+    private void releaseSeatGateOnRollback(SeatHold seatHold) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    seatHold.release();
+                }
+            }
+        });
     }
 
-    // 강의 신청자 수 증가
-    private void incrementLectureParticipants(Lecture lecture) {
-        lecture.incrementParticipants();
-        lectureRepository.save(lecture);
+    // 게이트에서 확보한 좌석 : 정원 초과로 바로 반환한 뒤 롤백되어도 한 번만 반환
+    private final class SeatHold {
+
+        private final Long lectureId;
+        private final Long studentId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private SeatHold(Long lectureId, Long studentId) {
+            this.lectureId = lectureId;
+            this.studentId = studentId;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                seatGate.release(lectureId, studentId);
+            }
+        }
     }
-}
\ No newline at end of file
+}
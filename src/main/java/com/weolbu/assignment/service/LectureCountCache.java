@@ -0,0 +1,56 @@
+package com.weolbu.assignment.service;
+
+import com.weolbu.assignment.repository.LectureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 강의 목록 조회에 사용하는 전체 강의 수 캐시.
+ * 목록을 조회할 때마다 COUNT(*)로 테이블 전체를 읽지 않도록 강의 생성 시 증가시키고,
+ * 다른 인스턴스에서 생성되거나 삭제된 강의는 주기적인 재계산으로 반영한다 (근사값).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureCountCache {
+
+    private final LectureRepository lectureRepository;
+    private final AtomicLong count = new AtomicLong();
+
+    public long approximateCount() {
+        return count.get();
+    }
+
+    // 강의 생성 트랜잭션이 커밋된 뒤 증가 (트랜잭션 밖이면 바로 증가)
+    public void increment() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            count.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                count.incrementAndGet();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${lecture.count-cache.refresh-interval:60000}",
+            initialDelayString = "${lecture.count-cache.refresh-interval:60000}")
+    public void refresh() {
+        try {
+            count.set(lectureRepository.count());
+        } catch (RuntimeException e) {
+            log.warn("전체 강의 수 재계산에 실패했습니다. 이전 값을 유지합니다.", e);
+        }
+    }
+}
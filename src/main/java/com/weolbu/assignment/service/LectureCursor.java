@@ -0,0 +1,82 @@
+package com.weolbu.assignment.service;
+
+import com.weolbu.assignment.repository.LectureRepository.LectureListItem;
+import com.weolbu.assignment.exception.InvalidCursorException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 페이지 조회의 위치 : 정렬 기준, 마지막으로 내려준 강의의 정렬 값과 강의 ID.
+ * 정렬 값은 조회 시점의 값을 그대로 담기 때문에, 이후 신청자 수가 바뀌어도 다음 페이지의 시작 위치는 움직이지 않는다.
+ * 클라이언트에는 "sort|key|lectureId"를 Base64(URL-safe)로 인코딩한 불투명한 문자열로 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class LectureCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String sort;
+    private final String key;
+    private final Long lectureId;
+
+    // 페이지의 마지막 강의로 다음 커서 생성
+    public static LectureCursor after(String sort, LectureListItem lecture) {
+        return new LectureCursor(sort, sortKey(sort, lecture), lecture.getLectureId());
+    }
+
+    public static LectureCursor decode(String cursor, String sort) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + DELIMITER, -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+        if (parts.length != 3 || !parts[0].equals(sort)) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+
+        LectureCursor decoded;
+        try {
+            decoded = new LectureCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+            // 정렬 값 형식 미리 확인
+            switch (sort) {
+                case "recent" -> decoded.createdAtKey();
+                case "rate" -> decoded.fillRateKey();
+                default -> decoded.participantsKey();
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+        return decoded;
+    }
+
+    public String encode() {
+        String raw = sort + DELIMITER + key + DELIMITER + lectureId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Integer participantsKey() {
+        return Integer.valueOf(key);
+    }
+
+    public LocalDateTime createdAtKey() {
+        return LocalDateTime.parse(key);
+    }
+
+    public Double fillRateKey() {
+        return Double.valueOf(key);
+    }
+
+    private static String sortKey(String sort, LectureListItem lecture) {
+        return switch (sort) {
+            case "recent" -> lecture.getCreatedAt().toString();
+            case "rate" -> lecture.getFillRate().toString();
+            default -> lecture.getCurrentParticipants().toString();
+        };
+    }
+}
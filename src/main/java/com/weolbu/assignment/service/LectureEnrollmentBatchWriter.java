@@ -0,0 +1,131 @@
+package com.weolbu.assignment.service;
+
+import com.weolbu.assignment.repository.EnrollmentJdbcRepository;
+import com.weolbu.assignment.repository.EnrollmentRepository;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import com.weolbu.assignment.service.seat.SeatSlotCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 한 강의에 대한 여러 학생의 수강 신청을 트랜잭션 하나로 반영.
+ * 강의 row를 한 번만 잠그고 신청자 수를 k만큼 한 번에 증가시킨 뒤, 수강 신청 정보를 배치로 저장한다.
+ * 정원이 모자라면 먼저 들어온 순서대로 좌석을 배정한다.
+ * 좌석 슬롯으로 나눈 인기 강의는 강의 row 대신 슬롯에서 좌석을 확보한다.
+ * 확인 이후 다른 요청이 먼저 저장한 학생은 그 학생만 이미 신청한 것으로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LectureEnrollmentBatchWriter {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+    private final LectureRepository lectureRepository;
+    private final SeatSlotCounter seatSlotCounter;
+    private final EnrollmentDuplicateFilter duplicateFilter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 입력 순서와 같은 순서로 학생별 처리 결과 반환
+    @Transactional
+    public List<EnrollmentOutcome> enroll(Long lectureId, List<Long> studentIds) {
+        Optional<Integer> seatSlotCount = lectureRepository.findSeatSlotCount(lectureId);
+        if (seatSlotCount.isEmpty()) {
+            return Collections.nCopies(studentIds.size(), EnrollmentOutcome.LECTURE_NOT_FOUND);
+        }
+        if (seatSlotCount.get() > 0) {
+            return enrollWithSeatSlots(lectureId, seatSlotCount.get(), studentIds);
+        }
+
+        Optional<Integer> remainingSeats = enrollmentJdbcRepository.lockRemainingSeats(lectureId);
+        if (remainingSeats.isEmpty()) {
+            return Collections.nCopies(studentIds.size(), EnrollmentOutcome.LECTURE_NOT_FOUND);
+        }
+
+        Set<Long> enrolledIds = findEnrolledStudentIds(lectureId, studentIds);
+        List<Long> acceptedIds = new ArrayList<>();
+        List<EnrollmentOutcome> outcomes = assignSeats(studentIds, enrolledIds, remainingSeats.get(), acceptedIds);
+
+        if (!acceptedIds.isEmpty()) {
+            Set<Long> duplicateIds = insertEnrollments(lectureId, studentIds, acceptedIds, outcomes);
+            int inserted = acceptedIds.size() - duplicateIds.size();
+            if (inserted > 0) {
+                enrollmentJdbcRepository.addParticipants(lectureId, inserted);
+            }
+        }
+        return outcomes;
+    }
+
+    // 인기 강의 : 신규 신청자 수만큼 슬롯에서 좌석을 확보한 뒤 확보한 만큼 순서대로 배정
+    private List<EnrollmentOutcome> enrollWithSeatSlots(Long lectureId, int seatSlotCount, List<Long> studentIds) {
+        Set<Long> enrolledIds = findEnrolledStudentIds(lectureId, studentIds);
+        long newStudents = studentIds.stream().filter(id -> !enrolledIds.contains(id)).distinct().count();
+        int claimedSeats = newStudents == 0 ? 0 : seatSlotCounter.claim(lectureId, seatSlotCount, (int) newStudents);
+
+        List<Long> acceptedIds = new ArrayList<>();
+        List<EnrollmentOutcome> outcomes = assignSeats(studentIds, enrolledIds, claimedSeats, acceptedIds);
+
+        if (!acceptedIds.isEmpty()) {
+            Set<Long> duplicateIds = insertEnrollments(lectureId, studentIds, acceptedIds, outcomes);
+            if (!duplicateIds.isEmpty()) {
+                seatSlotCounter.release(lectureId, seatSlotCount, duplicateIds.size());
+            }
+        }
+        return outcomes;
+    }
+
+    // 중복 필터가 신청한 적 없다고 확인한 학생은 조회에서 제외
+    private Set<Long> findEnrolledStudentIds(Long lectureId, List<Long> studentIds) {
+        List<Long> suspectedIds = studentIds.stream()
+                .filter(studentId -> duplicateFilter.mightBeEnrolled(lectureId, studentId))
+                .distinct()
+                .toList();
+        if (suspectedIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(enrollmentRepository.findEnrolledStudentIds(lectureId, suspectedIds));
+    }
+
+    // 배정된 학생 저장 : 그 사이 다른 요청이 먼저 저장한 학생은 이미 신청한 것으로 바꾸고 그 학생 ID 반환
+    private Set<Long> insertEnrollments(Long lectureId, List<Long> studentIds, List<Long> acceptedIds,
+                                        List<EnrollmentOutcome> outcomes) {
+        Set<Long> duplicateIds = enrollmentJdbcRepository.insertLectureEnrollments(lectureId, acceptedIds);
+        acceptedIds.forEach(studentId -> duplicateFilter.record(lectureId, studentId));
+        if (duplicateIds.size() < acceptedIds.size()) {
+            eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lectureId, acceptedIds.size() - duplicateIds.size()));
+        }
+        for (int i = 0; i < studentIds.size(); i++) {
+            if (outcomes.get(i) == EnrollmentOutcome.ENROLLED && duplicateIds.contains(studentIds.get(i))) {
+                outcomes.set(i, EnrollmentOutcome.ALREADY_ENROLLED);
+            }
+        }
+        return duplicateIds;
+    }
+
+    // 확보 가능한 좌석 수 안에서 먼저 들어온 순서대로 배정 (배정된 학생은 acceptedIds에 추가)
+    private List<EnrollmentOutcome> assignSeats(List<Long> studentIds, Set<Long> enrolledIds,
+                                                int seats, List<Long> acceptedIds) {
+        List<EnrollmentOutcome> outcomes = new ArrayList<>(studentIds.size());
+        for (Long studentId : studentIds) {
+            if (enrolledIds.contains(studentId)) {
+                outcomes.add(EnrollmentOutcome.ALREADY_ENROLLED);
+            } else if (acceptedIds.size() >= seats) {
+                outcomes.add(EnrollmentOutcome.CAPACITY_EXCEEDED);
+            } else {
+                enrolledIds.add(studentId);
+                acceptedIds.add(studentId);
+                outcomes.add(EnrollmentOutcome.ENROLLED);
+            }
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,101 @@
+package com.weolbu.assignment.service;
+
+import com.weolbu.assignment.dto.LectureFacetResponse;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.event.LectureCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 강의 목록 필터의 집계 값(가격 구간별 강의 수, 정원이 남은 강의 수) 캐시.
+ * 요청마다 GROUP BY로 집계하지 않고 주기적으로 가격, 신청률 인덱스 범위 COUNT로 다시 계산하며,
+ * 그 사이 개설된 강의는 커밋 이벤트로 더한다. 마감된 강의는 다음 재계산에 반영된다 (근사값).
+ */
+@Slf4j
+@Component
+public class LectureFacetCache {
+
+    private final LectureRepository lectureRepository;
+    private final int[] priceBounds;
+    private final AtomicLongArray priceCounts;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong availableCount = new AtomicLong();
+
+    public LectureFacetCache(LectureRepository lectureRepository,
+                             @Value("${lecture.facets.price-bounds:10000,30000,50000,100000}") int[] priceBounds) {
+        this.lectureRepository = lectureRepository;
+        this.priceBounds = Arrays.stream(priceBounds).sorted().distinct().toArray();
+        this.priceCounts = new AtomicLongArray(this.priceBounds.length + 1);
+    }
+
+    public LectureFacetResponse facets() {
+        List<LectureFacetResponse.PriceBucket> buckets = new ArrayList<>();
+        for (int i = 0; i <= priceBounds.length; i++) {
+            buckets.add(LectureFacetResponse.PriceBucket.builder()
+                    .minPrice(i == 0 ? 0 : priceBounds[i - 1])
+                    .maxPrice(i == priceBounds.length ? null : priceBounds[i])
+                    .count(priceCounts.get(i))
+                    .build());
+        }
+        return LectureFacetResponse.builder()
+                .totalCount(totalCount.get())
+                .availableCount(availableCount.get())
+                .priceBuckets(buckets)
+                .build();
+    }
+
+    // 새 강의는 신청자가 없으므로 정원이 남은 강의로 셈
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLectureCreated(LectureCreatedEvent event) {
+        priceCounts.incrementAndGet(bucketOf(event.getPrice()));
+        totalCount.incrementAndGet();
+        if (event.getMaxParticipants() > 0) {
+            availableCount.incrementAndGet();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${lecture.facets.refresh-interval:60000}",
+            initialDelayString = "${lecture.facets.refresh-interval:60000}")
+    public void refresh() {
+        try {
+            for (int i = 0; i <= priceBounds.length; i++) {
+                priceCounts.set(i, countPriceBucket(i));
+            }
+            totalCount.set(lectureRepository.count());
+            availableCount.set(lectureRepository.countByFillRateLessThan(1.0));
+        } catch (RuntimeException e) {
+            log.warn("강의 필터 집계 재계산에 실패했습니다. 이전 값을 유지합니다.", e);
+        }
+    }
+
+    private long countPriceBucket(int bucket) {
+        if (bucket == 0) {
+            return lectureRepository.countByPriceLessThan(priceBounds.length == 0 ? Integer.MAX_VALUE : priceBounds[0]);
+        }
+        if (bucket == priceBounds.length) {
+            return lectureRepository.countByPriceGreaterThanEqual(priceBounds[bucket - 1]);
+        }
+        return lectureRepository.countByPriceGreaterThanEqualAndPriceLessThan(priceBounds[bucket - 1], priceBounds[bucket]);
+    }
+
+    private int bucketOf(int price) {
+        int bucket = 0;
+        while (bucket < priceBounds.length && price >= priceBounds[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+}
@@ -1,41 +1,102 @@
 package com.weolbu.assignment.service;
 
 import com.weolbu.assignment.dto.LectureCreateRequest;
+import com.weolbu.assignment.dto.LectureCursorPageResponse;
 import com.weolbu.assignment.dto.LectureSearchResponse;
 import com.weolbu.assignment.entity.Lecture;
 import com.weolbu.assignment.entity.Role;
 import com.weolbu.assignment.entity.User;
 import com.weolbu.assignment.exception.InstructorRoleRequiredException;
+import com.weolbu.assignment.exception.InvalidLectureFilterException;
+import com.weolbu.assignment.exception.InvalidSearchQueryException;
+import com.weolbu.assignment.exception.SearchUnavailableException;
+import com.weolbu.assignment.repository.LectureFilter;
 import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.LectureRepository.LectureListItem;
+import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.auth.AuthenticatedUser;
+import com.weolbu.assignment.service.event.LectureCreatedEvent;
+import com.weolbu.assignment.service.leaderboard.LectureLeaderboard;
+import com.weolbu.assignment.service.leaderboard.LectureLeaderboard.RankedPage;
+import com.weolbu.assignment.service.search.LectureSearchIndex;
+import com.weolbu.assignment.service.search.LectureSearchIndex.SearchHits;
+import com.weolbu.assignment.service.seat.SeatGate;
+import com.weolbu.assignment.service.seat.SeatSlotCounter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.*;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class LectureService {
 
-    private final AuthService authService;
+    // 한 페이지에 내려줄 수 있는 최대 강의 수 (offset, 커서 방식 공통)
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
     private final LectureRepository lectureRepository;
+    private final SeatGate seatGate;
+    private final SeatSlotCounter seatSlotCounter;
+    private final LectureCountCache lectureCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LectureLeaderboard leaderboard;
+    private final LectureSearchIndex searchIndex;
 
-    public void createLecture(UserDetails userDetails, LectureCreateRequest lectureRequest) {
-        // 인증된 사용자 정보를 통해 User 엔티티 가져오기
-        User instructor = authService.getUserFromUserDetails(userDetails);
+    @Transactional
+    public void createLecture(AuthenticatedUser user, LectureCreateRequest lectureRequest) {
+        // 강사인지 확인 (인증 시 확인한 현재 역할 사용)
+        validateInstructorRole(user);
 
-        // 강사인지 확인
-        validateInstructorRole(instructor);
+        // 외래 키만 필요하므로 사용자를 조회하지 않고 프록시로 연결
+        User instructor = userRepository.getReferenceById(user.getUserId());
 
         // 강의 생성 및 저장
         Lecture lecture = buildLecture(lectureRequest, instructor);
         lectureRepository.save(lecture);
+
+        // 인기 강의는 정원을 좌석 슬롯으로 나눔
+        if (lecture.hasSeatSlots()) {
+            seatSlotCounter.createSlots(lecture.getLectureId(), lecture.getMaxParticipants(), lecture.getSeatSlotCount());
+        }
+
+        lectureCountCache.increment();
+        eventPublisher.publishEvent(new LectureCreatedEvent(lecture.getLectureId(), lecture.getMaxParticipants(), lecture.getPrice()));
+
+        // 좌석 게이트에 새 강의 등록
+        registerSeatGateAfterCommit(lecture);
+    }
+
+    // 강의 생성 트랜잭션이 커밋된 뒤 좌석 게이트에 등록 (트랜잭션 밖이면 바로 등록)
+    // 롤백되면 존재하지 않는 강의의 좌석 키가 게이트에 남지 않음
+    private void registerSeatGateAfterCommit(Lecture lecture) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            seatGate.register(lecture.getLectureId(), lecture.getMaxParticipants(), List.of());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatGate.register(lecture.getLectureId(), lecture.getMaxParticipants(), List.of());
+            }
+        });
     }
 
     // 강사인 지 확인
-    private void validateInstructorRole(User user) {
-        if (!user.getRole().equals(Role.INSTRUCTOR)) {
+    private void validateInstructorRole(AuthenticatedUser user) {
+        if (user.getRole() != Role.INSTRUCTOR) {
             throw new InstructorRoleRequiredException("강사만 강의를 등록할 수 있습니다.");
         }
     }
@@ -47,62 +108,220 @@ public class LectureService {
                 .maxParticipants(lectureRequest.getMaxParticipants())
                 .currentParticipants(0)
                 .price(lectureRequest.getPrice())
+                .seatSlotCount(lectureRequest.getSeatSlotCount() == null ? 0 : lectureRequest.getSeatSlotCount())
                 .instructor(instructor)
                 .build();
     }
 
     // 강의 조회 기능
+    // exactTotal이 false이면 COUNT 쿼리 없이 Slice로 조회하고 전체 건수는 캐시된 근사값 사용
+    // 엔티티 대신 프로젝션으로 읽으므로 읽기 전용 트랜잭션에서 변경 감지용 스냅샷을 만들지 않음
+    @Transactional(readOnly = true)
+    public Page<LectureSearchResponse> getLectures(Pageable pageable, String sort, boolean exactTotal) {
+        return getLectures(pageable, sort, exactTotal, LectureFilter.NONE);
+    }
+
+    // 필터 조건이 있으면 순위, 전체 강의 수 캐시를 쓰지 않고 조건에 맞는 인덱스로 조회
+    // (exactTotal이 false이면 totalElements는 현재 페이지까지 확인한 건수 기준 하한값)
+    @Transactional(readOnly = true)
+    public Page<LectureSearchResponse> getLectures(Pageable pageable, String sort, boolean exactTotal, LectureFilter filter) {
+        PageRequest pageRequest = listingPageRequest(pageable, sort);
+        if (!filter.isEmpty()) {
+            return getFilteredLectures(pageRequest, exactTotal, filter);
+        }
+
+        // 신청자 많은 순, 신청률 순은 순위 구간으로 강의 ID를 정하고 해당 강의만 조회
+        String sortKey = normalizeSort(sort);
+        if (!exactTotal && !"recent".equals(sortKey)) {
+            Optional<RankedPage> ranked = leaderboard.findPage(sortKey, pageRequest.getOffset(), pageRequest.getPageSize());
+            if (ranked.isPresent()) {
+                return getRankedLectures(ranked.get().lectureIds(), ranked.get().total(), pageRequest);
+            }
+        }
 
+        if (exactTotal) {
+            Page<LectureListItem> lectures = lectureRepository.findListItemPage(pageRequest);
+            Map<Long, Integer> slotUsedSeats = findSlotUsedSeats(lectures.getContent());
+            return lectures.map(lecture -> convertToDto(lecture, slotUsedSeats));
+        }
+
+        Slice<LectureListItem> lectures = lectureRepository.findListItemSlice(pageRequest);
+        Map<Long, Integer> slotUsedSeats = findSlotUsedSeats(lectures.getContent());
+        List<LectureSearchResponse> content = lectures.getContent().stream()
+                .map(lecture -> convertToDto(lecture, slotUsedSeats))
+                .toList();
+        return new PageImpl<>(content, pageRequest, approximateTotal(lectures));
+    }
 
-    public Page<LectureSearchResponse> getLectures(Pageable pageable, String sort) {
-        if ("rate".equals(sort)) {
-            // 신청률 정렬만 JPQL을 사용하기 때문에 따로 처리
-            return getLecturesSortedByRate(pageable);
+    // 강의 검색 : 검색 색인으로 강의 ID 페이지를 정하고 해당 강의만 조회 (정렬 기준 relevance, popular, recent, rate)
+    @Transactional(readOnly = true)
+    public Page<LectureSearchResponse> searchLectures(String query, Pageable pageable, String sort) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidSearchQueryException("검색어를 입력해 주세요.");
         }
+        if (query.length() > LectureSearchIndex.MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException("검색어는 " + LectureSearchIndex.MAX_QUERY_LENGTH + "자 이하로 입력해 주세요.");
+        }
+        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), limitPageSize(pageable.getPageSize()));
+        String sortKey = "relevance".equals(sort) ? sort : normalizeSort(sort);
 
-        // 나머지 정렬
-        Sort sorting = getSortByCriteria(sort);
-        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sorting);
-        return lectureRepository.findAll(pageRequest).map(this::convertToDto);
+        SearchHits hits = searchIndex.search(query, sortKey, pageRequest.getOffset(), pageRequest.getPageSize())
+                .orElseThrow(() -> new SearchUnavailableException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해 주세요."));
+        return getRankedLectures(hits.lectureIds(), hits.total(), pageRequest);
     }
 
-    // 신청률 정렬
-    private Page<LectureSearchResponse> getLecturesSortedByRate(Pageable pageable) {
-        List<Lecture> allLecturesSortedByRate = lectureRepository.findAllOrderByRate(Pageable.unpaged());
-        int totalElements = allLecturesSortedByRate.size();
+    // 강의 ID로 강의 조회 (좌석 스트림의 처음 신청자 수, 없는 강의는 제외)
+    @Transactional(readOnly = true)
+    public List<LectureSearchResponse> getLecturesByIds(Collection<Long> lectureIds) {
+        List<LectureListItem> lectures = lectureRepository.findListItemsByLectureIdIn(lectureIds);
+        Map<Long, Integer> slotUsedSeats = findSlotUsedSeats(lectures);
+        return lectures.stream().map(lecture -> convertToDto(lecture, slotUsedSeats)).toList();
+    }
 
-        List<Lecture> pagedLectures = allLecturesSortedByRate.stream()
-                .skip(pageable.getOffset())
-                .limit(pageable.getPageSize())
+    // 가격, 강사, 신청 가능 조건을 적용한 강의 조회 (정확한 전체 건수를 요청하지 않으면 다음 페이지 존재 여부만 확인)
+    private Page<LectureSearchResponse> getFilteredLectures(PageRequest pageRequest, boolean exactTotal, LectureFilter filter) {
+        validateFilter(filter);
+        if (exactTotal) {
+            Page<LectureListItem> lectures = lectureRepository.findListItemPage(filter, pageRequest);
+            Map<Long, Integer> slotUsedSeats = findSlotUsedSeats(lectures.getContent());
+            return lectures.map(lecture -> convertToDto(lecture, slotUsedSeats));
+        }
+
+        Slice<LectureListItem> lectures = lectureRepository.findListItemSlice(filter, pageRequest);
+        Map<Long, Integer> slotUsedSeats = findSlotUsedSeats(lectures.getContent());
+        List<LectureSearchResponse> content = lectures.getContent().stream()
+                .map(lecture -> convertToDto(lecture, slotUsedSeats))
                 .toList();
+        long seen = pageRequest.getOffset() + lectures.getNumberOfElements();
+        return new PageImpl<>(content, pageRequest, lectures.hasNext() ? seen + 1 : seen);
+    }
+
+    private void validateFilter(LectureFilter filter) {
+        if ((filter.minPrice() != null && filter.minPrice() < 0) || (filter.maxPrice() != null && filter.maxPrice() < 0)) {
+            throw new InvalidLectureFilterException("가격 조건은 0 이상이어야 합니다.");
+        }
+        if (filter.minPrice() != null && filter.maxPrice() != null && filter.minPrice() > filter.maxPrice()) {
+            throw new InvalidLectureFilterException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+    }
 
+    // 순위(또는 검색 결과) 순서로 정한 강의 ID 목록의 강의 조회
+    private Page<LectureSearchResponse> getRankedLectures(List<Long> lectureIds, long total, PageRequest pageRequest) {
+        if (lectureIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageRequest, total);
+        }
+        Map<Long, LectureListItem> lectures = new HashMap<>();
+        for (LectureListItem lecture : lectureRepository.findListItemsByLectureIdIn(lectureIds)) {
+            lectures.put(lecture.getLectureId(), lecture);
+        }
+
+        // 순위 순서대로 정렬 (순위 갱신 전에 삭제된 강의는 제외)
+        List<LectureListItem> ordered = lectureIds.stream()
+                .map(lectures::get)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, Integer> slotUsedSeats = findSlotUsedSeats(ordered);
         return new PageImpl<>(
-                pagedLectures.stream().map(this::convertToDto).toList(),
-                pageable,
-                totalElements
-        );
+                ordered.stream().map(lecture -> convertToDto(lecture, slotUsedSeats)).toList(),
+                pageRequest,
+                total);
+    }
+
+    // 캐시된 근사값이 조회 결과와 모순되지 않도록 보정 (마지막 페이지면 정확한 값을 알 수 있음)
+    private long approximateTotal(Slice<LectureListItem> slice) {
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext()) {
+            return seen;
+        }
+        return Math.max(lectureCountCache.approximateCount(), seen + 1);
+    }
+
+    // 커서 방식 강의 조회 : 앞 페이지를 건너뛰지 않고 커서 위치부터 바로 읽으므로 페이지 깊이와 관계없이 일정한 비용
+    @Transactional(readOnly = true)
+    public LectureCursorPageResponse getLecturesByCursor(String cursor, int size, String sort) {
+        String sortKey = normalizeSort(sort);
+        int pageSize = limitPageSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<LectureListItem> lectures = findCursorPage(sortKey, cursor == null ? null : LectureCursor.decode(cursor, sortKey),
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = lectures.size() > pageSize;
+        List<LectureListItem> page = hasNext ? lectures.subList(0, pageSize) : lectures;
+
+        Map<Long, Integer> slotUsedSeats = findSlotUsedSeats(page);
+        return LectureCursorPageResponse.builder()
+                .content(page.stream().map(lecture -> convertToDto(lecture, slotUsedSeats)).toList())
+                .nextCursor(hasNext ? LectureCursor.after(sortKey, page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private List<LectureListItem> findCursorPage(String sort, LectureCursor cursor, Pageable limit) {
+        if (cursor == null) {
+            return switch (sort) {
+                case "recent" -> lectureRepository.findFirstPageByRecent(limit);
+                case "rate" -> lectureRepository.findFirstPageByRate(limit);
+                default -> lectureRepository.findFirstPageByPopular(limit);
+            };
+        }
+        return switch (sort) {
+            case "recent" -> lectureRepository.findNextPageByRecent(cursor.createdAtKey(), cursor.getLectureId(), limit);
+            case "rate" -> lectureRepository.findNextPageByRate(cursor.fillRateKey(), cursor.getLectureId(), limit);
+            default -> lectureRepository.findNextPageByPopular(cursor.participantsKey(), cursor.getLectureId(), limit);
+        };
+    }
+
+    // 목록 조회 페이지 요청 : 페이지 크기 제한과 정렬 기준 적용
+    public static PageRequest listingPageRequest(Pageable pageable, String sort) {
+        return PageRequest.of(pageable.getPageNumber(), limitPageSize(pageable.getPageSize()), getSortByCriteria(sort));
     }
 
-    // 신청자 많은 순, 최근 등록 순으로 정렬
-    private Sort getSortByCriteria(String sort) {
+    // 알 수 없는 정렬 기준은 기본값(신청자 많은 순)으로 처리
+    public static String normalizeSort(String sort) {
+        return "recent".equals(sort) || "rate".equals(sort) ? sort : "popular";
+    }
+
+    private static int limitPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    // 신청자 많은 순, 최근 등록 순, 신청률 순으로 정렬
+    private static Sort getSortByCriteria(String sort) {
         switch (sort) {
             case "popular": // 신청자 많은 순
                 return Sort.by(Sort.Order.desc("currentParticipants"));
             case "recent": // 최근 등록순
                 return Sort.by(Sort.Order.desc("createdAt"));
+            case "rate": // 신청률 순 (fill_rate 인덱스 사용, 같은 신청률은 강의 ID로 순서 고정)
+                return Sort.by(Sort.Order.desc("fillRate"), Sort.Order.desc("lectureId"));
             default: // 기본값 (신청자 많은 순)
                 return Sort.by(Sort.Order.desc("currentParticipants"));
         }
     }
 
-    // DTO로 변환
-    private LectureSearchResponse convertToDto(Lecture lecture) {
+    // 신청률 컬럼 추가 이전에 저장된 강의의 신청률 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillFillRate() {
+        lectureRepository.backfillFillRate();
+    }
+
+    // 좌석 슬롯으로 나눈 강의의 슬롯 사용 좌석 합계 (일반 강의만 있으면 조회하지 않음)
+    private Map<Long, Integer> findSlotUsedSeats(List<LectureListItem> lectures) {
+        List<Long> slottedIds = lectures.stream()
+                .filter(lecture -> lecture.getSeatSlotCount() > 0)
+                .map(LectureListItem::getLectureId)
+                .toList();
+        return slottedIds.isEmpty() ? Map.of() : seatSlotCounter.usedSeats(slottedIds);
+    }
+
+    // DTO로 변환 (신청자 수 = 강의 row 신청자 수 + 아직 반영되지 않은 슬롯 사용 좌석)
+    private LectureSearchResponse convertToDto(LectureListItem lecture, Map<Long, Integer> slotUsedSeats) {
         return LectureSearchResponse.builder()
                 .lectureId(lecture.getLectureId())
                 .title(lecture.getTitle())
                 .price(lecture.getPrice())
-                .instructorName(lecture.getInstructor().getUserName())
-                .currentParticipants(lecture.getCurrentParticipants())
+                .instructorName(lecture.getInstructorName())
+                .currentParticipants(lecture.getCurrentParticipants() + slotUsedSeats.getOrDefault(lecture.getLectureId(), 0))
                 .maxParticipants(lecture.getMaxParticipants())
                 .build();
     }
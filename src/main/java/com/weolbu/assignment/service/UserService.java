@@ -9,14 +9,14 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import com.weolbu.assignment.entity.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.weolbu.assignment.service.auth.PasswordHasher;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     //1. 회원 가입 기능
 
@@ -42,7 +42,7 @@ public class UserService {
                 .userName(request.getUsername())
                 .phone(request.getPhone())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .role(role)
                 .build();
     }
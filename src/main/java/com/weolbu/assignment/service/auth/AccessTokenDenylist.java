@@ -0,0 +1,107 @@
+package com.weolbu.assignment.service.auth;
+
+import com.weolbu.assignment.util.BloomFilter;
+import com.weolbu.assignment.util.VerifiedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 로그아웃한 Access Token(jti) 거부 목록.
+ * 원본은 Redis 키(토큰의 남은 유효 시간만큼 유지)이고, 각 인스턴스는 거부된 jti의 블룸 필터를 메모리에 둔다.
+ * 요청마다 블룸 필터만 확인하고, 거부됐을 수도 있다고 나올 때만 Redis에서 확인한다.
+ * 블룸 필터는 삭제할 수 없으므로 주기적으로 Redis 키로 다시 만들어 만료된 jti를 비우고,
+ * 다른 인스턴스의 로그아웃도 이때 반영한다 (spring.jwt.revocation.replication=redis면 발행 즉시 반영).
+ * replication=local이면 로그아웃한 토큰이 다른 인스턴스에서는 최대 rebuild-interval 동안 통과한다.
+ * 인스턴스가 하나일 때만 쓰는 설정이고, 여러 인스턴스로 운영하면 redis로 설정해야 한다.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+    static final String KEY_PREFIX = "access-token-denylist:";
+    public static final String CHANNEL = "access-token-revocations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private volatile BloomFilter revoked;
+    // 재구성 중인 필터 : 재구성 도중 들어온 거부도 빠지지 않도록 양쪽에 추가
+    private volatile BloomFilter rebuilding;
+
+    public AccessTokenDenylist(StringRedisTemplate redisTemplate,
+                               @Value("${spring.jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                               @Value("${spring.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revoked = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    // 토큰이 만료될 때까지만 거부 목록에 유지
+    public void revoke(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return;
+        }
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + token.tokenId(), "1", remaining);
+        markRevoked(token.tokenId());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, token.tokenId());
+        } catch (RuntimeException e) {
+            log.warn("토큰 거부 알림 발행에 실패했습니다. 다른 인스턴스는 다음 재구성 때 반영합니다.", e);
+        }
+    }
+
+    // 블룸 필터에 없으면 Redis를 확인하지 않음. Redis를 확인할 수 없으면 거부된 것으로 처리
+    public boolean isRevoked(VerifiedToken token) {
+        String tokenId = token.tokenId();
+        if (tokenId == null || !revoked.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (RuntimeException e) {
+            log.warn("토큰 거부 목록을 확인하지 못해 요청을 거부합니다.", e);
+            return true;
+        }
+    }
+
+    // 다른 인스턴스에서 발행한 거부 반영
+    public void markRevoked(String tokenId) {
+        revoked.put(tokenId);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${spring.jwt.revocation.rebuild-interval:60000}",
+            initialDelayString = "${spring.jwt.revocation.rebuild-interval:60000}")
+    public synchronized void rebuild() {
+        BloomFilter next = new BloomFilter(expectedRevocations, falsePositiveRate);
+        rebuilding = next;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> next.put(key.substring(KEY_PREFIX.length())));
+            revoked = next;
+        } catch (RuntimeException e) {
+            log.warn("토큰 거부 목록을 다시 읽지 못했습니다. 기존 블룸 필터를 유지합니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+}
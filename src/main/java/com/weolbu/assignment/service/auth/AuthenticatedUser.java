@@ -0,0 +1,64 @@
+package com.weolbu.assignment.service.auth;
+
+import com.weolbu.assignment.entity.Role;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Access Token 클레임(사용자 ID, 역할, 이름)으로 만든 인증 사용자.
+ * 요청마다 users 테이블을 읽지 않으므로 비밀번호, 이메일은 갖지 않으며 사용자명은 사용자 ID 문자열이다.
+ * 컨트롤러에서는 {@link CurrentUser}로 받는다.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long userId;
+    private final Role role;
+    private final String name;
+
+    public AuthenticatedUser(Long userId, Role role, String name) {
+        this.userId = userId;
+        this.role = role;
+        this.name = name;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return String.valueOf(userId);
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
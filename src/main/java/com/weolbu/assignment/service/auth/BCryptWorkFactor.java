@@ -0,0 +1,73 @@
+package com.weolbu.assignment.service.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 작업 비용(log2 라운드 수).
+ * 모든 서버가 같은 해시를 같은 기준으로 판단하도록 설정한 비용을 쓰고, 저장된 해시의 비용이 이와 다르면 다시 해시한다.
+ * 기동 시에는 이 서버에서 해시 한 번이 목표 시간에 가장 가까운 비용을 측정해 권장값으로 로그만 남긴다
+ * (비용이 1 오를 때마다 시간은 두 배, 최소, 최대 비용 사이로 제한).
+ * 설정값이 0이면 측정값을 쓰되, 서버마다 측정값이 달라도 서로 되돌리지 않도록 비용을 올리기만 한다.
+ */
+@Slf4j
+@Component
+public class BCryptWorkFactor {
+
+    private static final int PROBE_STRENGTH = 8;
+    private static final int PROBE_RUNS = 3;
+
+    private final int strength;
+    private final boolean upgradeOnly;
+
+    public BCryptWorkFactor(@Value("${auth.password.bcrypt-strength:12}") int configuredStrength,
+                            @Value("${auth.password.target-millis:250}") long targetMillis,
+                            @Value("${auth.password.min-strength:10}") int minStrength,
+                            @Value("${auth.password.max-strength:14}") int maxStrength) {
+        int calibratedStrength = calibrate(targetMillis, minStrength, maxStrength);
+        this.strength = configuredStrength > 0 ? configuredStrength : calibratedStrength;
+        this.upgradeOnly = configuredStrength <= 0;
+        log.info("BCrypt 작업 비용 : {} (이 서버의 {}ms 기준 권장 비용 : {}{})", strength, targetMillis, calibratedStrength,
+                upgradeOnly ? ", 설정값이 없어 측정값을 쓰고 비용은 올리기만 함" : "");
+    }
+
+    public int strength() {
+        return strength;
+    }
+
+    // 저장된 해시의 비용이 설정한 비용과 다르면 로그인 시 다시 해시 (측정값을 쓰는 경우에는 낮을 때만)
+    public boolean needsRehash(String encodedPassword) {
+        int stored = strengthOf(encodedPassword);
+        return upgradeOnly ? stored < strength : stored != strength;
+    }
+
+    // $2a$12$... 형식의 해시에서 비용 추출 (형식이 다르면 -1)
+    public static int strengthOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 낮은 비용으로 몇 번 해시해 라운드당 시간을 재고, 목표 시간에 맞는 비용을 계산
+    private static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        String salt = BCrypt.gensalt(PROBE_STRENGTH);
+        BCrypt.hashpw("calibration", salt);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_RUNS; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double nanosPerRound = (double) best / (1L << PROBE_STRENGTH);
+        int strength = (int) Math.round(Math.log(targetMillis * 1_000_000.0 / nanosPerRound) / Math.log(2));
+        return Math.max(minStrength, Math.min(maxStrength, strength));
+    }
+}
@@ -0,0 +1,17 @@
+package com.weolbu.assignment.service.auth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 인자로 현재 인증된 사용자({@link AuthenticatedUser})를 받는다.
+ * 인증 정보가 없으면 401로 응답한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
@@ -0,0 +1,126 @@
+package com.weolbu.assignment.service.auth;
+
+import com.weolbu.assignment.exception.PasswordHashingBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 비밀번호 해시, 검증 전용 실행기.
+ * BCrypt는 CPU를 오래 쓰므로 요청 스레드에서 바로 실행하지 않고 CPU 수만큼의 스레드에서만 실행한다.
+ * 대기열이 가득 차거나 대기 시간을 넘기면 바로 503으로 거절해, 로그인이 몰려도 다른 API가 쓸 CPU를 남겨 둔다.
+ * 다시 해시한 비밀번호의 DB 저장은 해시 전용 스레드를 붙잡지 않도록 별도 스레드에서 실행한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final BCryptWorkFactor workFactor;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor storeExecutor;
+    private final long maxWaitMillis;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          BCryptWorkFactor workFactor,
+                          @Value("${auth.password.threads:0}") int threads,
+                          @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${auth.password.max-wait:2000}") long maxWaitMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.workFactor = workFactor;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+        this.storeExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 로그인에 성공한 비밀번호의 해시 비용이 현재 비용과 다르면 응답을 기다리게 하지 않고 다시 해시해 저장
+    // (실행기가 바쁘면 건너뛰고 다음 로그인 때 다시 시도)
+    public void rehashIfNeeded(String rawPassword, String encodedPassword, Consumer<String> store) {
+        if (!workFactor.needsRehash(encodedPassword)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    storeRehashed(passwordEncoder.encode(rawPassword), store);
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 재해시에 실패했습니다.", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("비밀번호 해시 실행기가 바빠 재해시를 건너뜁니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        storeExecutor.shutdown();
+    }
+
+    // 다시 해시한 비밀번호를 저장용 스레드에서 저장 (대기열이 가득 차면 건너뛰고 다음 로그인 때 다시 시도)
+    private void storeRehashed(String rehashed, Consumer<String> store) {
+        try {
+            storeExecutor.execute(() -> {
+                try {
+                    store.accept(rehashed);
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 재해시 저장에 실패했습니다.", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("비밀번호 재해시 저장 대기열이 가득 차 건너뜁니다.");
+        }
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static PasswordHashingBusyException busy() {
+        return new PasswordHashingBusyException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,22 @@
+package com.weolbu.assignment.service.auth;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인스턴스가 여러 개일 때 다른 인스턴스의 로그아웃을 블룸 필터 재구성을 기다리지 않고 바로 반영.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jwt.revocation.replication", havingValue = "redis")
+public class RedisAccessTokenRevocationListener {
+
+    public RedisAccessTokenRevocationListener(RedisMessageListenerContainer listenerContainer, AccessTokenDenylist denylist) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> denylist.markRevoked(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(AccessTokenDenylist.CHANNEL));
+    }
+}
@@ -0,0 +1,37 @@
+package com.weolbu.assignment.service.auth;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 토큰 클레임으로 인증할 때 사용하는 사용자 상태(존재 여부, 현재 역할) 캐시.
+ * 크기와 유지 시간을 제한해, 삭제되거나 역할이 바뀐 사용자는 늦어도 ttl 후에 반영된다.
+ * 지금은 사용자를 삭제하거나 역할을 바꾸는 기능이 없어 따로 무효화하지 않으며, 그런 기능을 추가하면 그 자리에서 무효화해야 한다.
+ * 캐시에 없을 때만 users 테이블에서 역할 컬럼 하나를 읽는다.
+ */
+@Component
+public class UserStatusCache {
+
+    private final LoadingCache<Long, Optional<Role>> roles;
+
+    public UserStatusCache(UserRepository userRepository,
+                           @Value("${spring.jwt.user-status-cache.maximum-size:100000}") long maximumSize,
+                           @Value("${spring.jwt.user-status-cache.ttl:60000}") long ttlMillis) {
+        this.roles = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build(userRepository::findRoleByUserId);
+    }
+
+    // 사용자의 현재 역할 (사용자가 없으면 빈 값)
+    public Optional<Role> currentRole(Long userId) {
+        return roles.get(userId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.weolbu.assignment.service.cache;
+
+import com.weolbu.assignment.dto.LectureSearchResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 캐시에 저장하는 강의 목록 한 페이지 (Redis에는 JSON으로 저장)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedLecturePage {
+    private List<LectureSearchResponse> content;
+    private long totalElements;
+    private long loadedAtMillis; // DB 조회를 시작한 시각 (최대 허용 지연 계산 기준)
+    private Long catalogVersion; // DB 조회 직전의 강의 목록 버전 (ETag 기준, 알 수 없으면 null)
+}
@@ -0,0 +1,121 @@
+package com.weolbu.assignment.service.cache;
+
+import com.weolbu.assignment.service.event.LectureCreatedEvent;
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 강의 목록 버전 : 강의 개설, 수강 신청 커밋마다 증가하며 목록 응답의 ETag로 사용한다.
+ * 인스턴스가 여러 개여도 같은 값을 보도록 Redis에 두고, 시작 값을 현재 시각으로 잡아
+ * 키가 사라지거나(Redis 재시작) 인스턴스가 재시작되어도 이전에 내려준 버전이 다시 나오지 않게 한다.
+ * 증가에 실패한 뒤에는 다시 증가할 때까지 버전을 알 수 없는 것으로 처리한다 (변경 후 304 응답 방지).
+ */
+@Slf4j
+@Component
+public class LectureCatalogVersion {
+
+    private static final String REDIS_KEY = "lecture-catalog:version";
+    private static final RedisScript<Long> BUMP_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/lecture-catalog-version-bump.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final AtomicLong localVersion = new AtomicLong(System.currentTimeMillis());
+    private final AtomicBoolean bumpPending = new AtomicBoolean();
+
+    public LectureCatalogVersion(StringRedisTemplate redisTemplate,
+                                 @Value("${lecture.catalog-version.enabled:true}") boolean enabled,
+                                 @Value("${lecture.catalog-version.redis-enabled:true}") boolean redisEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+    }
+
+    // 현재 버전 (사용하지 않거나 알 수 없으면 빈 값)
+    public OptionalLong current() {
+        if (!enabled) {
+            return OptionalLong.empty();
+        }
+        if (!redisEnabled) {
+            return OptionalLong.of(localVersion.get());
+        }
+        if (bumpPending.get() && !bump()) {
+            return OptionalLong.empty();
+        }
+        try {
+            String version = redisTemplate.opsForValue().get(REDIS_KEY);
+            if (version == null) {
+                return bump() ? current() : OptionalLong.empty();
+            }
+            return OptionalLong.of(Long.parseLong(version));
+        } catch (RuntimeException e) {
+            log.debug("강의 목록 버전 조회에 실패했습니다.", e);
+            return OptionalLong.empty();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLectureCreated(LectureCreatedEvent event) {
+        bump();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnrollmentChanged(LectureEnrollmentChangedEvent event) {
+        bump();
+    }
+
+    private boolean bump() {
+        if (!enabled) {
+            return true;
+        }
+        if (!redisEnabled) {
+            localVersion.incrementAndGet();
+            return true;
+        }
+        try {
+            redisTemplate.execute(BUMP_SCRIPT, List.of(REDIS_KEY), String.valueOf(System.currentTimeMillis()));
+            bumpPending.set(false);
+            return true;
+        } catch (RuntimeException e) {
+            bumpPending.set(true);
+            log.warn("강의 목록 버전 증가에 실패했습니다. 다시 증가할 때까지 ETag를 내려주지 않습니다.", e);
+            return false;
+        }
+    }
+
+    // 약한 ETag : 같은 버전이면 응답 본문이 바이트 단위로 같지 않아도(압축 등) 같은 목록으로 취급
+    public static String etag(long version) {
+        return "W/\"lectures-" + version + "\"";
+    }
+
+    // If-None-Match의 ETag 중 하나가 현재 버전이면 true (약한 비교)
+    public static boolean matches(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String expected = "\"lectures-" + version + "\"";
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,336 @@
+package com.weolbu.assignment.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.weolbu.assignment.dto.LectureSearchResponse;
+import com.weolbu.assignment.service.LectureService;
+import com.weolbu.assignment.service.event.LectureCreatedEvent;
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 강의 목록 앞쪽 페이지 캐시 (근사 전체 건수를 쓰는 기본 조회만 대상).
+ * 1단계는 인스턴스 내부의 크기, TTL 제한 캐시, 2단계는 인스턴스끼리 공유하는 Redis 해시(정렬 기준별 "page:size" 필드)이다.
+ * 강의 개설은 커밋 직후 전체 무효화하고, 수강 신청은 enrollment-refresh-interval마다 한 번으로 모아 무효화한다.
+ * 어느 단계에서 읽든 DB 조회 시점으로부터 max-staleness가 지난 페이지는 내려주지 않는다.
+ * 만료 시 몰림은 인스턴스 안에서는 키별 단일 로딩과 백그라운드 갱신으로, 인스턴스 사이에서는 Redis 로딩 잠금으로 막는다.
+ * 백그라운드 갱신은 잠금을 기다리며 대기할 수 있으므로 공용 풀 대신 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Component
+public class LectureListingCache {
+
+    private static final String REDIS_KEY_PREFIX = "lecture-listing:";
+    private static final String LOCK_KEY_PREFIX = "lecture-listing:lock:";
+    private static final List<String> SORTS = List.of("popular", "recent", "rate");
+    private static final long LOCK_POLL_MILLIS = 10;
+    private static final RedisScript<Long> UNLOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/lecture-listing-unlock.lua"), Long.class);
+
+    private final LectureService lectureService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LectureCatalogVersion catalogVersion;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final int maxCachedPage;
+    private final long maxStalenessMillis;
+    private final long nearTtlMillis;
+    private final Duration lockTimeout;
+    private final ExecutorService refreshExecutor;
+    private final LoadingCache<ListingKey, NearEntry> nearCache;
+
+    // 무효화할 때마다 증가 : 무효화 전에 시작한 로딩 결과가 캐시에 남지 않도록 비교
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean enrollmentChanged = new AtomicBoolean();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder databaseLoads = new LongAdder();
+
+    public LectureListingCache(LectureService lectureService,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               LectureCatalogVersion catalogVersion,
+                               @Value("${lecture.listing-cache.enabled:true}") boolean enabled,
+                               @Value("${lecture.listing-cache.redis-enabled:true}") boolean redisEnabled,
+                               @Value("${lecture.listing-cache.max-cached-page:5}") int maxCachedPage,
+                               @Value("${lecture.listing-cache.maximum-size:1000}") long maximumSize,
+                               @Value("${lecture.listing-cache.max-staleness:5000}") long maxStalenessMillis,
+                               @Value("${lecture.listing-cache.near-ttl:1000}") long nearTtlMillis,
+                               @Value("${lecture.listing-cache.lock-timeout:200}") long lockTimeoutMillis,
+                               @Value("${lecture.listing-cache.refresh-threads:2}") int refreshThreads) {
+        this.lectureService = lectureService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.catalogVersion = catalogVersion;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.maxCachedPage = maxCachedPage;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.nearTtlMillis = Math.min(nearTtlMillis, maxStalenessMillis);
+        this.lockTimeout = Duration.ofMillis(lockTimeoutMillis);
+        this.refreshExecutor = Executors.newFixedThreadPool(refreshThreads);
+        this.nearCache = Caffeine.newBuilder()
+                .executor(refreshExecutor)
+                .maximumSize(maximumSize)
+                .expireAfter(new NearEntryExpiry())
+                // 만료 전에 접근된 인기 페이지는 이전 값을 내려주면서 백그라운드에서 다시 읽음
+                .refreshAfterWrite(Duration.ofMillis(Math.max(this.nearTtlMillis / 2, 1)))
+                .recordStats()
+                .build(this::load);
+    }
+
+    public Page<LectureSearchResponse> getLectures(Pageable pageable, String sort) {
+        return getVersionedLectures(pageable, sort).page();
+    }
+
+    // 페이지와 함께 그 페이지를 DB에서 읽기 직전의 강의 목록 버전 반환
+    // (캐시된 페이지는 현재 버전보다 오래된 버전을 가지므로 ETag가 현재 버전과 같아지지 않음)
+    public VersionedLecturePage getVersionedLectures(Pageable pageable, String sort) {
+        String sortKey = LectureService.normalizeSort(sort);
+        PageRequest pageRequest = LectureService.listingPageRequest(pageable, sortKey);
+        if (!enabled || pageRequest.getPageNumber() >= maxCachedPage) {
+            OptionalLong version = catalogVersion.current();
+            return new VersionedLecturePage(lectureService.getLectures(pageRequest, sortKey, false), version);
+        }
+
+        CachedLecturePage page = nearCache.get(new ListingKey(sortKey, pageRequest.getPageNumber(), pageRequest.getPageSize())).page();
+        return new VersionedLecturePage(
+                new PageImpl<>(page.getContent(), pageRequest, page.getTotalElements()),
+                page.getCatalogVersion() == null ? OptionalLong.empty() : OptionalLong.of(page.getCatalogVersion()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLectureCreated(LectureCreatedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnrollmentChanged(LectureEnrollmentChangedEvent event) {
+        enrollmentChanged.set(true);
+    }
+
+    // 수강 신청마다 무효화하지 않고 주기마다 한 번으로 모아 처리
+    @Scheduled(fixedDelayString = "${lecture.listing-cache.enrollment-refresh-interval:1000}")
+    public void refreshAfterEnrollments() {
+        if (enrollmentChanged.getAndSet(false)) {
+            invalidateAll();
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        nearCache.invalidateAll();
+        if (redisEnabled) {
+            try {
+                redisTemplate.delete(SORTS.stream().map(sort -> REDIS_KEY_PREFIX + sort).toList());
+            } catch (RuntimeException e) {
+                log.warn("강의 목록 캐시 Redis 무효화에 실패했습니다. 최대 허용 지연 후 만료됩니다.", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    public Stats stats() {
+        CacheStats near = nearCache.stats();
+        return new Stats(near.hitCount(), near.missCount(), redisHits.sum(), redisMisses.sum(), databaseLoads.sum());
+    }
+
+    @Scheduled(fixedDelayString = "${lecture.listing-cache.stats-log-interval:60000}",
+            initialDelayString = "${lecture.listing-cache.stats-log-interval:60000}")
+    public void logStats() {
+        Stats stats = stats();
+        log.info("강의 목록 캐시 : 1단계 적중률 {}%, Redis 적중률 {}%, DB 조회 {}건",
+                String.format("%.1f", stats.nearHitRate() * 100),
+                String.format("%.1f", stats.redisHitRate() * 100),
+                stats.databaseLoads());
+    }
+
+    // 1단계 캐시 로더 : Redis에 있으면 사용하고, 없으면 잠금을 잡은 인스턴스 하나만 DB를 읽어 Redis에 저장
+    private NearEntry load(ListingKey key) {
+        long loadGeneration = generation.get();
+        if (!redisEnabled) {
+            return new NearEntry(loadFromDatabase(key), loadGeneration);
+        }
+
+        CachedLecturePage cached = readRedis(key);
+        if (cached != null) {
+            return new NearEntry(cached, loadGeneration);
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (tryLock(key, token)) {
+            try {
+                CachedLecturePage page = loadFromDatabase(key);
+                if (generation.get() == loadGeneration) {
+                    writeRedis(key, page);
+                }
+                return new NearEntry(page, loadGeneration);
+            } finally {
+                unlock(key, token);
+            }
+        }
+
+        // 다른 인스턴스가 같은 페이지를 읽는 중이면 잠금 시간 동안 결과를 기다렸다가, 끝내 없으면 직접 조회
+        long deadline = System.nanoTime() + lockTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            cached = readRedis(key);
+            if (cached != null) {
+                return new NearEntry(cached, loadGeneration);
+            }
+        }
+        return new NearEntry(loadFromDatabase(key), loadGeneration);
+    }
+
+    private CachedLecturePage loadFromDatabase(ListingKey key) {
+        databaseLoads.increment();
+        long loadedAt = System.currentTimeMillis();
+        OptionalLong version = catalogVersion.current();
+        Page<LectureSearchResponse> page = lectureService.getLectures(PageRequest.of(key.page(), key.size()), key.sort(), false);
+        return new CachedLecturePage(page.getContent(), page.getTotalElements(), loadedAt,
+                version.isPresent() ? version.getAsLong() : null);
+    }
+
+    private CachedLecturePage readRedis(ListingKey key) {
+        try {
+            Object json = redisTemplate.opsForHash().get(REDIS_KEY_PREFIX + key.sort(), key.field());
+            if (json != null) {
+                CachedLecturePage page = objectMapper.readValue(json.toString(), CachedLecturePage.class);
+                if (ageMillis(page) < maxStalenessMillis) {
+                    redisHits.increment();
+                    return page;
+                }
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("강의 목록 캐시 Redis 조회에 실패했습니다. key={}", key, e);
+        }
+        redisMisses.increment();
+        return null;
+    }
+
+    private void writeRedis(ListingKey key, CachedLecturePage page) {
+        try {
+            String redisKey = REDIS_KEY_PREFIX + key.sort();
+            redisTemplate.opsForHash().put(redisKey, key.field(), objectMapper.writeValueAsString(page));
+            redisTemplate.expire(redisKey, Duration.ofMillis(maxStalenessMillis));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("강의 목록 캐시 Redis 저장에 실패했습니다. key={}", key, e);
+        }
+    }
+
+    private boolean tryLock(ListingKey key, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + key, token, lockTimeout));
+        } catch (RuntimeException e) {
+            // Redis를 쓸 수 없으면 인스턴스 안의 단일 로딩만으로 보호
+            return true;
+        }
+    }
+
+    // 토큰 비교와 삭제를 스크립트 하나로 처리 (비교 후 잠금이 만료되어도 다른 인스턴스의 잠금을 지우지 않음)
+    private void unlock(ListingKey key, String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY_PREFIX + key), token);
+        } catch (RuntimeException e) {
+            log.debug("강의 목록 캐시 로딩 잠금 해제에 실패했습니다. key={}", key, e);
+        }
+    }
+
+    private long ageMillis(CachedLecturePage page) {
+        return System.currentTimeMillis() - page.getLoadedAtMillis();
+    }
+
+    private record ListingKey(String sort, int page, int size) {
+
+        private String field() {
+            return page + ":" + size;
+        }
+
+        @Override
+        public String toString() {
+            return sort + ":" + field();
+        }
+    }
+
+    private record NearEntry(CachedLecturePage page, long generation) {
+    }
+
+    // 1단계 만료 시각 : near-ttl과 DB 조회 후 남은 허용 지연 중 짧은 쪽, 무효화 전에 시작한 로딩 결과는 바로 만료
+    private final class NearEntryExpiry implements Expiry<ListingKey, NearEntry> {
+
+        @Override
+        public long expireAfterCreate(ListingKey key, NearEntry entry, long currentTime) {
+            if (entry.generation() != generation.get()) {
+                return 0;
+            }
+            long remaining = Math.min(nearTtlMillis, maxStalenessMillis - ageMillis(entry.page()));
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(ListingKey key, NearEntry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ListingKey key, NearEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    public record VersionedLecturePage(Page<LectureSearchResponse> page, OptionalLong catalogVersion) {
+    }
+
+    public record Stats(long nearHits, long nearMisses, long redisHits, long redisMisses, long databaseLoads) {
+
+        public double nearHitRate() {
+            return rate(nearHits, nearMisses);
+        }
+
+        public double redisHitRate() {
+            return rate(redisHits, redisMisses);
+        }
+
+        private static double rate(long hits, long misses) {
+            return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.weolbu.assignment.service.cart;
+
+import com.weolbu.assignment.service.EnrollmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// 장바구니 전체를 트랜잭션 하나에서 배치 쿼리로 처리 (기본값)
+@Component
+@ConditionalOnProperty(name = "enrollment.cart.mode", havingValue = "batch", matchIfMissing = true)
+@RequiredArgsConstructor
+public class BatchCartEnrollmentProcessor implements CartEnrollmentProcessor {
+
+    private final EnrollmentService enrollmentService;
+
+    @Override
+    public Map<String, String> enroll(List<Long> lectureIds, Long studentId) {
+        return enrollmentService.enrollInLectures(lectureIds, studentId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.weolbu.assignment.service.cart;
+
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 강의 수강 신청(장바구니)을 처리하는 방식. enrollment.cart.mode 설정으로 구현을 고른다.
+ * 결과는 강의 제목(없는 강의는 ID)별 처리 메시지이다.
+ */
+public interface CartEnrollmentProcessor {
+
+    Map<String, String> enroll(List<Long> lectureIds, Long studentId);
+}
@@ -0,0 +1,115 @@
+package com.weolbu.assignment.service.cart;
+
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.LectureEnrollmentBatchWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 강의에 짧은 시간 안에 들어온 수강 신청을 모아 트랜잭션 하나로 반영하는 그룹 커밋 단계.
+ * 강의별로 첫 요청이 들어온 뒤 window-micros가 지나거나 max-group-size건이 모이면 묶음을 닫고,
+ * 신청자 수 +k 증가(정원 한도 내)와 배치 insert를 커밋 한 번으로 처리한 뒤 요청별 결과로 future를 완료한다.
+ */
+@Slf4j
+@Component
+public class EnrollmentGroupCommitter {
+
+    private final LectureEnrollmentBatchWriter batchWriter;
+    private final long windowMicros;
+    private final int maxGroupSize;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService committers;
+    private final Map<Long, Group> openGroups = new ConcurrentHashMap<>();
+
+    public EnrollmentGroupCommitter(LectureEnrollmentBatchWriter batchWriter,
+                                    @Value("${enrollment.group-commit.window-micros:2000}") long windowMicros,
+                                    @Value("${enrollment.group-commit.max-group-size:64}") int maxGroupSize,
+                                    @Value("${enrollment.group-commit.committers:4}") int committerCount) {
+        this.batchWriter = batchWriter;
+        this.windowMicros = windowMicros;
+        this.maxGroupSize = maxGroupSize;
+        this.committers = Executors.newFixedThreadPool(committerCount);
+    }
+
+    public CompletableFuture<EnrollmentOutcome> submit(Long lectureId, Long studentId) {
+        PendingEnrollment request = new PendingEnrollment(studentId, new CompletableFuture<>());
+        List<Group> closed = new ArrayList<>(1);
+
+        // 묶음에 추가하는 작업은 강의별로 직렬화됨
+        openGroups.compute(lectureId, (id, group) -> {
+            if (group == null) {
+                group = openGroup(id);
+            }
+            group.requests.add(request);
+            if (group.requests.size() >= maxGroupSize) {
+                closed.add(group);
+                return null;
+            }
+            return group;
+        });
+
+        if (!closed.isEmpty()) {
+            committers.execute(() -> commit(closed.get(0)));
+        }
+        return request.result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdown();
+        committers.shutdown();
+    }
+
+    // 새 묶음을 열고 대기 시간이 지나면 닫도록 예약 (이미 가득 차서 닫힌 묶음이면 아무것도 하지 않음)
+    private Group openGroup(Long lectureId) {
+        Group group = new Group(lectureId);
+        timer.schedule(() -> {
+            if (openGroups.remove(lectureId, group)) {
+                committers.execute(() -> commit(group));
+            }
+        }, windowMicros, TimeUnit.MICROSECONDS);
+        return group;
+    }
+
+    private void commit(Group group) {
+        List<Long> studentIds = group.requests.stream().map(PendingEnrollment::studentId).toList();
+
+        List<EnrollmentOutcome> outcomes;
+        try {
+            outcomes = batchWriter.enroll(group.lectureId, studentIds);
+        } catch (RuntimeException e) {
+            log.error("그룹 커밋에 실패했습니다. lectureId={}, 건수={}", group.lectureId, studentIds.size(), e);
+            outcomes = Collections.nCopies(studentIds.size(), EnrollmentOutcome.ERROR);
+        }
+
+        for (int i = 0; i < group.requests.size(); i++) {
+            group.requests.get(i).result.complete(outcomes.get(i));
+        }
+    }
+
+    private record PendingEnrollment(Long studentId, CompletableFuture<EnrollmentOutcome> result) {
+    }
+
+    private static final class Group {
+
+        private final Long lectureId;
+        private final List<PendingEnrollment> requests = new ArrayList<>();
+
+        private Group(Long lectureId) {
+            this.lectureId = lectureId;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.weolbu.assignment.service.cart;
+
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.seat.SeatGate;
+import com.weolbu.assignment.service.seat.SeatGateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 강의별 수강 신청을 그룹 커밋 단계에 넘기고, 다른 사용자의 신청과 함께 커밋된 결과를 기다려 응답
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enrollment.cart.mode", havingValue = "group-commit")
+@RequiredArgsConstructor
+public class GroupCommitCartEnrollmentProcessor implements CartEnrollmentProcessor {
+
+    private static final long RESULT_TIMEOUT_SECONDS = 30;
+
+    private final LectureRepository lectureRepository;
+    private final SeatGate seatGate;
+    private final EnrollmentGroupCommitter groupCommitter;
+
+    @Override
+    public Map<String, String> enroll(List<Long> lectureIds, Long studentId) {
+        Set<Long> requestedIds = new LinkedHashSet<>(lectureIds);
+
+        Map<Long, String> titles = new HashMap<>();
+        if (!requestedIds.isEmpty()) {
+            lectureRepository.findTitlesByLectureIdIn(requestedIds)
+                    .forEach(lecture -> titles.put(lecture.getLectureId(), lecture.getTitle()));
+        }
+
+        Map<String, String> enrollmentResults = new HashMap<>();
+        Map<Long, CompletableFuture<EnrollmentOutcome>> pending = new LinkedHashMap<>();
+        for (Long lectureId : requestedIds) {
+            String lectureTitle = titles.get(lectureId);
+            if (lectureTitle == null) {
+                enrollmentResults.put(String.valueOf(lectureId), "번 강의를 찾을 수 없습니다.");
+                continue;
+            }
+
+            SeatGateResult gateResult = seatGate.tryAcquire(lectureId, studentId);
+            if (gateResult == SeatGateResult.SOLD_OUT) {
+                enrollmentResults.put(lectureTitle, EnrollmentOutcome.CAPACITY_EXCEEDED.toCartMessage());
+            } else if (gateResult == SeatGateResult.ALREADY_ENROLLED) {
+                enrollmentResults.put(lectureTitle, EnrollmentOutcome.ALREADY_ENROLLED.toCartMessage());
+            } else {
+                boolean admitted = gateResult == SeatGateResult.ADMITTED;
+                pending.put(lectureId, groupCommitter.submit(lectureId, studentId)
+                        .thenApply(outcome -> releaseIfRejected(lectureId, studentId, admitted, outcome)));
+            }
+        }
+
+        pending.forEach((lectureId, result) ->
+                enrollmentResults.put(titles.get(lectureId), await(lectureId, result).toCartMessage()));
+        return enrollmentResults;
+    }
+
+    // 반영되지 않은 신청은 게이트에서 확보한 좌석 반환
+    private EnrollmentOutcome releaseIfRejected(Long lectureId, Long studentId, boolean admitted, EnrollmentOutcome outcome) {
+        if (admitted && outcome != EnrollmentOutcome.ENROLLED) {
+            seatGate.release(lectureId, studentId);
+        }
+        return outcome;
+    }
+
+    // 커밋 결과는 그룹 대기 시간 + 커밋 한 번이면 도착하므로 시간 초과는 장애로 간주
+    private EnrollmentOutcome await(Long lectureId, CompletableFuture<EnrollmentOutcome> result) {
+        try {
+            return result.get(RESULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EnrollmentOutcome.ERROR;
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("그룹 커밋 결과를 받지 못했습니다. lectureId={}", lectureId, e);
+            return EnrollmentOutcome.ERROR;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.weolbu.assignment.service.cart;
+
+import com.weolbu.assignment.exception.AlreadyEnrolledException;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.EnrollmentService;
+import com.weolbu.assignment.service.concurrency.EnrollmentConcurrencyStrategy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 장바구니의 강의별 수강 신청을 동시에 실행하고 결과를 모아 응답.
+ * 강의마다 독립된 짧은 트랜잭션(REQUIRES_NEW)을 사용하므로 경합이 심한 강의가 다른 강의의 잠금과 커넥션을 붙잡지 않고,
+ * 장바구니 응답 시간은 강의별 처리 시간의 합이 아닌 최댓값이 된다.
+ * 동시에 열리는 트랜잭션 수는 세마포어로 커넥션 풀 크기 이하로 제한하며,
+ * 다른 신청과 충돌한 강의는 트랜잭션과 허가를 반납한 상태에서 대기했다가 다시 시도한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enrollment.cart.mode", havingValue = "parallel")
+public class ParallelCartEnrollmentProcessor implements CartEnrollmentProcessor {
+
+    private static final long RESULT_TIMEOUT_SECONDS = 30;
+
+    private final LectureRepository lectureRepository;
+    private final EnrollmentService enrollmentService;
+    private final EnrollmentConcurrencyStrategy concurrencyStrategy;
+    private final ExecutorService executor;
+    private final Semaphore connectionPermits;
+
+    public ParallelCartEnrollmentProcessor(LectureRepository lectureRepository,
+                                           EnrollmentService enrollmentService,
+                                           EnrollmentConcurrencyStrategy concurrencyStrategy,
+                                           @Value("${enrollment.cart.workers:32}") int workerCount,
+                                           @Value("${enrollment.cart.max-concurrent-transactions:8}") int maxConcurrentTransactions) {
+        this.lectureRepository = lectureRepository;
+        this.enrollmentService = enrollmentService;
+        this.concurrencyStrategy = concurrencyStrategy;
+        this.executor = Executors.newFixedThreadPool(workerCount);
+        this.connectionPermits = new Semaphore(maxConcurrentTransactions, true);
+    }
+
+    @Override
+    public Map<String, String> enroll(List<Long> lectureIds, Long studentId) {
+        Set<Long> requestedIds = new LinkedHashSet<>(lectureIds);
+
+        Map<Long, LectureRepository.LectureTitle> lectures = new HashMap<>();
+        if (!requestedIds.isEmpty()) {
+            lectureRepository.findTitlesByLectureIdIn(requestedIds)
+                    .forEach(lecture -> lectures.put(lecture.getLectureId(), lecture));
+        }
+
+        Map<String, String> enrollmentResults = new HashMap<>();
+        Map<Long, CompletableFuture<EnrollmentOutcome>> pending = new LinkedHashMap<>();
+        for (Long lectureId : requestedIds) {
+            LectureRepository.LectureTitle lecture = lectures.get(lectureId);
+            if (lecture == null) {
+                enrollmentResults.put(String.valueOf(lectureId), "번 강의를 찾을 수 없습니다.");
+                continue;
+            }
+            pending.put(lectureId, CompletableFuture.supplyAsync(() -> enrollWithRetry(lecture, studentId), executor));
+        }
+
+        pending.forEach((lectureId, result) ->
+                enrollmentResults.put(lectures.get(lectureId).getTitle(), await(lectureId, result).toCartMessage()));
+        return enrollmentResults;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 충돌하면 허가를 반납한 뒤 대기했다가 다시 시도 (더 시도하지 않으면 충돌 결과 그대로 반환)
+    private EnrollmentOutcome enrollWithRetry(LectureRepository.LectureTitle lecture, Long studentId) {
+        EnrollmentOutcome outcome = enrollWithPermit(lecture, studentId);
+        for (int attempt = 0; outcome == EnrollmentOutcome.CONFLICT && concurrencyStrategy.awaitRetry(attempt); attempt++) {
+            outcome = enrollWithPermit(lecture, studentId);
+        }
+        return outcome;
+    }
+
+    private EnrollmentOutcome enrollWithPermit(LectureRepository.LectureTitle lecture, Long studentId) {
+        try {
+            connectionPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EnrollmentOutcome.ERROR;
+        }
+        try {
+            return enrollmentService.enrollInLecture(lecture, studentId);
+        } catch (AlreadyEnrolledException e) {
+            return EnrollmentOutcome.ALREADY_ENROLLED;
+        } catch (RuntimeException e) {
+            log.error("강의 수강 신청 처리에 실패했습니다. lectureId={}", lecture.getLectureId(), e);
+            return EnrollmentOutcome.ERROR;
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    private EnrollmentOutcome await(Long lectureId, CompletableFuture<EnrollmentOutcome> result) {
+        try {
+            return result.get(RESULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EnrollmentOutcome.ERROR;
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("강의 수강 신청 결과를 받지 못했습니다. lectureId={}", lectureId, e);
+            return EnrollmentOutcome.ERROR;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.weolbu.assignment.service.concurrency;
+
+import com.weolbu.assignment.repository.EnrollmentJdbcRepository;
+import com.weolbu.assignment.repository.LectureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 조건부 UPDATE 한 번으로 정원 확인과 증가를 함께 처리 (기본값)
+@Component
+@ConditionalOnProperty(name = "enrollment.concurrency.strategy", havingValue = "atomic", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AtomicUpdateEnrollmentStrategy implements EnrollmentConcurrencyStrategy {
+
+    private final LectureRepository lectureRepository;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Override
+    public boolean claimSeat(Long lectureId) {
+        return lectureRepository.claimSeat(lectureId) == 1;
+    }
+
+    @Override
+    public void releaseSeat(Long lectureId) {
+        lectureRepository.releaseSeat(lectureId);
+    }
+
+    // 여러 강의는 JDBC 배치 한 번으로 처리
+    @Override
+    public int[] claimSeats(List<Long> lectureIds) {
+        return enrollmentJdbcRepository.claimSeats(lectureIds);
+    }
+}
@@ -0,0 +1,46 @@
+package com.weolbu.assignment.service.concurrency;
+
+import com.weolbu.assignment.exception.EnrollmentConflictException;
+
+import java.util.List;
+
+/**
+ * 강의 row의 신청자 수를 증가시키는 동시성 제어 방식.
+ * 호출하는 쪽의 트랜잭션 안에서 실행되며, enrollment.concurrency.strategy 설정으로 구현을 고른다.
+ * 다른 신청과 충돌해 확보 여부를 정하지 못한 강의는 호출하는 쪽이 트랜잭션을 끝낸 뒤 {@link #awaitRetry(int)}로 기다렸다가
+ * 새 트랜잭션에서 다시 시도한다.
+ */
+public interface EnrollmentConcurrencyStrategy {
+
+    // claimSeats 결과 : 다른 신청과 충돌해 확보 여부를 정하지 못함
+    int CONFLICT = -1;
+
+    // 정원이 남아 있으면 좌석 하나를 확보하고 true 반환 (충돌하면 EnrollmentConflictException)
+    boolean claimSeat(Long lectureId);
+
+    // 같은 트랜잭션에서 확보했지만 쓰지 않게 된 좌석 반환 (동시에 들어온 중복 신청이 먼저 저장된 경우)
+    void releaseSeat(Long lectureId);
+
+    // 여러 강의의 좌석을 확보하고 강의 순서대로 확보 여부(1, 0 또는 CONFLICT) 반환
+    default int[] claimSeats(List<Long> lectureIds) {
+        int[] claimed = new int[lectureIds.size()];
+        for (int i = 0; i < lectureIds.size(); i++) {
+            try {
+                claimed[i] = claimSeat(lectureIds.get(i)) ? 1 : 0;
+            } catch (EnrollmentConflictException e) {
+                claimed[i] = CONFLICT;
+            }
+        }
+        return claimed;
+    }
+
+    // 충돌한 강의를 다시 시도하기 전 대기 (트랜잭션 밖에서 호출, 더 시도하지 않으면 false)
+    default boolean awaitRetry(int attempt) {
+        return false;
+    }
+
+    // 충돌로 다시 시도한 누적 횟수
+    default long retryCount() {
+        return 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.weolbu.assignment.service.concurrency;
+
+import com.weolbu.assignment.exception.EnrollmentConflictException;
+import com.weolbu.assignment.repository.LectureRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 강의 version을 읽고, 그 사이 다른 신청이 없었을 때만 증가시키는 낙관적 방식.
+ * 트랜잭션 안에서는 한 번만 시도하고 충돌하면 {@link EnrollmentConflictException}을 던진다.
+ * 대기는 호출하는 쪽이 트랜잭션을 끝낸 뒤 {@link #awaitRetry(int)}로 하므로 대기 중에 커넥션을 잡고 있지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "enrollment.concurrency.strategy", havingValue = "optimistic")
+public class OptimisticLockEnrollmentStrategy implements EnrollmentConcurrencyStrategy {
+
+    private final LectureRepository lectureRepository;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final AtomicLong retries = new AtomicLong();
+
+    public OptimisticLockEnrollmentStrategy(LectureRepository lectureRepository,
+                                            @Value("${enrollment.concurrency.max-attempts:5}") int maxAttempts,
+                                            @Value("${enrollment.concurrency.backoff:5}") long backoffMillis) {
+        this.lectureRepository = lectureRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    @Override
+    public boolean claimSeat(Long lectureId) {
+        Optional<LectureRepository.LectureSeatVersion> seat = lectureRepository.findSeatVersion(lectureId);
+        if (seat.isEmpty() || seat.get().getCurrentParticipants() >= seat.get().getMaxParticipants()) {
+            return false;
+        }
+        if (lectureRepository.claimSeatIfVersion(lectureId, seat.get().getVersion()) == 1) {
+            return true;
+        }
+        retries.incrementAndGet();
+        throw new EnrollmentConflictException("수강 신청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 반환은 version과 관계없이 바로 반영 (확보한 트랜잭션이 강의 row 잠금을 가지고 있음)
+    @Override
+    public void releaseSeat(Long lectureId) {
+        lectureRepository.releaseSeat(lectureId);
+    }
+
+    @Override
+    public long retryCount() {
+        return retries.get();
+    }
+
+    // 0 ~ backoff * 2^attempt 사이에서 무작위로 대기 (동시에 충돌한 요청이 같은 시점에 다시 몰리지 않도록)
+    @Override
+    public boolean awaitRetry(int attempt) {
+        if (attempt + 1 >= maxAttempts) {
+            return false;
+        }
+        long bound = backoffMillis << Math.min(attempt, 10);
+        if (bound <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
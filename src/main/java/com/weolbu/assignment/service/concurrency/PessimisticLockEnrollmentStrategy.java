@@ -0,0 +1,34 @@
+package com.weolbu.assignment.service.concurrency;
+
+import com.weolbu.assignment.entity.Lecture;
+import com.weolbu.assignment.repository.LectureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// 강의 row에 쓰기 잠금(SELECT ... FOR UPDATE)을 건 뒤 정원 확인과 증가 (트랜잭션이 끝날 때까지 잠금 유지)
+@Component
+@ConditionalOnProperty(name = "enrollment.concurrency.strategy", havingValue = "pessimistic")
+@RequiredArgsConstructor
+public class PessimisticLockEnrollmentStrategy implements EnrollmentConcurrencyStrategy {
+
+    private final LectureRepository lectureRepository;
+
+    @Override
+    public boolean claimSeat(Long lectureId) {
+        Optional<Lecture> lecture = lectureRepository.findByIdForUpdate(lectureId);
+        if (lecture.isEmpty() || !lecture.get().canEnroll()) {
+            return false;
+        }
+        lecture.get().incrementParticipants();
+        return true;
+    }
+
+    // 확보할 때 잠근 강의 엔티티에서 감소 (벌크 UPDATE로 줄이면 커밋 시 엔티티 값으로 덮어씀)
+    @Override
+    public void releaseSeat(Long lectureId) {
+        lectureRepository.findByIdForUpdate(lectureId).ifPresent(Lecture::decrementParticipants);
+    }
+}
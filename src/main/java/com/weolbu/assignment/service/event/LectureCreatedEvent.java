@@ -0,0 +1,13 @@
+package com.weolbu.assignment.service.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 강의가 개설되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@RequiredArgsConstructor
+public class LectureCreatedEvent {
+    private final Long lectureId;
+    private final int maxParticipants;
+    private final int price;
+}
@@ -0,0 +1,12 @@
+package com.weolbu.assignment.service.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 수강 신청이 저장되어 강의 신청자 수가 바뀌었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@RequiredArgsConstructor
+public class LectureEnrollmentChangedEvent {
+    private final Long lectureId;
+    private final int enrolledCount;
+}
@@ -0,0 +1,108 @@
+package com.weolbu.assignment.service.leaderboard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * JVM 메모리의 동시성 스킵 리스트로 관리하는 강의 순위.
+ * 정렬 기준마다 (점수, 강의 ID) 항목을 정렬된 상태로 보관하고, 점수가 바뀌면 해당 강의 항목만 빼고 다시 넣는다 (O(log n)).
+ * 스킵 리스트는 순위로 바로 이동할 수 없어 offset만큼 건너뛰므로, 앞쪽 페이지 조회에 적합하다.
+ * 다른 인스턴스의 수강 신청은 주기적인 재구성으로 반영된다. 단일 인스턴스 배포를 전제로 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "lecture.leaderboard.type", havingValue = "memory")
+public class InMemoryLectureLeaderboard implements LectureLeaderboard {
+
+    private static final Comparator<Rank> RANK_ORDER = Comparator
+            .comparingDouble(Rank::score).reversed()
+            .thenComparing(Comparator.comparingLong(Rank::lectureId).reversed());
+
+    // 재구성 시 통째로 교체 (재구성 전에는 null)
+    private final AtomicReference<Board> board = new AtomicReference<>();
+
+    @Override
+    public Optional<RankedPage> findPage(String sort, long offset, int size) {
+        Board current = board.get();
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        List<Long> lectureIds = new ArrayList<>(size);
+        Iterator<Rank> ranks = current.ranks(sort).iterator();
+        for (long skipped = 0; skipped < offset && ranks.hasNext(); skipped++) {
+            ranks.next();
+        }
+        while (lectureIds.size() < size && ranks.hasNext()) {
+            lectureIds.add(ranks.next().lectureId());
+        }
+        return Optional.of(new RankedPage(lectureIds, current.scores.size()));
+    }
+
+    @Override
+    public void put(Long lectureId, int participants, int maxParticipants) {
+        Board current = board.get();
+        if (current != null) {
+            current.update(lectureId, score -> new LectureScore(lectureId, participants, maxParticipants), true);
+        }
+    }
+
+    @Override
+    public void increment(Long lectureId, int delta) {
+        Board current = board.get();
+        if (current != null) {
+            current.update(lectureId,
+                    score -> new LectureScore(lectureId, score.participants() + delta, score.maxParticipants()), false);
+        }
+    }
+
+    @Override
+    public void replaceAll(Collection<LectureScore> scores) {
+        Board rebuilt = new Board();
+        scores.forEach(score -> rebuilt.update(score.lectureId(), previous -> score, true));
+        board.set(rebuilt);
+    }
+
+    private record Rank(double score, long lectureId) {
+    }
+
+    private static final class Board {
+
+        private final Map<Long, LectureScore> scores = new ConcurrentHashMap<>();
+        private final NavigableSet<Rank> popular = new ConcurrentSkipListSet<>(RANK_ORDER);
+        private final NavigableSet<Rank> rate = new ConcurrentSkipListSet<>(RANK_ORDER);
+
+        private NavigableSet<Rank> ranks(String sort) {
+            return "rate".equals(sort) ? rate : popular;
+        }
+
+        // 강의별로 직렬화해 항목 교체 (같은 강의의 증분이 겹쳐도 항목이 하나만 남음)
+        private void update(Long lectureId, UnaryOperator<LectureScore> change, boolean insertIfAbsent) {
+            scores.compute(lectureId, (id, previous) -> {
+                if (previous == null && !insertIfAbsent) {
+                    return null;
+                }
+                LectureScore next = change.apply(previous);
+                if (previous != null) {
+                    popular.remove(new Rank(previous.participants(), id));
+                    rate.remove(new Rank(previous.fillRate(), id));
+                }
+                popular.add(new Rank(next.participants(), id));
+                rate.add(new Rank(next.fillRate(), id));
+                return next;
+            });
+        }
+    }
+}
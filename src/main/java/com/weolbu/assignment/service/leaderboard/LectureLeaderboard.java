@@ -0,0 +1,35 @@
+package com.weolbu.assignment.service.leaderboard;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 신청자 많은 순(popular), 신청률 순(rate) 강의 순위.
+ * 수강 신청이 커밋될 때마다 점수를 증분 갱신하므로, 목록 조회는 DB 정렬 없이 순위 구간을 읽고 해당 강의만 조회한다.
+ * 같은 점수는 강의 ID가 큰 순서로 정렬한다.
+ */
+public interface LectureLeaderboard {
+
+    // 순위 구간 조회 (순위를 사용할 수 없으면 빈 값을 반환하고 DB에서 정렬)
+    Optional<RankedPage> findPage(String sort, long offset, int size);
+
+    // 새 강의 등록 또는 점수 덮어쓰기
+    void put(Long lectureId, int participants, int maxParticipants);
+
+    // 신청자 수 증분 반영 (등록되지 않은 강의는 무시)
+    void increment(Long lectureId, int delta);
+
+    // 전체 순위를 DB 기준으로 다시 구성
+    void replaceAll(Collection<LectureScore> scores);
+
+    record LectureScore(Long lectureId, int participants, int maxParticipants) {
+
+        public double fillRate() {
+            return (double) participants / maxParticipants;
+        }
+    }
+
+    record RankedPage(List<Long> lectureIds, long total) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.weolbu.assignment.service.leaderboard;
+
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.event.LectureCreatedEvent;
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import com.weolbu.assignment.service.leaderboard.LectureLeaderboard.LectureScore;
+import com.weolbu.assignment.service.seat.SeatSlotCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 강의 순위 동기화 : 시작 시와 rebuild-interval마다 DB 기준으로 재구성하고,
+ * 그 사이에는 강의 개설과 수강 신청 커밋 이벤트로 점수를 증분 갱신한다.
+ * 재구성은 진행 중에 커밋된 신청을 놓칠 수 있으나 다음 재구성에서 바로잡힌다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${lecture.leaderboard.type:none}' != 'none'")
+@RequiredArgsConstructor
+public class LectureLeaderboardSync {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final LectureLeaderboard leaderboard;
+    private final LectureRepository lectureRepository;
+    private final SeatSlotCounter seatSlotCounter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${lecture.leaderboard.rebuild-interval:300000}",
+            initialDelayString = "${lecture.leaderboard.rebuild-interval:300000}")
+    public void rebuild() {
+        List<LectureScore> scores = new ArrayList<>();
+        long lastLectureId = 0;
+        List<LectureRepository.LectureParticipants> page;
+        do {
+            page = lectureRepository.findParticipantsAfter(lastLectureId, PageRequest.of(0, PAGE_SIZE));
+            addScores(page, scores);
+            if (!page.isEmpty()) {
+                lastLectureId = page.get(page.size() - 1).getLectureId();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        leaderboard.replaceAll(scores);
+        log.info("강의 순위 재구성 완료 : 강의 {}개", scores.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLectureCreated(LectureCreatedEvent event) {
+        leaderboard.put(event.getLectureId(), 0, event.getMaxParticipants());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnrollmentChanged(LectureEnrollmentChangedEvent event) {
+        leaderboard.increment(event.getLectureId(), event.getEnrolledCount());
+    }
+
+    // 좌석 슬롯으로 나눈 강의는 아직 강의 row에 반영되지 않은 슬롯 사용 좌석을 더함
+    private void addScores(List<LectureRepository.LectureParticipants> lectures, List<LectureScore> scores) {
+        List<Long> slottedIds = lectures.stream()
+                .filter(lecture -> lecture.getSeatSlotCount() > 0)
+                .map(LectureRepository.LectureParticipants::getLectureId)
+                .toList();
+        Map<Long, Integer> slotUsedSeats = slottedIds.isEmpty() ? Map.of() : seatSlotCounter.usedSeats(slottedIds);
+
+        for (LectureRepository.LectureParticipants lecture : lectures) {
+            scores.add(new LectureScore(
+                    lecture.getLectureId(),
+                    lecture.getCurrentParticipants() + slotUsedSeats.getOrDefault(lecture.getLectureId(), 0),
+                    lecture.getMaxParticipants()));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.weolbu.assignment.service.leaderboard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+// 순위를 사용하지 않을 때의 기본 구현 : 모든 정렬을 DB에 맡김
+@Component
+@ConditionalOnProperty(name = "lecture.leaderboard.type", havingValue = "none", matchIfMissing = true)
+public class NoOpLectureLeaderboard implements LectureLeaderboard {
+
+    @Override
+    public Optional<RankedPage> findPage(String sort, long offset, int size) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(Long lectureId, int participants, int maxParticipants) {
+    }
+
+    @Override
+    public void increment(Long lectureId, int delta) {
+    }
+
+    @Override
+    public void replaceAll(Collection<LectureScore> scores) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.weolbu.assignment.service.leaderboard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis sorted set으로 관리하는 강의 순위 (정렬 기준마다 하나, 정원은 해시에 보관).
+ * 순위 구간 조회는 ZREVRANGE 한 번(O(log n + 페이지 크기))이며 모든 인스턴스가 같은 순위를 공유한다.
+ * 같은 점수는 멤버 문자열 역순으로 정렬되므로 강의 ID를 고정 길이로 맞춰 강의 ID 역순이 되게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "lecture.leaderboard.type", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisLectureLeaderboard implements LectureLeaderboard {
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/lecture-leaderboard-increment.lua"), Long.class);
+
+    // 세 키가 같은 슬롯에 배치되도록 해시 태그 사용
+    private static final String POPULAR_KEY = "lecture-leaderboard:{lectures}:popular";
+    private static final String RATE_KEY = "lecture-leaderboard:{lectures}:rate";
+    private static final String MAX_KEY = "lecture-leaderboard:{lectures}:max";
+    private static final String BUILDING_SUFFIX = ":building";
+    private static final int WRITE_CHUNK_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 이 인스턴스가 한 번이라도 순위를 구성했는지 (그 전에는 DB에서 정렬)
+    private volatile boolean ready;
+
+    @Override
+    public Optional<RankedPage> findPage(String sort, long offset, int size) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        String key = "rate".equals(sort) ? RATE_KEY : POPULAR_KEY;
+        try {
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, offset, offset + size - 1);
+            Long total = redisTemplate.opsForZSet().zCard(key);
+            if (members == null || total == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new RankedPage(members.stream().map(Long::valueOf).toList(), total));
+        } catch (DataAccessException e) {
+            log.warn("강의 순위를 사용할 수 없어 DB에서 정렬합니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(Long lectureId, int participants, int maxParticipants) {
+        String member = member(lectureId);
+        try {
+            redisTemplate.opsForHash().put(MAX_KEY, member, String.valueOf(maxParticipants));
+            redisTemplate.opsForZSet().add(POPULAR_KEY, member, participants);
+            redisTemplate.opsForZSet().add(RATE_KEY, member, (double) participants / maxParticipants);
+        } catch (DataAccessException e) {
+            log.warn("강의 순위에 강의를 등록하지 못했습니다. 다음 재구성 때 반영됩니다. lectureId={}", lectureId, e);
+        }
+    }
+
+    @Override
+    public void increment(Long lectureId, int delta) {
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(POPULAR_KEY, RATE_KEY, MAX_KEY),
+                    member(lectureId), String.valueOf(delta));
+        } catch (DataAccessException e) {
+            log.warn("강의 순위를 갱신하지 못했습니다. 다음 재구성 때 반영됩니다. lectureId={}", lectureId, e);
+        }
+    }
+
+    // 임시 키에 새 순위를 만든 뒤 RENAME으로 교체해, 재구성 중에도 이전 순위를 그대로 조회할 수 있게 함
+    @Override
+    public void replaceAll(Collection<LectureScore> scores) {
+        try {
+            redisTemplate.delete(List.of(POPULAR_KEY + BUILDING_SUFFIX, RATE_KEY + BUILDING_SUFFIX, MAX_KEY + BUILDING_SUFFIX));
+            List<LectureScore> chunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+            for (LectureScore score : scores) {
+                chunk.add(score);
+                if (chunk.size() == WRITE_CHUNK_SIZE) {
+                    writeChunk(chunk);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk);
+
+            if (scores.isEmpty()) {
+                redisTemplate.delete(List.of(POPULAR_KEY, RATE_KEY, MAX_KEY));
+            } else {
+                redisTemplate.rename(POPULAR_KEY + BUILDING_SUFFIX, POPULAR_KEY);
+                redisTemplate.rename(RATE_KEY + BUILDING_SUFFIX, RATE_KEY);
+                redisTemplate.rename(MAX_KEY + BUILDING_SUFFIX, MAX_KEY);
+            }
+            ready = true;
+        } catch (DataAccessException e) {
+            log.warn("강의 순위를 재구성하지 못했습니다.", e);
+        }
+    }
+
+    private void writeChunk(List<LectureScore> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> popular = new HashSet<>();
+        Set<TypedTuple<String>> rate = new HashSet<>();
+        Map<String, String> max = new HashMap<>();
+        for (LectureScore score : chunk) {
+            String member = member(score.lectureId());
+            popular.add(new DefaultTypedTuple<>(member, (double) score.participants()));
+            rate.add(new DefaultTypedTuple<>(member, score.fillRate()));
+            max.put(member, String.valueOf(score.maxParticipants()));
+        }
+        redisTemplate.opsForZSet().add(POPULAR_KEY + BUILDING_SUFFIX, popular);
+        redisTemplate.opsForZSet().add(RATE_KEY + BUILDING_SUFFIX, rate);
+        redisTemplate.opsForHash().putAll(MAX_KEY + BUILDING_SUFFIX, max);
+    }
+
+    private String member(Long lectureId) {
+        return String.format("%019d", lectureId);
+    }
+}
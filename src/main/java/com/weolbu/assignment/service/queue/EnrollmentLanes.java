@@ -0,0 +1,147 @@
+package com.weolbu.assignment.service.queue;
+
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.LectureEnrollmentBatchWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 강의별 단일 작성자 레인.
+ * 같은 강의의 티켓은 한 번에 하나의 작업자만 접수 순서(FIFO)대로 처리하고,
+ * 최대 batch-size 건씩 묶어 트랜잭션 하나로 반영한다. 강의 row를 두고 요청끼리 경쟁하지 않으므로
+ * DB 경합은 레인 수(동시에 처리 중인 강의 수)로 제한된다.
+ * 처리할 티켓이 없는 레인은 제거하므로 레인 수는 대기 중인 티켓이 있는 강의 수를 넘지 않는다.
+ */
+@Slf4j
+@Component
+public class EnrollmentLanes {
+
+    private final LectureEnrollmentBatchWriter batchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public EnrollmentLanes(LectureEnrollmentBatchWriter batchWriter,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${enrollment.queue.workers:4}") int workerCount,
+                           @Value("${enrollment.queue.batch-size:32}") int batchSize) {
+        this.batchWriter = batchWriter;
+        this.eventPublisher = eventPublisher;
+        this.workers = Executors.newFixedThreadPool(workerCount);
+        this.batchSize = batchSize;
+    }
+
+    public void dispatch(EnrollmentTicket ticket) {
+        dispatch(ticket, () -> {
+        });
+    }
+
+    // onApplied : 티켓 결과가 저장된 뒤 실행 (대기열 백엔드의 처리 완료 확인용)
+    public void dispatch(EnrollmentTicket ticket, Runnable onApplied) {
+        Lane lane = lanes.compute(ticket.getLectureId(), (lectureId, current) -> {
+            Lane target = current != null ? current : new Lane(lectureId);
+            target.pending.offer(new Dispatched(ticket, onApplied));
+            return target;
+        });
+        lane.schedule();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private void apply(Long lectureId, List<Dispatched> batch) {
+        List<Long> studentIds = batch.stream().map(dispatched -> dispatched.ticket().getStudentId()).toList();
+
+        List<EnrollmentOutcome> outcomes;
+        try {
+            outcomes = batchWriter.enroll(lectureId, studentIds);
+        } catch (RuntimeException e) {
+            log.error("대기열 수강 신청 처리에 실패했습니다. lectureId={}, 건수={}", lectureId, batch.size(), e);
+            outcomes = Collections.nCopies(batch.size(), EnrollmentOutcome.ERROR);
+        }
+
+        // 결과 저장에 실패한 티켓은 완료 확인을 하지 않음 (redis-stream 백엔드는 회수 후 다시 처리)
+        for (int i = 0; i < batch.size(); i++) {
+            Dispatched dispatched = batch.get(i);
+            try {
+                eventPublisher.publishEvent(new EnrollmentTicketProcessedEvent(dispatched.ticket(), outcomes.get(i)));
+                dispatched.onApplied().run();
+            } catch (RuntimeException e) {
+                log.error("대기열 티켓 결과 저장에 실패했습니다. ticketId={}", dispatched.ticket().getTicketId(), e);
+            }
+        }
+    }
+
+    private record Dispatched(EnrollmentTicket ticket, Runnable onApplied) {
+    }
+
+    private final class Lane {
+
+        private final Long lectureId;
+        private final Queue<Dispatched> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Lane(Long lectureId) {
+            this.lectureId = lectureId;
+        }
+
+        // 레인당 실행 중인 작업은 항상 하나만 존재
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workers.execute(this::drain);
+            }
+        }
+
+        // 배치 하나를 처리한 뒤 작업자를 반납해 다른 강의 레인도 순서대로 처리되도록 함
+        private void drain() {
+            try {
+                List<Dispatched> batch = new ArrayList<>(batchSize);
+                Dispatched dispatched;
+                while (batch.size() < batchSize && (dispatched = pending.poll()) != null) {
+                    batch.add(dispatched);
+                }
+                if (!batch.isEmpty()) {
+                    apply(lectureId, batch);
+                }
+            } finally {
+                if (!retireIfIdle()) {
+                    scheduled.set(false);
+                    if (!pending.isEmpty()) {
+                        schedule();
+                    }
+                }
+            }
+        }
+
+        // 남은 티켓이 없으면 레인 제거. 티켓 추가와 같은 compute 안에서 확인하므로 제거된 레인에는 티켓이 들어오지 않고,
+        // 실행 중 표시를 유지한 채 제거해 이 작업이 끝나기 전에 같은 레인이 다시 실행되지 않음
+        private boolean retireIfIdle() {
+            AtomicBoolean retired = new AtomicBoolean();
+            lanes.computeIfPresent(lectureId, (id, current) -> {
+                if (current == this && pending.isEmpty()) {
+                    retired.set(true);
+                    return null;
+                }
+                return current;
+            });
+            return retired.get();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.weolbu.assignment.service.queue;
+
+/**
+ * 대기열 백엔드. 접수된 티켓을 강의별 레인({@link EnrollmentLanes})까지 전달한다.
+ * enrollment.queue.backend 설정으로 in-process, redis-stream 중 선택한다.
+ */
+public interface EnrollmentQueue {
+
+    void enqueue(EnrollmentTicket ticket);
+}
@@ -0,0 +1,81 @@
+package com.weolbu.assignment.service.queue;
+
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// 대기열에 접수된 수강 신청 한 건 (강의 하나, 학생 한 명)
+@Getter
+@Builder(toBuilder = true)
+public class EnrollmentTicket {
+
+    private final String ticketId;
+    private final Long lectureId;
+    private final Long studentId;
+    private final boolean gateAdmitted;   // 좌석 게이트에서 좌석을 확보했는지 여부 (실패 시 반환 대상)
+    private final boolean reclaimed;      // 처리 도중 멈춘 서버에서 회수해 다시 처리하는 티켓인지 여부 (저장하지 않음)
+    private final TicketStatus status;
+    private final String message;
+    private final Instant createdAt;
+
+    public static EnrollmentTicket pending(Long lectureId, Long studentId) {
+        return EnrollmentTicket.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .lectureId(lectureId)
+                .studentId(studentId)
+                .status(TicketStatus.PENDING)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    public EnrollmentTicket admittedByGate() {
+        return toBuilder().gateAdmitted(true).build();
+    }
+
+    public EnrollmentTicket reclaimed() {
+        return toBuilder().reclaimed(true).build();
+    }
+
+    public EnrollmentTicket complete(EnrollmentOutcome outcome) {
+        return toBuilder()
+                .status(outcome == EnrollmentOutcome.ENROLLED ? TicketStatus.SUCCESS : TicketStatus.FAILED)
+                .message(outcome.getMessage())
+                .build();
+    }
+
+    public boolean isDone() {
+        return status != TicketStatus.PENDING;
+    }
+
+    // Redis 해시, 스트림 레코드로 저장하기 위한 변환
+    public Map<String, String> toFields() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("ticketId", ticketId);
+        fields.put("lectureId", String.valueOf(lectureId));
+        fields.put("studentId", String.valueOf(studentId));
+        fields.put("gateAdmitted", String.valueOf(gateAdmitted));
+        fields.put("status", status.name());
+        fields.put("createdAt", String.valueOf(createdAt.toEpochMilli()));
+        if (message != null) {
+            fields.put("message", message);
+        }
+        return fields;
+    }
+
+    public static EnrollmentTicket fromFields(Map<String, String> fields) {
+        return EnrollmentTicket.builder()
+                .ticketId(fields.get("ticketId"))
+                .lectureId(Long.valueOf(fields.get("lectureId")))
+                .studentId(Long.valueOf(fields.get("studentId")))
+                .gateAdmitted(Boolean.parseBoolean(fields.get("gateAdmitted")))
+                .status(TicketStatus.valueOf(fields.get("status")))
+                .message(fields.get("message"))
+                .createdAt(Instant.ofEpochMilli(Long.parseLong(fields.get("createdAt"))))
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.weolbu.assignment.service.queue;
+
+/**
+ * 티켓 처리 완료를 롱 폴링 요청이 대기 중인 인스턴스로 전달하는 방식.
+ * 대기열 백엔드와 같이 enrollment.queue.backend 값으로 구현을 고른다
+ * (in-process : 처리한 인스턴스에만 전달, redis-stream : Redis 채널로 모든 인스턴스에 전달).
+ */
+public interface EnrollmentTicketNotifier {
+
+    void notifyCompleted(String ticketId);
+}
@@ -0,0 +1,13 @@
+package com.weolbu.assignment.service.queue;
+
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 대기열 레인이 티켓 처리를 마쳤을 때 발행되는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class EnrollmentTicketProcessedEvent {
+    private final EnrollmentTicket ticket;
+    private final EnrollmentOutcome outcome;
+}
@@ -0,0 +1,111 @@
+package com.weolbu.assignment.service.queue;
+
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.seat.SeatGate;
+import com.weolbu.assignment.service.seat.SeatGateResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열 방식 수강 신청.
+ * 요청 스레드에서는 티켓만 발급해 바로 응답하고, 실제 반영은 강의별 레인이 처리한다.
+ * 클라이언트는 티켓 ID로 처리 결과를 조회(또는 롱 폴링)한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EnrollmentTicketService {
+
+    private static final long MAX_WAIT_MILLIS = 30000;
+
+    private final SeatGate seatGate;
+    private final EnrollmentQueue enrollmentQueue;
+    private final EnrollmentTicketStore ticketStore;
+    private final EnrollmentTicketWaiters waiters;
+    private final EnrollmentTicketNotifier notifier;
+
+    public List<EnrollmentTicket> submit(List<Long> lectureIds, Long studentId) {
+        List<EnrollmentTicket> tickets = new ArrayList<>();
+        for (Long lectureId : new LinkedHashSet<>(lectureIds)) {
+            tickets.add(submitTicket(EnrollmentTicket.pending(lectureId, studentId)));
+        }
+        return tickets;
+    }
+
+    // 좌석 게이트에서 거절된 요청은 대기열에 넣지 않고 바로 실패 처리
+    private EnrollmentTicket submitTicket(EnrollmentTicket ticket) {
+        SeatGateResult gateResult = seatGate.tryAcquire(ticket.getLectureId(), ticket.getStudentId());
+        if (gateResult == SeatGateResult.SOLD_OUT) {
+            return completeImmediately(ticket, EnrollmentOutcome.CAPACITY_EXCEEDED);
+        }
+        if (gateResult == SeatGateResult.ALREADY_ENROLLED) {
+            return completeImmediately(ticket, EnrollmentOutcome.ALREADY_ENROLLED);
+        }
+        if (gateResult == SeatGateResult.ADMITTED) {
+            ticket = ticket.admittedByGate();
+        }
+
+        ticketStore.save(ticket);
+        enrollmentQueue.enqueue(ticket);
+        return ticket;
+    }
+
+    private EnrollmentTicket completeImmediately(EnrollmentTicket ticket, EnrollmentOutcome outcome) {
+        EnrollmentTicket completed = ticket.complete(outcome);
+        ticketStore.save(completed);
+        return completed;
+    }
+
+    // 티켓을 접수한 학생만 조회 가능
+    public Optional<EnrollmentTicket> findTicket(String ticketId, Long studentId) {
+        return ticketStore.find(ticketId)
+                .filter(ticket -> ticket.getStudentId().equals(studentId));
+    }
+
+    // 처리가 끝나거나 대기 시간이 지나면 그 시점의 티켓 상태를 반환 (다른 인스턴스가 처리해도 완료 알림으로 깨어남)
+    public CompletableFuture<Optional<EnrollmentTicket>> awaitTicket(String ticketId, Long studentId, long waitMillis) {
+        Optional<EnrollmentTicket> ticket = findTicket(ticketId, studentId);
+        if (ticket.isEmpty() || ticket.get().isDone() || waitMillis <= 0) {
+            return CompletableFuture.completedFuture(ticket);
+        }
+
+        CompletableFuture<Void> completion = waiters.register(ticketId);
+        // 대기 등록 직전에 처리가 끝난 경우
+        if (ticketStore.find(ticketId).filter(EnrollmentTicket::isDone).isPresent()) {
+            completion.complete(null);
+        }
+
+        return completion
+                .orTimeout(Math.min(waitMillis, MAX_WAIT_MILLIS), TimeUnit.MILLISECONDS)
+                .handle((ignored, e) -> {
+                    waiters.remove(ticketId, completion);
+                    return findTicket(ticketId, studentId);
+                });
+    }
+
+    @EventListener
+    public void onTicketProcessed(EnrollmentTicketProcessedEvent event) {
+        EnrollmentTicket ticket = event.getTicket();
+        EnrollmentOutcome outcome = event.getOutcome();
+        // 회수한 티켓이 자신의 신청을 찾은 경우 : 이전 서버가 커밋한 뒤 결과를 저장하기 전에 멈춘 것이므로 성공으로 기록
+        if (ticket.isReclaimed() && outcome == EnrollmentOutcome.ALREADY_ENROLLED) {
+            outcome = EnrollmentOutcome.ENROLLED;
+        }
+        EnrollmentTicket completed = ticket.complete(outcome);
+        ticketStore.save(completed);
+
+        // 이 티켓으로 좌석이 반영되지 않았으면 (정원 초과, 충돌, 오류 등) 게이트에서 확보한 좌석 반환
+        if (ticket.isGateAdmitted() && outcome != EnrollmentOutcome.ENROLLED) {
+            seatGate.release(ticket.getLectureId(), ticket.getStudentId());
+        }
+
+        notifier.notifyCompleted(ticket.getTicketId());
+    }
+}
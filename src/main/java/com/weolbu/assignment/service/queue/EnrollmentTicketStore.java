@@ -0,0 +1,11 @@
+package com.weolbu.assignment.service.queue;
+
+import java.util.Optional;
+
+// 티켓 상태 저장소
+public interface EnrollmentTicketStore {
+
+    void save(EnrollmentTicket ticket);
+
+    Optional<EnrollmentTicket> find(String ticketId);
+}
@@ -0,0 +1,45 @@
+package com.weolbu.assignment.service.queue;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이 인스턴스에서 롱 폴링 중인 티켓의 완료 대기 (완료 알림은 EnrollmentTicketNotifier가 전달)
+@Component
+public class EnrollmentTicketWaiters {
+
+    private final Map<String, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+
+    // 요청마다 따로 대기 (한 요청의 대기 시간이 끝나도 같은 티켓을 기다리는 다른 요청에는 영향 없음)
+    public CompletableFuture<Void> register(String ticketId) {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        waiters.compute(ticketId, (id, completions) -> {
+            Set<CompletableFuture<Void>> target = completions != null ? completions : ConcurrentHashMap.newKeySet();
+            target.add(completion);
+            return target;
+        });
+        return completion;
+    }
+
+    public void remove(String ticketId, CompletableFuture<Void> completion) {
+        waiters.computeIfPresent(ticketId, (id, completions) -> {
+            completions.remove(completion);
+            return completions.isEmpty() ? null : completions;
+        });
+    }
+
+    public void complete(String ticketId) {
+        Set<CompletableFuture<Void>> completions = waiters.remove(ticketId);
+        if (completions != null) {
+            completions.forEach(completion -> completion.complete(null));
+        }
+    }
+
+    // 대기 중인 티켓 수
+    public int size() {
+        return waiters.size();
+    }
+}
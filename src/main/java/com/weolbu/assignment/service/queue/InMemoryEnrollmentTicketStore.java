@@ -0,0 +1,38 @@
+package com.weolbu.assignment.service.queue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "enrollment.queue.backend", havingValue = "in-process", matchIfMissing = true)
+public class InMemoryEnrollmentTicketStore implements EnrollmentTicketStore {
+
+    private final Map<String, EnrollmentTicket> tickets = new ConcurrentHashMap<>();
+
+    @Value("${enrollment.queue.ticket-ttl:600000}")
+    private long ticketTtl;
+
+    @Override
+    public void save(EnrollmentTicket ticket) {
+        tickets.put(ticket.getTicketId(), ticket);
+    }
+
+    @Override
+    public Optional<EnrollmentTicket> find(String ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId));
+    }
+
+    // 보관 기간이 지난 완료 티켓 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredTickets() {
+        Instant expiredBefore = Instant.now().minusMillis(ticketTtl);
+        tickets.values().removeIf(ticket -> ticket.isDone() && ticket.getCreatedAt().isBefore(expiredBefore));
+    }
+}
@@ -0,0 +1,19 @@
+package com.weolbu.assignment.service.queue;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기본 백엔드 : 접수한 서버의 레인으로 바로 전달
+@Component
+@ConditionalOnProperty(name = "enrollment.queue.backend", havingValue = "in-process", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InProcessEnrollmentQueue implements EnrollmentQueue {
+
+    private final EnrollmentLanes enrollmentLanes;
+
+    @Override
+    public void enqueue(EnrollmentTicket ticket) {
+        enrollmentLanes.dispatch(ticket);
+    }
+}
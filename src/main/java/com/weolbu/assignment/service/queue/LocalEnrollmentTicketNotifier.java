@@ -0,0 +1,19 @@
+package com.weolbu.assignment.service.queue;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// in-process 백엔드 : 티켓을 접수한 인스턴스가 처리하므로 이 인스턴스의 대기만 깨움
+@Component
+@ConditionalOnProperty(name = "enrollment.queue.backend", havingValue = "in-process", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalEnrollmentTicketNotifier implements EnrollmentTicketNotifier {
+
+    private final EnrollmentTicketWaiters waiters;
+
+    @Override
+    public void notifyCompleted(String ticketId) {
+        waiters.complete(ticketId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.weolbu.assignment.service.queue;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * redis-stream 백엔드 : 티켓을 처리한 인스턴스와 롱 폴링 요청을 받은 인스턴스가 다를 수 있으므로
+ * 완료된 티켓 ID를 Redis 채널로 발행하고, 모든 인스턴스(자신 포함)가 받아 자기 대기를 깨운다.
+ * 발행에 실패해도 대기는 제한 시간이 지나면 저장소의 티켓 상태로 응답한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enrollment.queue.backend", havingValue = "redis-stream")
+public class RedisEnrollmentTicketNotifier implements EnrollmentTicketNotifier {
+
+    private static final String CHANNEL = "enrollment-ticket-completions";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisEnrollmentTicketNotifier(StringRedisTemplate redisTemplate,
+                                         RedisMessageListenerContainer listenerContainer,
+                                         EnrollmentTicketWaiters waiters) {
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(
+                (message, pattern) -> waiters.complete(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void notifyCompleted(String ticketId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, ticketId);
+        } catch (RuntimeException e) {
+            log.warn("티켓 완료 알림 발행에 실패했습니다. ticketId={}", ticketId, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.weolbu.assignment.service.queue;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// redis-stream 백엔드용 티켓 저장소 : 어느 서버에서 처리되었든 모든 서버에서 조회 가능
+@Component
+@ConditionalOnProperty(name = "enrollment.queue.backend", havingValue = "redis-stream")
+@RequiredArgsConstructor
+public class RedisEnrollmentTicketStore implements EnrollmentTicketStore {
+
+    private static final String KEY_PREFIX = "enrollment-ticket:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${enrollment.queue.ticket-ttl:600000}")
+    private long ticketTtl;
+
+    @Override
+    public void save(EnrollmentTicket ticket) {
+        String key = KEY_PREFIX + ticket.getTicketId();
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        hashOperations.putAll(key, ticket.toFields());
+        redisTemplate.expire(key, ticketTtl, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<EnrollmentTicket> find(String ticketId) {
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        Map<String, String> fields = hashOperations.entries(KEY_PREFIX + ticketId);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(EnrollmentTicket.fromFields(fields));
+    }
+}
@@ -0,0 +1,191 @@
+package com.weolbu.assignment.service.queue;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Stream 백엔드.
+ * 접수한 서버와 관계없이 컨슈머 그룹에 속한 서버 중 하나가 티켓을 받아 자신의 강의별 레인으로 넘긴다.
+ * 레인이 결과를 저장한 뒤에 확인(XACK)하므로, 처리 도중 서버가 멈춘 티켓은 그룹의 대기 목록에 남고
+ * 다른 서버가 reclaim-idle이 지난 뒤 회수(XCLAIM)해 다시 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enrollment.queue.backend", havingValue = "redis-stream")
+public class RedisStreamEnrollmentQueue implements EnrollmentQueue {
+
+    private static final String STREAM_KEY = "enrollment-queue";
+    private static final String CONSUMER_GROUP = "enrollment-lanes";
+    private static final long MAX_STREAM_LENGTH = 100000;
+    private static final long RECLAIM_BATCH_SIZE = 100;
+
+    private final StringRedisTemplate redisTemplate;
+    private final EnrollmentLanes enrollmentLanes;
+    private final EnrollmentTicketStore ticketStore;
+    private final Duration reclaimIdle;
+    private final String consumerName = "lanes-" + UUID.randomUUID();
+
+    // 이 서버의 레인에 넘겼지만 아직 확인하지 않은 레코드 (회수 대상에서 제외)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    public RedisStreamEnrollmentQueue(StringRedisTemplate redisTemplate,
+                                      EnrollmentLanes enrollmentLanes,
+                                      EnrollmentTicketStore ticketStore,
+                                      @Value("${enrollment.queue.reclaim-idle:60000}") long reclaimIdleMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enrollmentLanes = enrollmentLanes;
+        this.ticketStore = ticketStore;
+        this.reclaimIdle = Duration.ofMillis(reclaimIdleMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        createConsumerGroup();
+
+        container = StreamMessageListenerContainer.create(
+                redisTemplate.getRequiredConnectionFactory(),
+                StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofMillis(100))
+                        .build());
+        container.register(readRequest(), this::dispatch);
+        container.start();
+    }
+
+    // Redis 오류가 나도 구독을 취소하지 않고 다음 폴링에서 이어서 읽음 (기본값은 오류 한 번에 구독 종료)
+    public StreamMessageListenerContainer.StreamReadRequest<String> readRequest() {
+        return StreamMessageListenerContainer.StreamReadRequest
+                .builder(StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()))
+                .consumer(Consumer.from(CONSUMER_GROUP, consumerName))
+                .autoAcknowledge(false)
+                .cancelOnError(e -> false)
+                .errorHandler(this::handleReadError)
+                .build();
+    }
+
+    private void handleReadError(Throwable e) {
+        log.warn("수강 신청 대기열을 읽지 못했습니다. 다음 폴링에서 다시 시도합니다.", e);
+        // 재시작된 Redis에 스트림과 컨슈머 그룹이 없으면 다시 만듦
+        if (isMissingConsumerGroup(e)) {
+            createConsumerGroup();
+        }
+    }
+
+    private boolean isMissingConsumerGroup(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOGROUP")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Override
+    public void enqueue(EnrollmentTicket ticket) {
+        redisTemplate.opsForStream().add(StreamRecords.string(ticket.toFields()).withStreamKey(STREAM_KEY));
+    }
+
+    // 레인이 티켓 결과를 저장한 뒤에 확인
+    private void dispatch(MapRecord<String, String, String> record) {
+        dispatch(record.getId(), EnrollmentTicket.fromFields(record.getValue()));
+    }
+
+    private void dispatch(RecordId recordId, EnrollmentTicket ticket) {
+        inFlight.add(recordId.getValue());
+        enrollmentLanes.dispatch(ticket, () -> acknowledge(recordId));
+    }
+
+    private void acknowledge(RecordId recordId) {
+        try {
+            redisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordId);
+        } catch (DataAccessException e) {
+            // 확인하지 못한 레코드는 회수할 때 티켓이 이미 완료되었는지 보고 확인만 함
+            log.warn("수강 신청 대기열 레코드 확인에 실패했습니다. recordId={}", recordId, e);
+        } finally {
+            inFlight.remove(recordId.getValue());
+        }
+    }
+
+    // 확인되지 않은 채 reclaim-idle이 지난 레코드 회수 (처리 도중 멈춘 서버의 티켓)
+    @Scheduled(fixedDelayString = "${enrollment.queue.reclaim-interval:30000}",
+            initialDelayString = "${enrollment.queue.reclaim-interval:30000}")
+    public void reclaimStalled() {
+        StreamOperations<String, String, String> streamOperations = redisTemplate.opsForStream();
+        try {
+            RecordId[] stalled = streamOperations.pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), RECLAIM_BATCH_SIZE)
+                    .stream()
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(reclaimIdle) >= 0)
+                    .filter(message -> !inFlight.contains(message.getIdAsString()))
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (stalled.length == 0) {
+                return;
+            }
+
+            List<MapRecord<String, String, String>> records =
+                    streamOperations.claim(STREAM_KEY, CONSUMER_GROUP, consumerName, reclaimIdle, stalled);
+            for (MapRecord<String, String, String> record : records) {
+                // 결과 저장까지 끝났는데 확인만 못한 티켓은 다시 처리하지 않음
+                EnrollmentTicket ticket = EnrollmentTicket.fromFields(record.getValue());
+                if (ticketStore.find(ticket.getTicketId()).filter(EnrollmentTicket::isDone).isPresent()) {
+                    acknowledge(record.getId());
+                } else {
+                    dispatch(record.getId(), ticket.reclaimed());
+                }
+            }
+            log.info("수강 신청 대기열에서 처리가 멈춘 레코드 {}건을 회수했습니다.", records.size());
+        } catch (DataAccessException e) {
+            log.warn("수강 신청 대기열 레코드 회수에 실패했습니다.", e);
+        }
+    }
+
+    // 처리된 레코드가 쌓이지 않도록 스트림 길이 제한
+    @Scheduled(fixedDelay = 60000)
+    public void trimStream() {
+        try {
+            redisTemplate.opsForStream().trim(STREAM_KEY, MAX_STREAM_LENGTH, true);
+        } catch (DataAccessException e) {
+            log.warn("수강 신청 대기열 스트림 정리에 실패했습니다.", e);
+        }
+    }
+
+    private void createConsumerGroup() {
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+        } catch (DataAccessException e) {
+            // 이미 그룹이 존재하는 경우 (BUSYGROUP) 또는 Redis에 연결할 수 없는 경우 (다음 읽기 오류에서 다시 시도)
+            log.debug("수강 신청 대기열 컨슈머 그룹이 이미 존재합니다.");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.weolbu.assignment.service.queue;
+
+public enum TicketStatus {
+    PENDING,    // 대기열에서 처리 대기 중
+    SUCCESS,    // 수강 신청 성공
+    FAILED      // 수강 신청 실패
+}
@@ -0,0 +1,238 @@
+package com.weolbu.assignment.service.search;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 강의 제목과 강사 이름의 n-gram 역색인.
+ * 검색어의 n-gram 포스팅 목록을 짧은 목록부터 교집합해 후보를 고르고, 후보는 원문 포함 여부로 다시 확인한다
+ * (bi-gram이 모두 있어도 단어가 이어지지 않는 경우를 걸러냄). LIKE '%검색어%'처럼 강의 테이블을 훑지 않는다.
+ * 재구성은 새 색인을 만든 뒤 참조를 바꾸므로 재구성 중에도 이전 색인으로 검색할 수 있다.
+ */
+@Component
+public class LectureSearchIndex {
+
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    private final AtomicReference<Index> current = new AtomicReference<>();
+
+    // 재구성 전이면 빈 값 (호출자가 검색 불가로 처리)
+    public Optional<SearchHits> search(String query, String sort, long offset, int size) {
+        Index index = current.get();
+        if (index == null) {
+            return Optional.empty();
+        }
+        List<String> words = NgramTokenizer.words(NgramTokenizer.normalize(query));
+        if (words.isEmpty()) {
+            return Optional.of(new SearchHits(List.of(), 0));
+        }
+        return Optional.of(index.search(words, sort, offset, size));
+    }
+
+    public void replaceAll(Collection<IndexedLecture> lectures) {
+        Index index = new Index();
+        lectures.stream()
+                .sorted(Comparator.comparingLong(IndexedLecture::lectureId))
+                .forEach(index::add);
+        current.set(index);
+    }
+
+    // 새 강의 추가 (재구성 전이면 무시 : 재구성 시 DB에서 읽음)
+    public void add(IndexedLecture lecture) {
+        Index index = current.get();
+        if (index != null) {
+            index.add(lecture);
+        }
+    }
+
+    public void increment(long lectureId, int delta) {
+        Index index = current.get();
+        if (index != null) {
+            SearchDocument document = index.documents.get(lectureId);
+            if (document != null) {
+                document.participants.addAndGet(delta);
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return current.get() != null;
+    }
+
+    // 색인에 들어 있는 가장 큰 강의 ID (재구성 중에 개설된 강의를 이어서 읽는 기준)
+    public long lastLectureId() {
+        Index index = current.get();
+        return index == null ? 0 : index.lastLectureId;
+    }
+
+    public record IndexedLecture(long lectureId, String title, String instructorName, LocalDateTime createdAt,
+                                 int participants, int maxParticipants) {
+    }
+
+    // 검색 결과 페이지의 강의 ID (순위 순서)와 전체 일치 건수
+    public record SearchHits(List<Long> lectureIds, long total) {
+    }
+
+    private static final class Index {
+
+        private final Map<String, PostingList> postings = new ConcurrentHashMap<>();
+        private final Map<Long, SearchDocument> documents = new ConcurrentHashMap<>();
+        // 포스팅 목록 끝에 붙일 수 없었던 강의 (ID 역순 도착) : 검색 시 따로 확인하고 다음 재구성 때 정리
+        private final Set<Long> unordered = ConcurrentHashMap.newKeySet();
+        private volatile long lastLectureId;
+
+        private synchronized void add(IndexedLecture lecture) {
+            if (documents.containsKey(lecture.lectureId())) {
+                return;
+            }
+            String title = NgramTokenizer.normalize(lecture.title());
+            String instructorName = NgramTokenizer.normalize(lecture.instructorName());
+            SearchDocument document = new SearchDocument(lecture.lectureId(), title, instructorName,
+                    lecture.createdAt() == null ? 0 : lecture.createdAt().toEpochSecond(ZoneOffset.UTC),
+                    lecture.participants(), lecture.maxParticipants());
+
+            boolean appended = true;
+            for (String term : NgramTokenizer.indexTerms(title + " " + instructorName)) {
+                appended &= postings.computeIfAbsent(term, key -> new PostingList()).add(lecture.lectureId());
+            }
+            if (!appended) {
+                unordered.add(lecture.lectureId());
+            }
+            documents.put(lecture.lectureId(), document);
+            lastLectureId = Math.max(lastLectureId, lecture.lectureId());
+        }
+
+        private SearchHits search(List<String> words, String sort, long offset, int size) {
+            List<PostingList.Cursor> cursors = new ArrayList<>();
+            for (String term : NgramTokenizer.queryTerms(words)) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    return searchUnordered(words, sort, offset, size);
+                }
+                cursors.add(postingList.cursor());
+            }
+            cursors.sort(Comparator.comparingInt(PostingList.Cursor::size));
+
+            Ranking ranking = new Ranking(words, sort, offset + size);
+            PostingList.Cursor lead = cursors.get(0);
+            long candidate = lead.next();
+            while (candidate != PostingList.END) {
+                long matched = candidate;
+                for (int i = 1; i < cursors.size() && matched == candidate; i++) {
+                    matched = cursors.get(i).advance(candidate);
+                }
+                if (matched == PostingList.END) {
+                    break;
+                }
+                if (matched == candidate) {
+                    if (!unordered.contains(candidate)) {
+                        ranking.offer(documents.get(candidate));
+                    }
+                    candidate = lead.next();
+                } else {
+                    candidate = lead.advance(matched);
+                }
+            }
+            unordered.forEach(lectureId -> ranking.offer(documents.get(lectureId)));
+            return ranking.page(offset);
+        }
+
+        private SearchHits searchUnordered(List<String> words, String sort, long offset, int size) {
+            Ranking ranking = new Ranking(words, sort, offset + size);
+            unordered.forEach(lectureId -> ranking.offer(documents.get(lectureId)));
+            return ranking.page(offset);
+        }
+    }
+
+    // 원문 확인을 통과한 후보 중 상위 limit 건만 힙에 유지
+    private static final class Ranking {
+
+        private final List<String> words;
+        private final Comparator<Scored> order;
+        private final PriorityQueue<Scored> top;
+        private final long limit;
+        private long total;
+
+        private Ranking(List<String> words, String sort, long limit) {
+            this.words = words;
+            this.order = order(sort);
+            this.top = new PriorityQueue<>(order.reversed());
+            this.limit = limit;
+        }
+
+        private void offer(SearchDocument document) {
+            if (document == null) {
+                return;
+            }
+            int relevance = relevance(document);
+            if (relevance < 0) {
+                return;
+            }
+            total++;
+            // 정렬 값은 힙에 넣는 시점의 값으로 고정 (이후 신청 반영으로 힙 순서가 깨지지 않도록)
+            Scored scored = new Scored(document.lectureId, relevance, document.participants.get(),
+                    document.fillRate(), document.createdAt);
+            if (top.size() < limit) {
+                top.offer(scored);
+            } else if (order.compare(scored, top.peek()) < 0) {
+                top.poll();
+                top.offer(scored);
+            }
+        }
+
+        private SearchHits page(long offset) {
+            List<Scored> ranked = new ArrayList<>(top);
+            ranked.sort(order);
+            List<Long> lectureIds = ranked.stream()
+                    .skip(offset)
+                    .map(Scored::lectureId)
+                    .toList();
+            return new SearchHits(lectureIds, total);
+        }
+
+        // 단어마다 제목에 있으면 2점 (제목 단어의 시작이면 1점 추가), 강사 이름에만 있으면 1점, 어디에도 없으면 제외(-1)
+        private int relevance(SearchDocument document) {
+            int score = 0;
+            for (String word : words) {
+                int position = document.title.indexOf(word);
+                if (position >= 0) {
+                    score += 2;
+                    if (position == 0 || !Character.isLetterOrDigit(document.title.charAt(position - 1))) {
+                        score++;
+                    }
+                } else if (document.instructorName.contains(word)) {
+                    score++;
+                } else {
+                    return -1;
+                }
+            }
+            return score;
+        }
+
+        // 정렬 기준이 같으면 강의 ID가 큰 순서 (목록 조회와 동일)
+        private static Comparator<Scored> order(String sort) {
+            Comparator<Scored> primary = switch (sort) {
+                case "popular" -> Comparator.comparingInt(Scored::participants).reversed();
+                case "recent" -> Comparator.comparingLong(Scored::createdAt).reversed();
+                case "rate" -> Comparator.comparingDouble(Scored::fillRate).reversed();
+                default -> Comparator.comparingInt(Scored::relevance).reversed();
+            };
+            return primary.thenComparing(Comparator.comparingLong(Scored::lectureId).reversed());
+        }
+    }
+
+    private record Scored(long lectureId, int relevance, int participants, double fillRate, long createdAt) {
+    }
+}
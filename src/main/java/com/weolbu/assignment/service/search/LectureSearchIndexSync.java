@@ -0,0 +1,82 @@
+package com.weolbu.assignment.service.search;
+
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.LectureRepository.LectureSearchSource;
+import com.weolbu.assignment.service.event.LectureCreatedEvent;
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import com.weolbu.assignment.service.search.LectureSearchIndex.IndexedLecture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 색인 동기화 : 시작 시와 rebuild-interval마다 DB 기준으로 재구성하고,
+ * 그 사이에는 강의 개설과 수강 신청 커밋 이벤트로 색인을 증분 갱신한다.
+ * 재구성 중에 개설된 강의는 새 색인으로 바꾼 뒤 마지막 강의 ID 다음부터 이어서 읽는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "lecture.search.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LectureSearchIndexSync {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final LectureSearchIndex searchIndex;
+    private final LectureRepository lectureRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${lecture.search.rebuild-interval:600000}",
+            initialDelayString = "${lecture.search.rebuild-interval:600000}")
+    public void rebuild() {
+        List<IndexedLecture> lectures = new ArrayList<>();
+        long lastLectureId = 0;
+        List<LectureSearchSource> page;
+        do {
+            page = lectureRepository.findSearchSourcesAfter(lastLectureId, PageRequest.of(0, PAGE_SIZE));
+            page.forEach(source -> lectures.add(toIndexedLecture(source)));
+            if (!page.isEmpty()) {
+                lastLectureId = page.get(page.size() - 1).getLectureId();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        searchIndex.replaceAll(lectures);
+        catchUp();
+        log.info("강의 검색 색인 재구성 완료 : 강의 {}개", lectures.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLectureCreated(LectureCreatedEvent event) {
+        lectureRepository.findSearchSource(event.getLectureId())
+                .ifPresent(source -> searchIndex.add(toIndexedLecture(source)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnrollmentChanged(LectureEnrollmentChangedEvent event) {
+        searchIndex.increment(event.getLectureId(), event.getEnrolledCount());
+    }
+
+    // 재구성 중에 개설되어 새 색인에 빠진 강의 추가
+    private void catchUp() {
+        List<LectureSearchSource> page;
+        do {
+            page = lectureRepository.findSearchSourcesAfter(searchIndex.lastLectureId(), PageRequest.of(0, PAGE_SIZE));
+            page.forEach(source -> searchIndex.add(toIndexedLecture(source)));
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    private static IndexedLecture toIndexedLecture(LectureSearchSource source) {
+        return new IndexedLecture(source.getLectureId(), source.getTitle(), source.getInstructorName(),
+                source.getCreatedAt(), source.getCurrentParticipants(), source.getMaxParticipants());
+    }
+}
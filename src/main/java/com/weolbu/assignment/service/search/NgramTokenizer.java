@@ -0,0 +1,63 @@
+package com.weolbu.assignment.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색어와 강의 제목, 강사 이름을 n-gram으로 나누는 토크나이저.
+ * 공백과 문장 부호로 단어를 나눈 뒤 단어마다 연속된 두 글자(bi-gram)를 만든다.
+ * 한 글자 단어는 한 글자(uni-gram) 그대로 사용한다 (한국어 한 글자 검색용).
+ */
+final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    // NFC 정규화 후 소문자로 변환
+    static String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        for (String word : normalized.split("[\\s\\p{Punct}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    // 색인용 : 단어의 모든 bi-gram과 모든 글자
+    static Set<String> indexTerms(String normalized) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(normalized)) {
+            for (int i = 0; i < word.length(); i++) {
+                terms.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    terms.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    // 검색용 : 두 글자 이상 단어는 bi-gram, 한 글자 단어는 그 글자
+    static Set<String> queryTerms(List<String> queryWords) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : queryWords) {
+            if (word.length() == 1) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+}
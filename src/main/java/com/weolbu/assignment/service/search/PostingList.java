@@ -0,0 +1,143 @@
+package com.weolbu.assignment.service.search;
+
+import java.util.Arrays;
+
+/**
+ * 강의 ID 오름차순 포스팅 목록.
+ * 이전 ID와의 차이를 가변 길이 정수(7비트 단위)로 저장해 대부분의 항목이 1~2바이트를 차지하고,
+ * BLOCK_SIZE 항목마다 건너뛰기 지점을 두어 교집합 계산 시 블록 단위로 건너뛸 수 있다.
+ * 추가는 한 번에 한 스레드만 하고, 조회는 잠금 없이 마지막으로 공개된 스냅샷을 읽는다
+ * (배열은 스냅샷 길이 뒤쪽에만 쓰므로 이전 스냅샷을 읽는 중인 조회와 겹치지 않음).
+ */
+final class PostingList {
+
+    static final long END = -1;
+    private static final int BLOCK_SIZE = 128;
+
+    private volatile Snapshot snapshot = new Snapshot(new byte[8], 0, 0, 0, new long[1], new long[1], new int[1], 0);
+
+    int size() {
+        return snapshot.count;
+    }
+
+    // 마지막 ID보다 큰 ID만 추가 (오름차순 유지, 같거나 작은 ID는 무시하고 false 반환)
+    synchronized boolean add(long lectureId) {
+        Snapshot current = snapshot;
+        if (current.count > 0 && lectureId <= current.lastId) {
+            return false;
+        }
+
+        byte[] data = current.data;
+        long[] skipFirstIds = current.skipFirstIds;
+        long[] skipBaseIds = current.skipBaseIds;
+        int[] skipOffsets = current.skipOffsets;
+        int skipCount = current.skipCount;
+
+        if (current.count % BLOCK_SIZE == 0) {
+            if (skipCount == skipFirstIds.length) {
+                skipFirstIds = Arrays.copyOf(skipFirstIds, skipCount * 2);
+                skipBaseIds = Arrays.copyOf(skipBaseIds, skipCount * 2);
+                skipOffsets = Arrays.copyOf(skipOffsets, skipCount * 2);
+            }
+            skipFirstIds[skipCount] = lectureId;
+            skipBaseIds[skipCount] = current.lastId;
+            skipOffsets[skipCount] = current.length;
+            skipCount++;
+        }
+
+        if (data.length - current.length < 10) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        int length = writeVarLong(data, current.length, lectureId - current.lastId);
+
+        snapshot = new Snapshot(data, length, current.count + 1, lectureId, skipFirstIds, skipBaseIds, skipOffsets, skipCount);
+        return true;
+    }
+
+    Cursor cursor() {
+        return new Cursor(snapshot);
+    }
+
+    private static int writeVarLong(byte[] data, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[offset++] = (byte) value;
+        return offset;
+    }
+
+    private record Snapshot(byte[] data, int length, int count, long lastId,
+                            long[] skipFirstIds, long[] skipBaseIds, int[] skipOffsets, int skipCount) {
+    }
+
+    // 포스팅 목록을 앞에서부터 한 방향으로 읽는 커서
+    static final class Cursor {
+
+        private final Snapshot snapshot;
+        private int offset;
+        private int index;
+        private int block = -1;
+        private long current;
+
+        private Cursor(Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        int size() {
+            return snapshot.count;
+        }
+
+        // 다음 ID (없으면 END)
+        long next() {
+            if (index >= snapshot.count) {
+                return END;
+            }
+            if (index % BLOCK_SIZE == 0) {
+                block++;
+            }
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = snapshot.data[offset++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            index++;
+            current = current + delta;
+            return current;
+        }
+
+        // target 이상인 첫 ID (없으면 END) : target이 뒤쪽 블록에 있으면 해당 블록 시작으로 건너뜀
+        long advance(long target) {
+            if (index > 0 && current >= target) {
+                return current;
+            }
+            // 첫 ID가 target 이하인 마지막 블록을 이진 탐색
+            int targetBlock = block;
+            int low = block + 1;
+            int high = snapshot.skipCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (snapshot.skipFirstIds[mid] <= target) {
+                    targetBlock = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (targetBlock > block) {
+                block = targetBlock - 1;
+                index = targetBlock * BLOCK_SIZE;
+                offset = snapshot.skipOffsets[targetBlock];
+                current = snapshot.skipBaseIds[targetBlock];
+            }
+            long id;
+            do {
+                id = next();
+            } while (id != END && id < target);
+            return id;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.weolbu.assignment.service.search;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 검색 색인에 보관하는 강의 정보 : 후보 확인용 정규화 문자열과 정렬 기준 값
+final class SearchDocument {
+
+    final long lectureId;
+    final String title;
+    final String instructorName;
+    final long createdAt;
+    final int maxParticipants;
+    final AtomicInteger participants;
+
+    SearchDocument(long lectureId, String title, String instructorName, long createdAt,
+                   int participants, int maxParticipants) {
+        this.lectureId = lectureId;
+        this.title = title;
+        this.instructorName = instructorName;
+        this.createdAt = createdAt;
+        this.participants = new AtomicInteger(participants);
+        this.maxParticipants = maxParticipants;
+    }
+
+    double fillRate() {
+        return maxParticipants == 0 ? 0 : (double) participants.get() / maxParticipants;
+    }
+}
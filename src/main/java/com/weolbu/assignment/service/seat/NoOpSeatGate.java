@@ -0,0 +1,25 @@
+package com.weolbu.assignment.service.seat;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+// 게이트를 사용하지 않을 때의 기본 구현 : 모든 판단을 DB에 맡김
+@Component
+@ConditionalOnProperty(name = "enrollment.seat-gate.type", havingValue = "none", matchIfMissing = true)
+public class NoOpSeatGate implements SeatGate {
+
+    @Override
+    public SeatGateResult tryAcquire(Long lectureId, Long studentId) {
+        return SeatGateResult.NOT_TRACKED;
+    }
+
+    @Override
+    public void release(Long lectureId, Long studentId) {
+    }
+
+    @Override
+    public void register(Long lectureId, int remainingSeats, Collection<Long> enrolledStudentIds) {
+    }
+}
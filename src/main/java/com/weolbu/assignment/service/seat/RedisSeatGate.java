@@ -0,0 +1,87 @@
+package com.weolbu.assignment.service.seat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis Lua 스크립트로 좌석 재고를 관리하는 게이트.
+ * 남은 좌석 수 확인, 차감, 중복 신청 확인이 스크립트 하나에서 원자적으로 처리되므로
+ * 정원이 찬 강의나 중복 신청은 JDBC 커넥션 없이 거절된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enrollment.seat-gate.type", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisSeatGate implements SeatGate {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-gate-acquire.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-gate-release.lua"), Long.class);
+    private static final RedisScript<Long> REGISTER_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-gate-register.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public SeatGateResult tryAcquire(Long lectureId, Long studentId) {
+        try {
+            Long code = redisTemplate.execute(ACQUIRE_SCRIPT, keys(lectureId), String.valueOf(studentId));
+            return toResult(code);
+        } catch (DataAccessException e) {
+            // Redis 장애 시에는 게이트를 건너뛰고 DB에서 판단
+            log.warn("좌석 게이트를 사용할 수 없어 DB에서 처리합니다. lectureId={}", lectureId, e);
+            return SeatGateResult.NOT_TRACKED;
+        }
+    }
+
+    @Override
+    public void release(Long lectureId, Long studentId) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, keys(lectureId), String.valueOf(studentId));
+        } catch (DataAccessException e) {
+            log.error("좌석 게이트 보상 처리에 실패했습니다. lectureId={}, studentId={}", lectureId, studentId, e);
+        }
+    }
+
+    @Override
+    public void register(Long lectureId, int remainingSeats, Collection<Long> enrolledStudentIds) {
+        List<String> args = new ArrayList<>(enrolledStudentIds.size() + 1);
+        args.add(String.valueOf(Math.max(remainingSeats, 0)));
+        enrolledStudentIds.forEach(studentId -> args.add(String.valueOf(studentId)));
+
+        try {
+            redisTemplate.execute(REGISTER_SCRIPT, keys(lectureId), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("좌석 게이트에 강의를 등록하지 못했습니다. lectureId={}", lectureId, e);
+        }
+    }
+
+    // 두 키가 같은 슬롯에 배치되도록 해시 태그 사용
+    private List<String> keys(Long lectureId) {
+        String tag = "seat-gate:{" + lectureId + "}";
+        return List.of(tag + ":remaining", tag + ":students");
+    }
+
+    private SeatGateResult toResult(Long code) {
+        if (code == null) {
+            return SeatGateResult.NOT_TRACKED;
+        }
+        return switch (code.intValue()) {
+            case 0 -> SeatGateResult.SOLD_OUT;
+            case 1 -> SeatGateResult.ADMITTED;
+            case 2 -> SeatGateResult.ALREADY_ENROLLED;
+            default -> SeatGateResult.NOT_TRACKED;
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.weolbu.assignment.service.seat;
+
+import java.util.Collection;
+
+/**
+ * 수강 신청이 DB의 강의 row에 닿기 전에 좌석 재고와 중복 신청을 먼저 확인하는 게이트.
+ * 게이트가 추적하지 않는 강의는 {@link SeatGateResult#NOT_TRACKED}를 반환하고, 최종 판단은 DB가 한다.
+ */
+public interface SeatGate {
+
+    // 좌석 하나를 확보하고 학생을 신청자 목록에 추가
+    SeatGateResult tryAcquire(Long lectureId, Long studentId);
+
+    // DB 저장 실패 시 확보했던 좌석 반환 (보상 처리)
+    void release(Long lectureId, Long studentId);
+
+    // 강의 좌석 재고 등록 (이미 등록된 강의는 덮어쓰지 않음)
+    void register(Long lectureId, int remainingSeats, Collection<Long> enrolledStudentIds);
+}
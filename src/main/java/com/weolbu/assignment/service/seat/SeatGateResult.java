@@ -0,0 +1,8 @@
+package com.weolbu.assignment.service.seat;
+
+public enum SeatGateResult {
+    ADMITTED,           // 좌석 확보 성공
+    SOLD_OUT,           // 정원 초과
+    ALREADY_ENROLLED,   // 이미 수강 신청한 학생
+    NOT_TRACKED         // 게이트에 등록되지 않은 강의 (DB에서 판단)
+}
@@ -0,0 +1,75 @@
+package com.weolbu.assignment.service.seat;
+
+import com.weolbu.assignment.entity.Lecture;
+import com.weolbu.assignment.repository.EnrollmentRepository;
+import com.weolbu.assignment.repository.LectureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 애플리케이션 시작 시 DB의 강의 정원과 신청 현황을 좌석 게이트에 적재
+@Slf4j
+@Component
+@ConditionalOnExpression("'${enrollment.seat-gate.type:none}' != 'none'")
+@RequiredArgsConstructor
+public class SeatGateWarmUp {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final SeatGate seatGate;
+    private final LectureRepository lectureRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final SeatSlotCounter seatSlotCounter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("lectureId"));
+        Page<Lecture> page;
+        long registered = 0;
+
+        do {
+            page = lectureRepository.findAll(pageable);
+            registerLectures(page.getContent());
+            registered += page.getNumberOfElements();
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+
+        log.info("좌석 게이트 적재 완료 : 강의 {}개", registered);
+    }
+
+    private void registerLectures(List<Lecture> lectures) {
+        if (lectures.isEmpty()) {
+            return;
+        }
+
+        List<Long> lectureIds = lectures.stream().map(Lecture::getLectureId).toList();
+        Map<Long, List<Long>> studentIdsByLecture = new HashMap<>();
+        for (EnrollmentRepository.LectureStudent enrollment : enrollmentRepository.findLectureStudentsByLectureIds(lectureIds)) {
+            studentIdsByLecture.computeIfAbsent(enrollment.getLectureId(), id -> new ArrayList<>())
+                    .add(enrollment.getStudentId());
+        }
+
+        Map<Long, Integer> slotUsedSeats = seatSlotCounter.usedSeats(lectureIds);
+
+        for (Lecture lecture : lectures) {
+            seatGate.register(
+                    lecture.getLectureId(),
+                    lecture.getMaxParticipants() - lecture.getCurrentParticipants()
+                            - slotUsedSeats.getOrDefault(lecture.getLectureId(), 0),
+                    studentIdsByLecture.getOrDefault(lecture.getLectureId(), List.of())
+            );
+        }
+    }
+}
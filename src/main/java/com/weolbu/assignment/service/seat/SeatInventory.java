@@ -0,0 +1,153 @@
+package com.weolbu.assignment.service.seat;
+
+import com.weolbu.assignment.repository.LectureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * JVM 메모리에서 강의별 남은 좌석을 관리하는 게이트.
+ * 강의마다 0부터 차례로 붙인 인덱스를 부여하고, 남은 좌석은 인덱스 위치의 int 값으로 보관한다.
+ * 배열은 고정 크기 세그먼트로 나눠 새 강의가 늘어나도 기존 세그먼트를 복사하지 않으며, 좌석 확보는 CAS 한 번으로 끝난다.
+ * 좌석을 확보한 학생은 반영이 확인될 때까지만 기억해 같은 확보를 두 번 반환하지 않으며,
+ * 그 밖의 중복 신청 여부는 DB에서 확인한다. 단일 인스턴스 배포를 전제로 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enrollment.seat-gate.type", havingValue = "memory")
+@RequiredArgsConstructor
+public class SeatInventory implements SeatGate {
+
+    private static final int SEGMENT_BITS = 10;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int MAX_SEGMENTS = 1 << 12;
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final LectureRepository lectureRepository;
+
+    private final Map<Long, Integer> indexes = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<AtomicIntegerArray> segments = new AtomicReferenceArray<>(MAX_SEGMENTS);
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    // 강의별로 좌석을 확보한 학생 (반환은 확보마다 한 번만, 점검에서 DB와 일치하면 비움)
+    private final Map<Long, Set<Long>> holders = new ConcurrentHashMap<>();
+
+    // 직전 점검에서 발견한 강의별 차이 (진행 중인 트랜잭션과 구분하기 위해 두 번 연속 같을 때만 보정)
+    private final Map<Long, Integer> suspectedDrifts = new HashMap<>();
+
+    @Override
+    public SeatGateResult tryAcquire(Long lectureId, Long studentId) {
+        Integer index = indexes.get(lectureId);
+        if (index == null) {
+            return SeatGateResult.NOT_TRACKED;
+        }
+        Set<Long> lectureHolders = holders.computeIfAbsent(lectureId, id -> ConcurrentHashMap.newKeySet());
+        if (!lectureHolders.add(studentId)) {
+            return SeatGateResult.ALREADY_ENROLLED;
+        }
+
+        AtomicIntegerArray segment = segmentOf(index);
+        int offset = index & SEGMENT_MASK;
+        while (true) {
+            int remaining = segment.get(offset);
+            if (remaining <= 0) {
+                lectureHolders.remove(studentId);
+                return SeatGateResult.SOLD_OUT;
+            }
+            if (segment.compareAndSet(offset, remaining, remaining - 1)) {
+                return SeatGateResult.ADMITTED;
+            }
+        }
+    }
+
+    @Override
+    public void release(Long lectureId, Long studentId) {
+        // 확보한 학생이 아니거나 이미 반환한 경우 무시
+        Integer index = indexes.get(lectureId);
+        Set<Long> lectureHolders = holders.get(lectureId);
+        if (index != null && lectureHolders != null && lectureHolders.remove(studentId)) {
+            segmentOf(index).incrementAndGet(index & SEGMENT_MASK);
+        }
+    }
+
+    @Override
+    public void register(Long lectureId, int remainingSeats, Collection<Long> enrolledStudentIds) {
+        indexes.computeIfAbsent(lectureId, id -> allocate(Math.max(remainingSeats, 0)));
+    }
+
+    public OptionalInt remainingSeats(Long lectureId) {
+        Integer index = indexes.get(lectureId);
+        if (index == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(segmentOf(index).get(index & SEGMENT_MASK));
+    }
+
+    // 새 인덱스에 남은 좌석을 기록한 뒤 인덱스 반환 (용량을 넘으면 추적하지 않음)
+    private Integer allocate(int remainingSeats) {
+        int index = nextIndex.getAndIncrement();
+        int segmentNo = index >>> SEGMENT_BITS;
+        if (segmentNo >= MAX_SEGMENTS) {
+            log.warn("좌석 재고 용량을 초과해 강의를 추적하지 않습니다. index={}", index);
+            return null;
+        }
+        segments.compareAndSet(segmentNo, null, new AtomicIntegerArray(SEGMENT_SIZE));
+        segments.get(segmentNo).set(index & SEGMENT_MASK, remainingSeats);
+        return index;
+    }
+
+    private AtomicIntegerArray segmentOf(int index) {
+        return segments.get(index >>> SEGMENT_BITS);
+    }
+
+    // 남은 좌석을 정원 - 수강 신청 건수(COUNT(*))와 비교해 차이를 보정
+    @Scheduled(fixedDelayString = "${enrollment.seat-gate.reconcile-interval:30000}")
+    public synchronized void reconcile() {
+        List<Long> lectureIds = new ArrayList<>(indexes.keySet());
+        for (int from = 0; from < lectureIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = lectureIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, lectureIds.size()));
+            for (LectureRepository.LectureSeatCount seatCount : lectureRepository.findSeatCountsByLectureIdIn(chunk)) {
+                int expected = Math.max(seatCount.getMaxParticipants() - seatCount.getEnrolledCount().intValue(), 0);
+                reconcileLecture(seatCount.getLectureId(), expected);
+            }
+        }
+    }
+
+    private void reconcileLecture(Long lectureId, int expectedRemaining) {
+        Integer index = indexes.get(lectureId);
+        AtomicIntegerArray segment = segmentOf(index);
+        int offset = index & SEGMENT_MASK;
+
+        int drift = expectedRemaining - segment.get(offset);
+        if (drift == 0) {
+            // DB와 일치하면 확보한 좌석이 모두 반영된 것으로 보고 비움
+            // (진행 중이던 확보가 이후 실패하면 반환되지 않은 좌석은 다음 점검에서 보정됨)
+            suspectedDrifts.remove(lectureId);
+            holders.remove(lectureId);
+            return;
+        }
+
+        // 처음 발견한 차이는 커밋 전인 신청일 수 있으므로 다음 점검까지 기다림
+        Integer previous = suspectedDrifts.put(lectureId, drift);
+        if (previous != null && previous == drift) {
+            segment.addAndGet(offset, drift);
+            suspectedDrifts.remove(lectureId);
+            log.warn("좌석 재고 보정 : lectureId={}, drift={}", lectureId, drift);
+        }
+    }
+}
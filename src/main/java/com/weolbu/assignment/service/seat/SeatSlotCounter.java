@@ -0,0 +1,126 @@
+package com.weolbu.assignment.service.seat;
+
+import com.weolbu.assignment.entity.LectureSeatSlot;
+import com.weolbu.assignment.repository.EnrollmentJdbcRepository;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.LectureSeatSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인기 강의의 좌석 슬롯 관리.
+ * 정원을 N개 슬롯 row로 나누고, 신청자는 무작위 슬롯에서 좌석을 확보하다가 슬롯이 소진되면 다른 슬롯으로 넘어간다.
+ * 실제 신청자 수는 lectures.current_participants + 슬롯 사용 좌석 합계이며,
+ * 주기적으로 슬롯 사용 좌석을 강의 row로 옮겨 정렬 기준 컬럼이 크게 뒤처지지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatSlotCounter {
+
+    private final LectureSeatSlotRepository seatSlotRepository;
+    private final LectureRepository lectureRepository;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 남은 정원을 slotCount개 슬롯에 고르게 배분
+    @Transactional
+    public void createSlots(Long lectureId, int remainingSeats, int slotCount) {
+        List<LectureSeatSlot> slots = new ArrayList<>(slotCount);
+        for (int slotNo = 0; slotNo < slotCount; slotNo++) {
+            int capacity = remainingSeats / slotCount + (slotNo < remainingSeats % slotCount ? 1 : 0);
+            slots.add(LectureSeatSlot.builder()
+                    .lectureId(lectureId)
+                    .slotNo(slotNo)
+                    .capacity(capacity)
+                    .used(0)
+                    .build());
+        }
+        seatSlotRepository.saveAll(slots);
+    }
+
+    // 최대 seats개 좌석 확보 후 확보한 수 반환 (무작위 슬롯부터 시작해 소진되면 다음 슬롯 시도)
+    @Transactional
+    public int claim(Long lectureId, int slotCount, int seats) {
+        int start = ThreadLocalRandom.current().nextInt(slotCount);
+        int granted = 0;
+        for (int i = 0; i < slotCount && granted < seats; i++) {
+            int slotNo = (start + i) % slotCount;
+            if (seats - granted == 1) {
+                granted += seatSlotRepository.claimOne(lectureId, slotNo);
+            } else {
+                granted += takeFromSlot(lectureId, slotNo, seats - granted);
+            }
+        }
+        return granted;
+    }
+
+    private int takeFromSlot(Long lectureId, int slotNo, int seats) {
+        return seatSlotRepository.findByLectureIdAndSlotNo(lectureId, slotNo)
+                .map(slot -> slot.take(seats))
+                .orElse(0);
+    }
+
+    // 같은 트랜잭션에서 확보했지만 쓰지 않게 된 좌석 반환.
+    // 확보한 슬롯은 커밋 전까지 잠겨 있어 그 사이 강의 신청자 수로 옮겨지지 않으므로, 반환할 사용 좌석이 항상 남아 있음
+    @Transactional
+    public void release(Long lectureId, int slotCount, int seats) {
+        int start = ThreadLocalRandom.current().nextInt(slotCount);
+        int released = 0;
+        for (int i = 0; i < slotCount && released < seats; i++) {
+            int slotNo = (start + i) % slotCount;
+            int remaining = seats - released;
+            released += seatSlotRepository.findByLectureIdAndSlotNo(lectureId, slotNo)
+                    .map(slot -> slot.release(remaining))
+                    .orElse(0);
+        }
+    }
+
+    // 강의별 슬롯 사용 좌석 합계 (슬롯이 없는 강의는 포함하지 않음)
+    public Map<Long, Integer> usedSeats(Collection<Long> lectureIds) {
+        if (lectureIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> usedSeats = new HashMap<>();
+        for (LectureSeatSlotRepository.SlotUsage usage : seatSlotRepository.sumUsedByLectureIds(lectureIds)) {
+            usedSeats.put(usage.getLectureId(), usage.getUsed().intValue());
+        }
+        return usedSeats;
+    }
+
+    // 슬롯 사용 좌석을 강의 신청자 수로 옮김
+    @Scheduled(fixedDelayString = "${enrollment.seat-slots.fold-interval:5000}")
+    public void foldAll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (Long lectureId : lectureRepository.findSeatSlottedLectureIds()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> fold(lectureId));
+            } catch (RuntimeException e) {
+                log.warn("좌석 슬롯 반영 실패 : lectureId={}", lectureId, e);
+            }
+        }
+    }
+
+    // 슬롯을 모두 잠근 상태에서 옮겨야 옮기는 도중 확보된 좌석이 누락되지 않음
+    private void fold(Long lectureId) {
+        int folded = 0;
+        for (LectureSeatSlot slot : seatSlotRepository.findAllByLectureId(lectureId)) {
+            folded += slot.fold();
+        }
+        if (folded > 0) {
+            enrollmentJdbcRepository.addParticipants(lectureId, folded);
+        }
+    }
+}
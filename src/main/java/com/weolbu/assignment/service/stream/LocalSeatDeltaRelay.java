@@ -0,0 +1,26 @@
+package com.weolbu.assignment.service.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 인스턴스가 하나일 때의 기본 구현 : 이 인스턴스의 구독자에게만 전달
+@Component
+@ConditionalOnProperty(name = "lecture.seat-stream.relay", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalSeatDeltaRelay implements SeatDeltaRelay {
+
+    private final SeatCountBroadcaster broadcaster;
+
+    @Override
+    public void publish(Map<Long, Integer> deltas) {
+        broadcaster.fanOut(deltas);
+    }
+
+    @Override
+    public boolean localOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package com.weolbu.assignment.service.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 인스턴스가 여러 개일 때의 구현 : 각 인스턴스가 틱마다 모은 변화량을 Redis 채널 하나로 발행하고,
+ * 모든 인스턴스(자신 포함)가 받아 자기 구독자에게 전달한다. 인스턴스당 틱마다 메시지 한 건이다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "lecture.seat-stream.relay", havingValue = "redis")
+public class RedisSeatDeltaRelay implements SeatDeltaRelay {
+
+    private static final String CHANNEL = "lecture-seat-deltas";
+    private static final TypeReference<Map<Long, Integer>> DELTAS_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RedisSeatDeltaRelay(StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               RedisMessageListenerContainer listenerContainer,
+                               SeatCountBroadcaster broadcaster) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                broadcaster.fanOut(objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), DELTAS_TYPE));
+            } catch (JsonProcessingException e) {
+                log.warn("좌석 변화량 메시지를 읽지 못했습니다.", e);
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void publish(Map<Long, Integer> deltas) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(deltas));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("좌석 변화량 발행에 실패했습니다. 강의 {}개의 변화량을 전달하지 못했습니다.", deltas.size(), e);
+        }
+    }
+
+    @Override
+    public boolean localOnly() {
+        return false;
+    }
+}
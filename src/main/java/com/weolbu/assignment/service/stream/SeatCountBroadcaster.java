@@ -0,0 +1,199 @@
+package com.weolbu.assignment.service.stream;
+
+import com.weolbu.assignment.dto.LectureSearchResponse;
+import com.weolbu.assignment.dto.SeatCountDelta;
+import com.weolbu.assignment.exception.InvalidSeatStreamRequestException;
+import com.weolbu.assignment.exception.SeatStreamCapacityExceededException;
+import com.weolbu.assignment.service.LectureService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 강의 신청자 수 SSE 구독 관리.
+ * 연결은 서블릿 비동기 요청으로 유지되어 대기 중인 구독자는 스레드를 차지하지 않는다.
+ * 변화량은 구독자별로 강의마다 합쳐 두고, 구독자마다 한 번에 하나의 전송 작업만 작성자 스레드에서 실행한다
+ * (느린 클라이언트는 자기 변화량만 쌓이고 다른 구독자의 전송을 막지 않음).
+ */
+@Slf4j
+@Component
+public class SeatCountBroadcaster {
+
+    private final LectureService lectureService;
+    private final int maxLecturesPerStream;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final ExecutorService writers;
+    private final Map<Long, Set<Subscriber>> subscribersByLecture = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public SeatCountBroadcaster(LectureService lectureService,
+                                @Value("${lecture.seat-stream.max-lectures-per-stream:50}") int maxLecturesPerStream,
+                                @Value("${lecture.seat-stream.max-subscribers:20000}") int maxSubscribers,
+                                @Value("${lecture.seat-stream.timeout:1800000}") long timeoutMillis,
+                                @Value("${lecture.seat-stream.writer-threads:4}") int writerThreads) {
+        this.lectureService = lectureService;
+        this.maxLecturesPerStream = maxLecturesPerStream;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.writers = Executors.newFixedThreadPool(writerThreads);
+    }
+
+    // 구독 등록 후 현재 신청자 수(snapshot)를 먼저 보내고, 이후 변화량(seats)을 보냄
+    public SseEmitter subscribe(Collection<Long> lectureIds) {
+        Set<Long> ids = lectureIds == null ? Set.of() : new LinkedHashSet<>(lectureIds);
+        if (ids.isEmpty() || ids.size() > maxLecturesPerStream) {
+            throw new InvalidSeatStreamRequestException("강의 ID는 1개 이상 " + maxLecturesPerStream + "개 이하로 지정해 주세요.");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new SeatStreamCapacityExceededException("좌석 스트림 연결이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis), ids);
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+        subscribers.add(subscriber);
+        // 해제 시 빈 집합을 지우는 작업과 겹치지 않도록 compute 안에서 추가
+        ids.forEach(id -> subscribersByLecture.compute(id, (key, set) -> {
+            Set<Subscriber> lectureSubscribers = set == null ? ConcurrentHashMap.newKeySet() : set;
+            lectureSubscribers.add(subscriber);
+            return lectureSubscribers;
+        }));
+
+        // 등록 뒤에 읽으므로 snapshot 이후의 변화량은 빠지지 않음 (snapshot을 보내기 전까지는 변화량 전송 보류)
+        try {
+            List<LectureSearchResponse> snapshot = lectureService.getLecturesByIds(ids);
+            subscriber.emitter.send(SseEmitter.event().name("snapshot").data(snapshot, MediaType.APPLICATION_JSON));
+        } catch (IOException | RuntimeException e) {
+            unsubscribe(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return subscriber.emitter;
+        }
+        subscriber.ready.set(true);
+        subscriber.schedule();
+        return subscriber.emitter;
+    }
+
+    public boolean hasSubscribers(Long lectureId) {
+        return subscribersByLecture.containsKey(lectureId);
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // 강의별 변화량을 구독자별로 합쳐 두고 전송 예약
+    public void fanOut(Map<Long, Integer> deltas) {
+        deltas.forEach((lectureId, delta) -> {
+            Set<Subscriber> lectureSubscribers = subscribersByLecture.get(lectureId);
+            if (lectureSubscribers != null) {
+                lectureSubscribers.forEach(subscriber -> {
+                    subscriber.add(lectureId, delta);
+                    subscriber.schedule();
+                });
+            }
+        });
+    }
+
+    // 변화가 없는 연결도 주기적으로 주석을 보내 프록시 유휴 종료를 막고 끊어진 연결을 정리
+    @Scheduled(fixedDelayString = "${lecture.seat-stream.heartbeat-interval:15000}",
+            initialDelayString = "${lecture.seat-stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> {
+            subscriber.heartbeatDue.set(true);
+            subscriber.schedule();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        writers.shutdown();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        for (Long lectureId : subscriber.lectureIds) {
+            subscribersByLecture.computeIfPresent(lectureId, (id, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<Long> lectureIds;
+        private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean ready = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Set<Long> lectureIds) {
+            this.emitter = emitter;
+            this.lectureIds = lectureIds;
+        }
+
+        private void add(Long lectureId, int delta) {
+            pending.merge(lectureId, delta, Integer::sum);
+        }
+
+        // 구독자당 실행 중인 전송 작업은 항상 하나만 존재
+        private void schedule() {
+            if (ready.get() && (!pending.isEmpty() || heartbeatDue.get()) && scheduled.compareAndSet(false, true)) {
+                writers.execute(this::flush);
+            }
+        }
+
+        private void flush() {
+            try {
+                List<SeatCountDelta> deltas = new ArrayList<>();
+                for (Long lectureId : pending.keySet()) {
+                    Integer delta = pending.remove(lectureId);
+                    if (delta != null && delta != 0) {
+                        deltas.add(new SeatCountDelta(lectureId, delta));
+                    }
+                }
+                if (!deltas.isEmpty()) {
+                    emitter.send(SseEmitter.event().name("seats").data(deltas, MediaType.APPLICATION_JSON));
+                    heartbeatDue.set(false);
+                }
+                if (heartbeatDue.getAndSet(false)) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊긴 연결 : 컨테이너의 오류 콜백을 기다리지 않고 바로 정리
+                log.debug("좌석 스트림 전송에 실패해 구독을 해제합니다.", e);
+                unsubscribe(this);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            schedule();
+        }
+    }
+}
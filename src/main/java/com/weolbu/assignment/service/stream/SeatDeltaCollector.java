@@ -0,0 +1,52 @@
+package com.weolbu.assignment.service.stream;
+
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 수강 신청 커밋 이벤트의 신청자 수 변화량을 강의별로 더해 두었다가 틱마다 한 번에 발행한다.
+ * 한 틱 동안 같은 강의에 신청이 여러 번 들어와도 구독자에게는 합친 변화량 한 건만 간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatDeltaCollector {
+
+    private final SeatDeltaRelay relay;
+    private final SeatCountBroadcaster broadcaster;
+    private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnrollmentChanged(LectureEnrollmentChangedEvent event) {
+        // 다른 인스턴스로 보내지 않으면 이 인스턴스에 구독자가 있는 강의만 모음
+        if (relay.localOnly() && !broadcaster.hasSubscribers(event.getLectureId())) {
+            return;
+        }
+        pending.merge(event.getLectureId(), event.getEnrolledCount(), Integer::sum);
+    }
+
+    @Scheduled(fixedRateString = "${lecture.seat-stream.tick-interval:250}")
+    public void tick() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 키별로 꺼내므로 꺼낸 뒤에 더해진 변화량은 다음 틱으로 넘어감
+        Map<Long, Integer> deltas = new HashMap<>();
+        for (Long lectureId : pending.keySet()) {
+            Integer delta = pending.remove(lectureId);
+            if (delta != null && delta != 0) {
+                deltas.put(lectureId, delta);
+            }
+        }
+        if (!deltas.isEmpty()) {
+            relay.publish(deltas);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.weolbu.assignment.service.stream;
+
+import java.util.Map;
+
+/**
+ * 틱마다 모은 강의별 신청자 수 변화량을 구독자가 연결된 인스턴스로 전달하는 방식.
+ * enrollment 설정과 같이 lecture.seat-stream.relay 값으로 구현을 고른다 (local | redis).
+ */
+public interface SeatDeltaRelay {
+
+    // 강의 ID별 변화량 (0인 강의는 포함하지 않음)
+    void publish(Map<Long, Integer> deltas);
+
+    // 구독자가 있는 강의만 모아도 되는지 (다른 인스턴스로 보내지 않으면 true)
+    boolean localOnly();
+}
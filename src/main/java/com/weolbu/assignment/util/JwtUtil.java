@@ -1,8 +1,12 @@
 package com.weolbu.assignment.util;
 
 import com.weolbu.assignment.exception.InvalidTokenException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -10,8 +14,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+
+/**
+ * JWT 발급과 검증.
+ * 파서는 한 번 만들어 재사용하고(스레드 안전), 검증한 토큰은 SHA-256 다이제스트를 키로 만료 시각까지 캐시해
+ * 같은 토큰이 다시 오면 서명 검증과 JSON 해석을 건너뛴다. 원문 토큰은 캐시에 남기지 않는다.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
@@ -24,17 +41,65 @@ public class JwtUtil {
     @Value("${spring.jwt.refresh-token-expiration}")
     private long refreshExpTime;
 
+    @Value("${spring.jwt.verified-token-cache.maximum-size:10000}")
+    private long verifiedTokenCacheSize;
+
     private Key key;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     private void init() {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 토큰을 한 번만 검증 (서명 오류는 JwtException, 만료는 ExpiredJwtException)
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+        Claims claims = parseToken(token);
+        VerifiedToken verified = new VerifiedToken(
+                Long.valueOf(claims.getSubject()),
+                claims.get("role", String.class),
+                claims.get("name", String.class),
+                claims.get("tokenType", String.class),
+                claims.getId(),
+                claims.getExpiration().toInstant());
+        verifiedTokens.put(digest, verified);
+        return verified;
     }
 
-    public String generateAccessToken(Long userId, String role) {
+    public String generateAccessToken(Long userId, String role, String name) {
         return Jwts.builder()
                 .setSubject(String.valueOf(userId))
+                .setId(UUID.randomUUID().toString())
                 .claim("role", role)
+                .claim("name", name)
                 .claim("tokenType", "access")
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + accessExpTime))
@@ -57,20 +122,12 @@ public class JwtUtil {
     }
 
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public Claims parseExpiredToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         } catch (Exception e) {
@@ -79,17 +136,17 @@ public class JwtUtil {
     }
     // 토큰에서 사용자 ID 추출
     public Long getIdFromToken(String token) {
-        return Long.valueOf(parseToken(token).getSubject());
+        return verify(token).userId();
     }
     // 토큰 만료 여부 확인
     public boolean isTokenExpired(String token) {
-        return parseToken(token).getExpiration().before(new Date());
+        return verify(token).isExpired(Instant.now());
     }
     // Access Token 검증
     public boolean validateAccessToken(String token) {
         try {
-            Claims claims = parseToken(token);
-            if ("access".equals(claims.get("tokenType", String.class)) && !isTokenExpired(token)) {
+            // 만료된 토큰은 verify에서 예외 발생
+            if (verify(token).isAccessToken()) {
                 return true;
             }
             throw new BadCredentialsException("유효하지 않은 Access Token입니다.");
@@ -101,8 +158,7 @@ public class JwtUtil {
     // Refresh Token 검증
     public boolean validateRefreshToken(String token) {
         try {
-            Claims claims = parseToken(token);
-            if ("refresh".equals(claims.get("tokenType", String.class)) && !isTokenExpired(token)) {
+            if (verify(token).isRefreshToken()) {
                 return true;
             }
             throw new BadCredentialsException("유효하지 않은 Refresh Token입니다.");
@@ -111,4 +167,13 @@ public class JwtUtil {
         }
     }
 
+    // 캐시 키 : 토큰 원문 대신 SHA-256 다이제스트
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
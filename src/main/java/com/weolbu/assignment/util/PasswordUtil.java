@@ -1,5 +1,6 @@
 package com.weolbu.assignment.util;
 
+import com.weolbu.assignment.service.auth.BCryptWorkFactor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,7 +8,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class PasswordUtil {
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(BCryptWorkFactor workFactor) {
+        return new BCryptPasswordEncoder(workFactor.strength());
     }
 }
@@ -0,0 +1,25 @@
+package com.weolbu.assignment.util;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료 시간 검증을 마친 토큰의 클레임 (변경 불가).
+ * tokenId(jti)는 로그아웃 시 토큰을 거부 목록에 올리는 데 쓴다 (jti가 없는 이전 토큰은 null).
+ */
+public record VerifiedToken(Long userId, String role, String name, String tokenType, String tokenId, Instant expiresAt) {
+
+    // JwtFilter가 검증한 Access Token을 요청에 담아 두는 속성 이름 (로그아웃 API에서 사용)
+    public static final String REQUEST_ATTRIBUTE = "verifiedToken";
+
+    public boolean isAccessToken() {
+        return "access".equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
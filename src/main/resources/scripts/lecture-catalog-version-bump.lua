@@ -0,0 +1,7 @@
+-- KEYS[1] : 강의 목록 버전
+-- ARGV[1] : 키가 없을 때 시작 값 (현재 시각 ms : 키가 사라져도 이전에 내려준 버전과 겹치지 않도록)
+-- 반환값 : 증가한 버전
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    redis.call('SET', KEYS[1], ARGV[1])
+end
+return redis.call('INCR', KEYS[1])
@@ -0,0 +1,10 @@
+-- KEYS[1] : 신청자 수 순위, KEYS[2] : 신청률 순위, KEYS[3] : 강의별 정원
+-- ARGV[1] : 강의 멤버, ARGV[2] : 증가할 신청자 수
+-- 반환값 : 0 등록되지 않은 강의, 1 반영
+local max = redis.call('HGET', KEYS[3], ARGV[1])
+if not max then
+    return 0
+end
+local participants = redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+redis.call('ZADD', KEYS[2], tonumber(participants) / tonumber(max), ARGV[1])
+return 1
@@ -0,0 +1,7 @@
+-- KEYS[1] : 로딩 잠금
+-- ARGV[1] : 잠금을 잡을 때 저장한 토큰
+-- 잠금이 만료되어 다른 인스턴스가 다시 잡은 경우에는 지우지 않는다
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,15 @@
+-- KEYS[1] : 남은 좌석 수, KEYS[2] : 신청한 학생 ID 집합
+-- ARGV[1] : 학생 ID
+-- 반환값 : -1 등록되지 않은 강의, 0 정원 초과, 1 좌석 확보, 2 중복 신청
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return 2
+end
+if tonumber(redis.call('GET', KEYS[1])) <= 0 then
+    return 0
+end
+redis.call('DECR', KEYS[1])
+redis.call('SADD', KEYS[2], ARGV[1])
+return 1
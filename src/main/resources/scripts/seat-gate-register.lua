@@ -0,0 +1,12 @@
+-- KEYS[1] : 남은 좌석 수, KEYS[2] : 신청한 학생 ID 집합
+-- ARGV[1] : 남은 좌석 수, ARGV[2..] : 이미 신청한 학생 ID
+-- 이미 등록된 강의는 다른 서버가 사용 중일 수 있으므로 덮어쓰지 않는다
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+redis.call('DEL', KEYS[2])
+for i = 2, #ARGV do
+    redis.call('SADD', KEYS[2], ARGV[i])
+end
+redis.call('SET', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,8 @@
+-- KEYS[1] : 남은 좌석 수, KEYS[2] : 신청한 학생 ID 집합
+-- ARGV[1] : 학생 ID
+-- 집합에서 실제로 제거된 경우에만 좌석을 반환하므로 여러 번 호출해도 안전하다
+if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then
+    redis.call('INCR', KEYS[1])
+    return 1
+end
+return 0
@@ -0,0 +1,112 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.auth.AccessTokenDenylist;
+import com.weolbu.assignment.util.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AccessTokenDenylistTest {
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private AccessTokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        denylist = new AccessTokenDenylist(redisTemplate, 1_000, 0.001);
+    }
+
+    @Test
+    @DisplayName("거부 목록에 없는 토큰은 Redis를 확인하지 않는다")
+    void isRevoked_SkipsRedisOnBloomMiss() {
+        // When
+        boolean revoked = denylist.isRevoked(token("jti-1", 600));
+
+        // Then
+        assertThat(revoked).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("거부한 토큰은 남은 유효 시간만큼 Redis에 저장하고, 이후 요청은 Redis로 확인해 거부한다")
+    void revoke_StoresWithRemainingLifetime() {
+        // Given
+        VerifiedToken token = token("jti-1", 600);
+        when(redisTemplate.hasKey("access-token-denylist:jti-1")).thenReturn(true);
+
+        // When
+        denylist.revoke(token);
+
+        // Then
+        verify(valueOperations).set(eq("access-token-denylist:jti-1"), eq("1"),
+                argThat((Duration ttl) -> ttl.getSeconds() > 590 && ttl.getSeconds() <= 600));
+        verify(redisTemplate).convertAndSend(AccessTokenDenylist.CHANNEL, "jti-1");
+        assertThat(denylist.isRevoked(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰과 jti가 없는 토큰은 저장하지 않는다")
+    void revoke_IgnoresExpiredAndLegacyTokens() {
+        // When
+        denylist.revoke(token("jti-1", -1));
+        denylist.revoke(token(null, 600));
+
+        // Then
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("블룸 필터에 있는데 Redis를 확인할 수 없으면 거부한다")
+    void isRevoked_FailsClosed() {
+        // Given
+        denylist.markRevoked("jti-1");
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then
+        assertThat(denylist.isRevoked(token("jti-1", 600))).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성하면 Redis에 남은 jti만 블룸 필터에 남는다")
+    @SuppressWarnings("unchecked")
+    void rebuild_DropsExpiredEntries() {
+        // Given : jti-1은 만료되어 Redis에서 사라졌고 jti-2는 다른 인스턴스에서 거부
+        denylist.markRevoked("jti-1");
+        Cursor<String> keys = mock(Cursor.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<String>>getArgument(0).accept("access-token-denylist:jti-2");
+            return null;
+        }).when(keys).forEachRemaining(any());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(keys);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+        // When
+        denylist.rebuild();
+
+        // Then
+        assertThat(denylist.isRevoked(token("jti-1", 600))).isFalse();
+        assertThat(denylist.isRevoked(token("jti-2", 600))).isTrue();
+    }
+
+    private static VerifiedToken token(String tokenId, long secondsLeft) {
+        return new VerifiedToken(1L, "STUDENT", "수강생", "access", tokenId, Instant.now().plusSeconds(secondsLeft));
+    }
+}
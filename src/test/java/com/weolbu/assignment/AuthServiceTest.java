@@ -7,7 +7,10 @@ import com.weolbu.assignment.entity.User;
 import com.weolbu.assignment.exception.InvalidLoginCredentialException;
 import com.weolbu.assignment.repository.UserRepository;
 import com.weolbu.assignment.service.AuthService;
+import com.weolbu.assignment.service.auth.AccessTokenDenylist;
+import com.weolbu.assignment.service.auth.PasswordHasher;
 import com.weolbu.assignment.util.JwtUtil;
+import com.weolbu.assignment.util.VerifiedToken;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,8 +19,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -33,7 +36,7 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private JwtUtil jwtUtil;
@@ -44,6 +47,9 @@ class AuthServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
+
     @Nested
     @DisplayName("로그인 성공 테스트")
     class LoginSuccessTests {
@@ -70,8 +76,8 @@ class AuthServiceTest {
                     .build();
 
             when(userRepository.findByEmail(email)).thenReturn(Optional.of(mockUser));
-            when(passwordEncoder.matches(password, mockUser.getPassword())).thenReturn(true);
-            when(jwtUtil.generateAccessToken(mockUser.getUserId(), mockUser.getRole().name())).thenReturn(accessToken);
+            when(passwordHasher.matches(password, mockUser.getPassword())).thenReturn(true);
+            when(jwtUtil.generateAccessToken(mockUser.getUserId(), mockUser.getRole().name(), mockUser.getUserName())).thenReturn(accessToken);
             when(jwtUtil.generateRefreshToken(mockUser.getUserId())).thenReturn(refreshToken);
             when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
@@ -131,7 +137,7 @@ class AuthServiceTest {
                     .build();
 
             when(userRepository.findByEmail(email)).thenReturn(Optional.of(mockUser));
-            when(passwordEncoder.matches(password, mockUser.getPassword())).thenReturn(false);
+            when(passwordHasher.matches(password, mockUser.getPassword())).thenReturn(false);
 
             // When & Then
             InvalidLoginCredentialException exception = Assertions.assertThrows(
@@ -141,4 +147,24 @@ class AuthServiceTest {
             Assertions.assertEquals("이메일 또는 비밀번호가 잘못되었습니다. 아이디와 비밀번호를 정확히 입력해 주세요.", exception.getMessage());
         }
     }
+
+    @Nested
+    @DisplayName("로그아웃 테스트")
+    class LogoutTests {
+
+        @Test
+        @DisplayName("Refresh Token을 지우고 Access Token을 거부 목록에 올린다")
+        void logout_Success() {
+            // Given
+            VerifiedToken accessToken = new VerifiedToken(1L, "STUDENT", "수강생", "access", "jti-1",
+                    Instant.now().plusSeconds(600));
+
+            // When
+            authService.logout(accessToken);
+
+            // Then
+            verify(redisTemplate, times(1)).delete("1");
+            verify(accessTokenDenylist, times(1)).revoke(accessToken);
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.util.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다")
+    void mightContain_NoFalseNegatives() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // When
+        for (long key = 0; key < 10_000; key++) {
+            filter.put(key);
+        }
+
+        // Then
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 건수만큼 추가했을 때 오탐률이 설정값 근처에 머문다")
+    void mightContain_FalsePositiveRate() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (long key = 0; key < 10_000; key++) {
+            filter.put(key);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (long key = 10_000; key < 110_000; key++) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("문자열 값도 추가하고 확인할 수 있다")
+    void mightContain_StringKeys() {
+        // Given
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        // When
+        filter.put("token-1");
+
+        // Then
+        assertThat(filter.mightContain("token-1")).isTrue();
+        assertThat(filter.mightContain("token-2")).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.config.CurrentUserArgumentResolver;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.exception.InvalidTokenException;
+import com.weolbu.assignment.service.auth.AuthenticatedUser;
+import com.weolbu.assignment.service.auth.CurrentUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrentUserArgumentResolverTest {
+
+    private final CurrentUserArgumentResolver resolver = new CurrentUserArgumentResolver();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("@CurrentUser 인자에 인증 사용자를 넘긴다")
+    void resolvesAuthenticatedUser() throws Exception {
+        // Given
+        AuthenticatedUser user = new AuthenticatedUser(1L, Role.STUDENT, "수강생");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        MethodParameter parameter = parameter("handle");
+
+        // When & Then
+        assertThat(resolver.supportsParameter(parameter)).isTrue();
+        assertThat(resolver.resolveArgument(parameter, null, null, null)).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없으면 예외가 발생하고, 애노테이션이 없는 인자는 처리하지 않는다")
+    void rejectsAnonymous() throws Exception {
+        // When & Then
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter("handle"), null, null, null))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThat(resolver.supportsParameter(parameter("unannotated"))).isFalse();
+    }
+
+    private static MethodParameter parameter(String methodName) throws NoSuchMethodException {
+        return new MethodParameter(Handlers.class.getDeclaredMethod(methodName, AuthenticatedUser.class), 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handlers {
+
+        void handle(@CurrentUser AuthenticatedUser user) {
+        }
+
+        void unannotated(AuthenticatedUser user) {
+        }
+    }
+}
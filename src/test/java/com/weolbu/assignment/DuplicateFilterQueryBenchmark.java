@@ -0,0 +1,135 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.config.StatementCountingDataSourcePostProcessor;
+import com.weolbu.assignment.entity.Lecture;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.entity.User;
+import com.weolbu.assignment.repository.EnrollmentRepository;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.EnrollmentDuplicateFilter;
+import com.weolbu.assignment.service.EnrollmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재시도가 많은 부하에서 중복 필터가 줄이는 SQL 문장 수 측정.
+ * 학생마다 같은 장바구니를 여러 번 다시 신청하며, 정원이 작아 대부분의 재시도는 정원 초과로 끝난다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(StatementCountingDataSourcePostProcessor.class)
+@TestPropertySource(properties = {"JWT_SECRET_KEY=test_secret_key_test_secret_key_test_secret_key"})
+class DuplicateFilterQueryBenchmark {
+
+    private static final int STUDENTS = 40;
+    private static final int LECTURES = 3;
+    private static final int CAPACITY = 5;
+    private static final int ATTEMPTS_PER_STUDENT = 5;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private EnrollmentDuplicateFilter duplicateFilter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StatementCountingDataSourcePostProcessor statementCounter;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Long> lectureIds = new ArrayList<>();
+    private User instructor;
+
+    @BeforeEach
+    void setUp() {
+        instructor = saveUser("filter-instructor@example.com", "01066660000", Role.INSTRUCTOR);
+        for (int i = 1; i <= STUDENTS; i++) {
+            saveUser("filter-student" + i + "@example.com", String.format("0106666%04d", i), Role.STUDENT);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(duplicateFilter, "enabled", true);
+        enrollmentRepository.deleteAllInBatch();
+        lectureRepository.deleteAllById(lectureIds);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("중복 필터 사용 여부에 따른 수강 신청 시도당 SQL 문장 수 비교")
+    void compareStatementsPerAttempt() {
+        ReflectionTestUtils.setField(duplicateFilter, "enabled", false);
+        double withoutFilter = statementsPerAttempt(createLectures());
+
+        ReflectionTestUtils.setField(duplicateFilter, "enabled", true);
+        double withFilter = statementsPerAttempt(createLectures());
+
+        System.out.printf("statements/attempt : without filter=%.2f, with filter=%.2f, saved=%.2f%n",
+                withoutFilter, withFilter, withoutFilter - withFilter);
+        assertThat(withFilter).isLessThan(withoutFilter);
+    }
+
+    // 매 실행마다 새 강의를 사용해 이전 실행에서 필터에 기록된 신청이 섞이지 않게 함
+    private List<Long> createLectures() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < LECTURES; i++) {
+            Lecture lecture = lectureRepository.save(Lecture.builder()
+                    .title("필터 강의 " + lectureIds.size())
+                    .maxParticipants(CAPACITY)
+                    .currentParticipants(0)
+                    .price(10000)
+                    .instructor(instructor)
+                    .build());
+            ids.add(lecture.getLectureId());
+            lectureIds.add(lecture.getLectureId());
+        }
+        return ids;
+    }
+
+    private double statementsPerAttempt(List<Long> cart) {
+        statementCounter.reset();
+        int attempts = 0;
+        for (int attempt = 0; attempt < ATTEMPTS_PER_STUDENT; attempt++) {
+            for (User student : users.subList(1, users.size())) {
+                enrollmentService.enrollInLectures(cart, student.getUserId());
+                attempts++;
+            }
+        }
+        return (double) statementCounter.getStatementCount() / attempts;
+    }
+
+    private User saveUser(String email, String phone, Role role) {
+        User user = userRepository.save(User.builder()
+                .userName(email)
+                .email(email)
+                .phone(phone)
+                .password("password")
+                .role(role)
+                .build());
+        users.add(user);
+        return user;
+    }
+}
@@ -0,0 +1,109 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.config.StatementCountingDataSourcePostProcessor;
+import com.weolbu.assignment.entity.Lecture;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.entity.User;
+import com.weolbu.assignment.repository.EnrollmentRepository;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.EnrollmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(StatementCountingDataSourcePostProcessor.class)
+@TestPropertySource(properties = {"JWT_SECRET_KEY=test_secret_key_test_secret_key_test_secret_key"})
+class EnrollmentBatchStatementCountTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StatementCountingDataSourcePostProcessor statementCounter;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Long> lectureIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User instructor = saveUser("batch-instructor@example.com", "01077770000", Role.INSTRUCTOR);
+        saveUser("batch-student1@example.com", "01077770001", Role.STUDENT);
+        saveUser("batch-student2@example.com", "01077770002", Role.STUDENT);
+
+        for (int i = 1; i <= 10; i++) {
+            Lecture lecture = lectureRepository.save(Lecture.builder()
+                    .title("배치 강의 " + i)
+                    .maxParticipants(30)
+                    .currentParticipants(0)
+                    .price(10000)
+                    .instructor(instructor)
+                    .build());
+            lectureIds.add(lecture.getLectureId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrollmentRepository.deleteAllInBatch();
+        lectureRepository.deleteAllById(lectureIds);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("신청 강의 수와 관계없이 실행되는 SQL 문장 수는 일정하다")
+    void enrollInLectures_ConstantStatementCount() {
+        // Given
+        Long firstStudent = users.get(1).getUserId();
+        Long secondStudent = users.get(2).getUserId();
+
+        // When
+        statementCounter.reset();
+        Map<String, String> twoLectures = enrollmentService.enrollInLectures(lectureIds.subList(0, 2), firstStudent);
+        long twoLectureStatements = statementCounter.getStatementCount();
+
+        statementCounter.reset();
+        Map<String, String> tenLectures = enrollmentService.enrollInLectures(lectureIds, secondStudent);
+        long tenLectureStatements = statementCounter.getStatementCount();
+
+        // Then
+        assertThat(twoLectures.values()).hasSize(2).containsOnly("강의 수강 신청 성공");
+        assertThat(tenLectures.values()).hasSize(10).containsOnly("강의 수강 신청 성공");
+        assertThat(tenLectureStatements).isEqualTo(twoLectureStatements);
+        assertThat(lectureRepository.findById(lectureIds.get(0)).orElseThrow().getCurrentParticipants()).isEqualTo(2);
+        assertThat(lectureRepository.findById(lectureIds.get(9)).orElseThrow().getCurrentParticipants()).isEqualTo(1);
+    }
+
+    private User saveUser(String email, String phone, Role role) {
+        User user = userRepository.save(User.builder()
+                .userName(email)
+                .email(email)
+                .phone(phone)
+                .password("password")
+                .role(role)
+                .build());
+        users.add(user);
+        return user;
+    }
+}
@@ -0,0 +1,206 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.entity.Lecture;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.entity.User;
+import com.weolbu.assignment.exception.EnrollmentConflictException;
+import com.weolbu.assignment.repository.EnrollmentJdbcRepository;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.concurrency.AtomicUpdateEnrollmentStrategy;
+import com.weolbu.assignment.service.concurrency.EnrollmentConcurrencyStrategy;
+import com.weolbu.assignment.service.concurrency.OptimisticLockEnrollmentStrategy;
+import com.weolbu.assignment.service.concurrency.PessimisticLockEnrollmentStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시성 제어 방식별 비교 : 스레드 N개가 강의 M개에 좌석 확보 요청을 보내고
+ * 처리량, p99 지연, 재시도 횟수, 충돌로 실패한 요청 수, 정원 초과 건수를 출력한다.
+ * ./gradlew benchmark -Dbenchmark.threads=64 -Dbenchmark.lectures=2 처럼 부하 조건을 바꿔 실행할 수 있다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = {"JWT_SECRET_KEY=test_secret_key_test_secret_key_test_secret_key"})
+class EnrollmentConcurrencyBenchmark {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final int LECTURES = Integer.getInteger("benchmark.lectures", 4);
+    private static final int REQUESTS_PER_THREAD = Integer.getInteger("benchmark.requests", 200);
+    private static final int HOLD_MILLIS = Integer.getInteger("benchmark.hold-millis", 0);
+    // 기본값 : 전체 요청의 절반만 받을 수 있는 정원
+    private static final int CAPACITY = Integer.getInteger("benchmark.capacity",
+            Math.max(THREADS * REQUESTS_PER_THREAD / LECTURES / 2, 1));
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User instructor;
+    private final List<Long> lectureIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        instructor = userRepository.save(User.builder()
+                .userName("벤치마크 강사")
+                .email("benchmark-instructor@example.com")
+                .phone("01099990002")
+                .password("password")
+                .role(Role.INSTRUCTOR)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        lectureRepository.deleteAllById(lectureIds);
+        userRepository.deleteById(instructor.getUserId());
+    }
+
+    private List<Long> createLectures() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < LECTURES; i++) {
+            Lecture lecture = lectureRepository.save(Lecture.builder()
+                    .title("벤치마크 강의 " + i)
+                    .maxParticipants(CAPACITY)
+                    .currentParticipants(0)
+                    .price(10000)
+                    .instructor(instructor)
+                    .build());
+            ids.add(lecture.getLectureId());
+        }
+        lectureIds.addAll(ids);
+        return ids;
+    }
+
+    @Test
+    @DisplayName("동시성 제어 방식별 처리량, p99 지연, 재시도 횟수, 정원 초과 건수 비교")
+    void compareStrategies() throws InterruptedException {
+        Map<String, EnrollmentConcurrencyStrategy> strategies = new LinkedHashMap<>();
+        strategies.put("atomic", new AtomicUpdateEnrollmentStrategy(lectureRepository, enrollmentJdbcRepository));
+        strategies.put("pessimistic", new PessimisticLockEnrollmentStrategy(lectureRepository));
+        strategies.put("optimistic", new OptimisticLockEnrollmentStrategy(lectureRepository, 10, 2));
+
+        System.out.printf("threads=%d, lectures=%d, requests=%d, capacity/lecture=%d, hold=%dms%n",
+                THREADS, LECTURES, THREADS * REQUESTS_PER_THREAD, CAPACITY, HOLD_MILLIS);
+        System.out.printf("%-12s %12s %10s %10s %10s %10s%n",
+                "strategy", "ops/s", "p99(ms)", "retries", "conflicts", "oversell");
+
+        for (Map.Entry<String, EnrollmentConcurrencyStrategy> entry : strategies.entrySet()) {
+            Result result = run(entry.getValue(), createLectures());
+            System.out.printf("%-12s %12.0f %10.2f %10d %10d %10d%n",
+                    entry.getKey(), result.throughput, result.p99Millis,
+                    entry.getValue().retryCount(), result.conflicts, result.oversell);
+
+            assertThat(result.oversell).as(entry.getKey()).isZero();
+        }
+    }
+
+    private Result run(EnrollmentConcurrencyStrategy strategy, List<Long> ids) throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(THREADS);
+        AtomicIntegerArray claimedByLecture = new AtomicIntegerArray(ids.size());
+        AtomicInteger conflicts = new AtomicInteger();
+        long[][] latencies = new long[THREADS][REQUESTS_PER_THREAD];
+
+        for (int t = 0; t < THREADS; t++) {
+            long[] threadLatencies = latencies[t];
+            executor.submit(() -> {
+                try {
+                    startGate.await();
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        int lecture = ThreadLocalRandom.current().nextInt(ids.size());
+                        long startedAt = System.nanoTime();
+                        // 충돌하면 트랜잭션을 끝낸 뒤 대기했다가 새 트랜잭션에서 다시 시도
+                        for (int attempt = 0; ; attempt++) {
+                            try {
+                                Boolean claimed = transactionTemplate.execute(status -> {
+                                    boolean result = strategy.claimSeat(ids.get(lecture));
+                                    hold();
+                                    return result;
+                                });
+                                if (Boolean.TRUE.equals(claimed)) {
+                                    claimedByLecture.incrementAndGet(lecture);
+                                }
+                                break;
+                            } catch (EnrollmentConflictException e) {
+                                if (!strategy.awaitRetry(attempt)) {
+                                    conflicts.incrementAndGet();
+                                    break;
+                                }
+                            }
+                        }
+                        threadLatencies[i] = System.nanoTime() - startedAt;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startGate.countDown();
+        assertThat(finished.await(10, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        int oversell = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            int stored = lectureRepository.findById(ids.get(i)).orElseThrow().getCurrentParticipants();
+            oversell += Math.max(claimedByLecture.get(i) - CAPACITY, 0) + Math.max(stored - CAPACITY, 0);
+        }
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double p99Millis = all[(int) Math.ceil(all.length * 0.99) - 1] / 1_000_000.0;
+        double throughput = all.length / (elapsed / 1_000_000_000.0);
+        return new Result(throughput, p99Millis, conflicts.get(), oversell);
+    }
+
+    private static void hold() {
+        if (HOLD_MILLIS <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(HOLD_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(double throughput, double p99Millis, int conflicts, int oversell) {
+    }
+}
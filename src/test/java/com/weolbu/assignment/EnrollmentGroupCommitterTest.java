@@ -0,0 +1,85 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.LectureEnrollmentBatchWriter;
+import com.weolbu.assignment.service.cart.EnrollmentGroupCommitter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EnrollmentGroupCommitterTest {
+
+    private final LectureEnrollmentBatchWriter batchWriter = mock(LectureEnrollmentBatchWriter.class);
+    private EnrollmentGroupCommitter groupCommitter;
+
+    @AfterEach
+    void tearDown() {
+        groupCommitter.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 들어온 같은 강의 신청은 한 번에 커밋되고 요청별 결과를 받는다")
+    void submit_CoalescesWithinWindow() throws Exception {
+        // Given : 대기 시간 200ms, 묶음 최대 64건
+        groupCommitter = new EnrollmentGroupCommitter(batchWriter, 200_000, 64, 2);
+        when(batchWriter.enroll(eq(1L), anyList())).thenReturn(List.of(
+                EnrollmentOutcome.ENROLLED, EnrollmentOutcome.ALREADY_ENROLLED, EnrollmentOutcome.CAPACITY_EXCEEDED));
+
+        // When
+        CompletableFuture<EnrollmentOutcome> first = groupCommitter.submit(1L, 10L);
+        CompletableFuture<EnrollmentOutcome> second = groupCommitter.submit(1L, 11L);
+        CompletableFuture<EnrollmentOutcome> third = groupCommitter.submit(1L, 12L);
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(EnrollmentOutcome.ENROLLED);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(EnrollmentOutcome.ALREADY_ENROLLED);
+        assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo(EnrollmentOutcome.CAPACITY_EXCEEDED);
+        verify(batchWriter, times(1)).enroll(1L, List.of(10L, 11L, 12L));
+    }
+
+    @Test
+    @DisplayName("묶음이 최대 건수에 도달하면 대기 시간을 기다리지 않고 커밋한다")
+    void submit_CommitsWhenGroupIsFull() throws Exception {
+        // Given : 대기 시간 1분, 묶음 최대 4건
+        groupCommitter = new EnrollmentGroupCommitter(batchWriter, 60_000_000, 4, 2);
+        when(batchWriter.enroll(eq(1L), anyList()))
+                .thenReturn(Collections.nCopies(4, EnrollmentOutcome.ENROLLED));
+
+        // When
+        List<CompletableFuture<EnrollmentOutcome>> results = new ArrayList<>();
+        for (long studentId = 1; studentId <= 4; studentId++) {
+            results.add(groupCommitter.submit(1L, studentId));
+        }
+
+        // Then
+        for (CompletableFuture<EnrollmentOutcome> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(EnrollmentOutcome.ENROLLED);
+        }
+        verify(batchWriter, times(1)).enroll(1L, List.of(1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    @DisplayName("커밋에 실패하면 묶음에 속한 모든 요청이 오류 결과를 받는다")
+    void submit_CommitFailure() throws Exception {
+        // Given
+        groupCommitter = new EnrollmentGroupCommitter(batchWriter, 1_000, 64, 1);
+        when(batchWriter.enroll(eq(1L), anyList())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // When
+        CompletableFuture<EnrollmentOutcome> result = groupCommitter.submit(1L, 10L);
+
+        // Then
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(EnrollmentOutcome.ERROR);
+    }
+}
@@ -0,0 +1,142 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.LectureEnrollmentBatchWriter;
+import com.weolbu.assignment.service.queue.EnrollmentLanes;
+import com.weolbu.assignment.service.queue.EnrollmentTicket;
+import com.weolbu.assignment.service.queue.EnrollmentTicketProcessedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EnrollmentLanesTest {
+
+    private final LectureEnrollmentBatchWriter batchWriter = mock(LectureEnrollmentBatchWriter.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final List<EnrollmentTicketProcessedEvent> events = new CopyOnWriteArrayList<>();
+    private EnrollmentLanes lanes;
+
+    @AfterEach
+    void tearDown() {
+        lanes.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 강의 티켓은 접수 순서대로 처리되고, 결과가 저장된 뒤에 완료 확인을 하며, 처리가 끝난 레인은 제거된다")
+    void dispatch_AppliesInOrderThenAcknowledgesAndRetiresLane() throws Exception {
+        // Given
+        lanes = new EnrollmentLanes(batchWriter, eventPublisher, 2, 2);
+        List<Long> appliedStudentIds = new CopyOnWriteArrayList<>();
+        when(batchWriter.enroll(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<Long> studentIds = invocation.getArgument(1);
+            appliedStudentIds.addAll(studentIds);
+            return Collections.nCopies(studentIds.size(), EnrollmentOutcome.ENROLLED);
+        });
+        recordEvents();
+        CountDownLatch acknowledged = new CountDownLatch(3);
+        List<String> acknowledgedBeforeEvent = new CopyOnWriteArrayList<>();
+
+        // When
+        for (long studentId = 10; studentId <= 12; studentId++) {
+            EnrollmentTicket ticket = EnrollmentTicket.pending(1L, studentId);
+            lanes.dispatch(ticket, () -> {
+                if (events.stream().noneMatch(event -> event.getTicket() == ticket)) {
+                    acknowledgedBeforeEvent.add(ticket.getTicketId());
+                }
+                acknowledged.countDown();
+            });
+        }
+
+        // Then
+        assertThat(acknowledged.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(appliedStudentIds).containsExactly(10L, 11L, 12L);
+        assertThat(events).extracting(EnrollmentTicketProcessedEvent::getOutcome)
+                .containsOnly(EnrollmentOutcome.ENROLLED);
+        assertThat(acknowledgedBeforeEvent).isEmpty();
+        awaitNoLanes();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 묶음의 모든 티켓이 오류 결과로 저장되고 완료 확인된다")
+    void dispatch_BatchFailure() throws Exception {
+        // Given
+        lanes = new EnrollmentLanes(batchWriter, eventPublisher, 1, 32);
+        when(batchWriter.enroll(eq(1L), anyList())).thenThrow(new IllegalStateException("DB 오류"));
+        recordEvents();
+        CountDownLatch acknowledged = new CountDownLatch(1);
+
+        // When
+        lanes.dispatch(EnrollmentTicket.pending(1L, 10L), acknowledged::countDown);
+
+        // Then
+        assertThat(acknowledged.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(events).extracting(EnrollmentTicketProcessedEvent::getOutcome)
+                .containsExactly(EnrollmentOutcome.ERROR);
+    }
+
+    @Test
+    @DisplayName("결과 저장에 실패한 티켓은 완료 확인을 하지 않고, 같은 묶음의 다른 티켓은 계속 처리된다")
+    void dispatch_ResultSaveFailure() throws Exception {
+        // Given
+        lanes = new EnrollmentLanes(batchWriter, eventPublisher, 1, 32);
+        when(batchWriter.enroll(eq(1L), anyList())).thenAnswer(invocation ->
+                Collections.nCopies(invocation.<List<Long>>getArgument(1).size(), EnrollmentOutcome.ENROLLED));
+        EnrollmentTicket failing = EnrollmentTicket.pending(1L, 10L);
+        EnrollmentTicket succeeding = EnrollmentTicket.pending(1L, 11L);
+        doAnswer(invocation -> {
+            EnrollmentTicketProcessedEvent event = invocation.getArgument(0);
+            if (event.getTicket() == failing) {
+                throw new IllegalStateException("Redis 오류");
+            }
+            return null;
+        }).when(eventPublisher).publishEvent(any(Object.class));
+        List<String> acknowledgedIds = new ArrayList<>();
+        CountDownLatch lastAcknowledged = new CountDownLatch(1);
+
+        // When
+        lanes.dispatch(failing, () -> acknowledgedIds.add(failing.getTicketId()));
+        lanes.dispatch(succeeding, () -> {
+            acknowledgedIds.add(succeeding.getTicketId());
+            lastAcknowledged.countDown();
+        });
+
+        // Then
+        assertThat(lastAcknowledged.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(acknowledgedIds).containsExactly(succeeding.getTicketId());
+    }
+
+    private void recordEvents() {
+        doAnswer(invocation -> {
+            events.add(invocation.getArgument(0));
+            return null;
+        }).when(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    // 레인 작업은 완료 확인 뒤에 레인을 제거하므로 잠시 기다림
+    private void awaitNoLanes() throws InterruptedException {
+        Map<?, ?> activeLanes = (Map<?, ?>) ReflectionTestUtils.getField(lanes, "lanes");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!activeLanes.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(activeLanes).isEmpty();
+    }
+}
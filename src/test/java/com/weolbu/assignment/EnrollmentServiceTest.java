@@ -3,12 +3,17 @@ package com.weolbu.assignment;
 import com.weolbu.assignment.entity.*;
 import com.weolbu.assignment.repository.*;
 import com.weolbu.assignment.service.*;
+import com.weolbu.assignment.service.concurrency.EnrollmentConcurrencyStrategy;
+import com.weolbu.assignment.service.seat.SeatGate;
+import com.weolbu.assignment.service.seat.SeatGateResult;
+import com.weolbu.assignment.service.seat.SeatSlotCounter;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -22,17 +27,35 @@ class EnrollmentServiceTest {
     private EnrollmentRepository enrollmentRepository;
 
     @Mock
-    private AuthService authService;
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Mock
+    private SeatGate seatGate;
+
+    @Mock
+    private SeatSlotCounter seatSlotCounter;
+
+    @Mock
+    private EnrollmentConcurrencyStrategy concurrencyStrategy;
+
+    @Mock
+    private EnrollmentDuplicateFilter duplicateFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private EnrollmentService enrollmentService;
 
     private User student;
-    private Lecture lecture;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(duplicateFilter.mightBeEnrolled(anyLong(), anyLong())).thenReturn(true);
 
         // Mock User
         student = User.builder()
@@ -41,14 +64,29 @@ class EnrollmentServiceTest {
                 .email("student@example.com")
                 .role(Role.STUDENT)
                 .build();
+    }
 
-        // Mock Lecture
-        lecture = Lecture.builder()
-                .lectureId(1L)
-                .title("Test Lecture")
-                .currentParticipants(0)
-                .maxParticipants(10)
-                .build();
+    private LectureRepository.LectureTitle titleOf(Long lectureId, String title) {
+        return titleOf(lectureId, title, 0);
+    }
+
+    private LectureRepository.LectureTitle titleOf(Long lectureId, String title, int seatSlotCount) {
+        return new LectureRepository.LectureTitle() {
+            @Override
+            public Long getLectureId() {
+                return lectureId;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public Integer getSeatSlotCount() {
+                return seatSlotCount;
+            }
+        };
     }
 
     @Nested
@@ -59,39 +97,119 @@ class EnrollmentServiceTest {
         @DisplayName("단일 강의 수강 신청 성공")
         void enrollInSingleLecture_Success() {
             // Given
-            UserDetails userDetails = mock(UserDetails.class);
-            when(authService.getUserFromUserDetails(userDetails)).thenReturn(student);
-            when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Test Lecture")));
+            when(concurrencyStrategy.claimSeats(List.of(1L))).thenReturn(new int[]{1});
 
             // When
-            var result = enrollmentService.enrollInLectures(List.of(1L), userDetails);
+            var result = enrollmentService.enrollInLectures(List.of(1L), student.getUserId());
 
             // Then
             assertThat(result).containsEntry("Test Lecture", "강의 수강 신청 성공");
-            verify(enrollmentRepository, times(1)).save(any(Enrollment.class));
-            verify(lectureRepository, times(1)).save(any(Lecture.class));
+            verify(enrollmentJdbcRepository, times(1)).insertEnrollments(List.of(1L), 1L);
+            verify(lectureRepository, never()).save(any(Lecture.class));
         }
 
         @Test
         @DisplayName("여러 강의 수강 신청 성공")
         void enrollInMultipleLectures_Success() {
             // Given
-            UserDetails userDetails = mock(UserDetails.class);
-            Lecture lecture1 = Lecture.builder().lectureId(1L).title("Lecture 1").currentParticipants(0).maxParticipants(10).build();
-            Lecture lecture2 = Lecture.builder().lectureId(2L).title("Lecture 2").currentParticipants(5).maxParticipants(10).build();
-
-            when(authService.getUserFromUserDetails(userDetails)).thenReturn(student);
-            when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture1));
-            when(lectureRepository.findById(2L)).thenReturn(Optional.of(lecture2));
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Lecture 1"), titleOf(2L, "Lecture 2")));
+            when(concurrencyStrategy.claimSeats(List.of(1L, 2L))).thenReturn(new int[]{1, 1});
 
             // When
-            var result = enrollmentService.enrollInLectures(List.of(1L, 2L), userDetails);
+            var result = enrollmentService.enrollInLectures(List.of(1L, 2L), student.getUserId());
 
             // Then
             assertThat(result).containsEntry("Lecture 1", "강의 수강 신청 성공");
             assertThat(result).containsEntry("Lecture 2", "강의 수강 신청 성공");
-            verify(enrollmentRepository, times(2)).save(any(Enrollment.class));
-            verify(lectureRepository, times(2)).save(any(Lecture.class));
+            verify(lectureRepository, times(1)).findTitlesByLectureIdIn(anyCollection());
+            verify(enrollmentRepository, times(1)).findEnrolledLectureIds(eq(1L), anyCollection());
+            verify(concurrencyStrategy, times(1)).claimSeats(List.of(1L, 2L));
+            verify(enrollmentJdbcRepository, times(1)).insertEnrollments(List.of(1L, 2L), 1L);
+        }
+
+        @Test
+        @DisplayName("좌석 슬롯으로 나눈 인기 강의는 강의 row 대신 슬롯에서 좌석을 확보한다")
+        void enrollInLectures_SeatSlottedLecture() {
+            // Given
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Hot Lecture", 8), titleOf(2L, "Lecture 2")));
+            when(seatSlotCounter.claim(1L, 8, 1)).thenReturn(1);
+            when(concurrencyStrategy.claimSeats(List.of(2L))).thenReturn(new int[]{1});
+
+            // When
+            var result = enrollmentService.enrollInLectures(List.of(1L, 2L), student.getUserId());
+
+            // Then
+            assertThat(result).containsEntry("Hot Lecture", "강의 수강 신청 성공");
+            assertThat(result).containsEntry("Lecture 2", "강의 수강 신청 성공");
+            verify(concurrencyStrategy, times(1)).claimSeats(List.of(2L));
+            verify(enrollmentJdbcRepository, times(1)).insertEnrollments(List.of(1L, 2L), 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("중복 신청 확인 테스트")
+    class DuplicateEnrollmentTests {
+
+        @Test
+        @DisplayName("중복 필터가 신청한 적 없다고 확인한 강의는 중복 확인 쿼리를 실행하지 않는다")
+        void enrollInLectures_SkipsDuplicateQuery() {
+            // Given
+            when(duplicateFilter.mightBeEnrolled(anyLong(), anyLong())).thenReturn(false);
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Test Lecture")));
+            when(concurrencyStrategy.claimSeats(List.of(1L))).thenReturn(new int[]{1});
+
+            // When
+            var result = enrollmentService.enrollInLectures(List.of(1L), student.getUserId());
+
+            // Then
+            assertThat(result).containsEntry("Test Lecture", "강의 수강 신청 성공");
+            verify(enrollmentRepository, never()).findEnrolledLectureIds(anyLong(), anyCollection());
+            verify(duplicateFilter, times(1)).record(1L, 1L);
+        }
+
+        @Test
+        @DisplayName("동시에 들어온 중복 신청이 먼저 저장된 강의만 이미 신청한 강의로 처리하고 좌석을 반환한다")
+        void enrollInLectures_DuplicateFailsOnlyThatLecture() {
+            // Given
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Lecture 1"), titleOf(2L, "Lecture 2", 8)));
+            when(concurrencyStrategy.claimSeats(List.of(1L))).thenReturn(new int[]{1});
+            when(seatSlotCounter.claim(2L, 8, 1)).thenReturn(1);
+            when(enrollmentJdbcRepository.insertEnrollments(List.of(1L, 2L), 1L)).thenReturn(Set.of(2L));
+
+            // When
+            var result = enrollmentService.enrollInLectures(List.of(1L, 2L), student.getUserId());
+
+            // Then
+            assertThat(result).containsEntry("Lecture 1", "강의 수강 신청 성공");
+            assertThat(result).containsEntry("Lecture 2", " 강의를 이미 수강 신청했습니다.");
+            verify(seatSlotCounter, times(1)).release(2L, 8, 1);
+            verify(concurrencyStrategy, never()).releaseSeat(anyLong());
+            verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("동시에 들어온 중복 신청이 게이트에서 확보한 좌석도 반환한다")
+        void enrollInLectures_DuplicateReleasesSeatGate() {
+            // Given
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Lecture 1")));
+            when(seatGate.tryAcquire(1L, 1L)).thenReturn(SeatGateResult.ADMITTED);
+            when(concurrencyStrategy.claimSeats(List.of(1L))).thenReturn(new int[]{1});
+            when(enrollmentJdbcRepository.insertEnrollments(List.of(1L), 1L)).thenReturn(Set.of(1L));
+
+            // When
+            var result = enrollmentService.enrollInLectures(List.of(1L), student.getUserId());
+
+            // Then
+            assertThat(result).containsEntry("Lecture 1", " 강의를 이미 수강 신청했습니다.");
+            verify(concurrencyStrategy, times(1)).releaseSeat(1L);
+            verify(seatGate, times(1)).release(1L, 1L);
         }
     }
 
@@ -103,33 +221,31 @@ class EnrollmentServiceTest {
         @DisplayName("강의가 존재하지 않는 경우")
         void enrollInSingleLecture_Fail_LectureNotFound() {
             // Given
-            UserDetails userDetails = mock(UserDetails.class);
-            when(authService.getUserFromUserDetails(userDetails)).thenReturn(student);
-            when(lectureRepository.findById(1L)).thenReturn(Optional.empty());
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection())).thenReturn(List.of());
 
             // When
-            var result = enrollmentService.enrollInLectures(List.of(1L), userDetails);
+            var result = enrollmentService.enrollInLectures(List.of(1L), student.getUserId());
 
             // Then
             assertThat(result).containsEntry("1", "번 강의를 찾을 수 없습니다.");
-            verify(enrollmentRepository, never()).save(any(Enrollment.class));
+            verify(enrollmentJdbcRepository, never()).insertEnrollments(anyList(), anyLong());
         }
 
         @Test
         @DisplayName("이미 수강 신청한 강의를 다시 신청한 경우")
         void enrollInSingleLecture_Fail_AlreadyEnrolled() {
             // Given
-            UserDetails userDetails = mock(UserDetails.class);
-            when(authService.getUserFromUserDetails(userDetails)).thenReturn(student);
-            when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
-            when(enrollmentRepository.existsByLectureAndStudent(lecture, student)).thenReturn(true);
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Test Lecture")));
+            when(enrollmentRepository.findEnrolledLectureIds(eq(1L), anyCollection())).thenReturn(List.of(1L));
 
             // When
-            var result = enrollmentService.enrollInLectures(List.of(1L), userDetails);
+            var result = enrollmentService.enrollInLectures(List.of(1L), student.getUserId());
 
             // Then
             assertThat(result).containsEntry("Test Lecture", " 강의를 이미 수강 신청했습니다.");
-            verify(enrollmentRepository, never()).save(any(Enrollment.class));
+            verify(concurrencyStrategy, never()).claimSeats(anyList());
+            verify(enrollmentJdbcRepository, never()).insertEnrollments(anyList(), anyLong());
         }
 
 
@@ -137,18 +253,57 @@ class EnrollmentServiceTest {
         @DisplayName("수강 정원을 초과한 경우")
         void enrollInSingleLecture_Fail_ExceedCapacity() {
             // Given
-            lecture = Lecture.builder().lectureId(1L).title("Test Lecture").currentParticipants(10).maxParticipants(10).build();
-            UserDetails userDetails = mock(UserDetails.class);
-
-            when(authService.getUserFromUserDetails(userDetails)).thenReturn(student);
-            when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Test Lecture")));
+            when(concurrencyStrategy.claimSeats(List.of(1L))).thenReturn(new int[]{0});
 
             // When
-            var result = enrollmentService.enrollInLectures(List.of(1L), userDetails);
+            var result = enrollmentService.enrollInLectures(List.of(1L), student.getUserId());
 
             // Then
             assertThat(result).containsEntry("Test Lecture", " 강의는 수강 정원을 초과했습니다.");
-            verify(enrollmentRepository, never()).save(any(Enrollment.class));
+            verify(enrollmentJdbcRepository, never()).insertEnrollments(anyList(), anyLong());
+        }
+
+        @Test
+        @DisplayName("일부 강의만 정원이 남은 경우 남은 강의만 신청된다")
+        void enrollInMultipleLectures_PartialSuccess() {
+            // Given
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Lecture 1"), titleOf(2L, "Lecture 2")));
+            when(concurrencyStrategy.claimSeats(List.of(1L, 2L))).thenReturn(new int[]{0, 1});
+
+            // When
+            var result = enrollmentService.enrollInLectures(List.of(1L, 2L), student.getUserId());
+
+            // Then
+            assertThat(result).containsEntry("Lecture 1", " 강의는 수강 정원을 초과했습니다.");
+            assertThat(result).containsEntry("Lecture 2", "강의 수강 신청 성공");
+            verify(enrollmentJdbcRepository, times(1)).insertEnrollments(List.of(2L), 1L);
+        }
+
+        @Test
+        @DisplayName("다른 신청과 충돌한 강의만 새 트랜잭션에서 다시 처리하고, 끝내 충돌하면 그 강의만 실패한다")
+        void enrollInLectures_RetriesOnlyConflictedLecture() {
+            // Given
+            when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(titleOf(1L, "Lecture 1"), titleOf(2L, "Lecture 2")), List.of(titleOf(2L, "Lecture 2")));
+            when(concurrencyStrategy.claimSeats(List.of(1L, 2L)))
+                    .thenReturn(new int[]{1, EnrollmentConcurrencyStrategy.CONFLICT});
+            when(concurrencyStrategy.claimSeats(List.of(2L)))
+                    .thenReturn(new int[]{EnrollmentConcurrencyStrategy.CONFLICT});
+            when(concurrencyStrategy.awaitRetry(0)).thenReturn(true);
+            when(concurrencyStrategy.awaitRetry(1)).thenReturn(false);
+
+            // When
+            var result = enrollmentService.enrollInLectures(List.of(1L, 2L), student.getUserId());
+
+            // Then
+            assertThat(result).containsEntry("Lecture 1", "강의 수강 신청 성공");
+            assertThat(result).containsEntry("Lecture 2", EnrollmentOutcome.CONFLICT.toCartMessage());
+            verify(concurrencyStrategy, times(1)).claimSeats(List.of(2L));
+            verify(enrollmentJdbcRepository, times(1)).insertEnrollments(List.of(1L), 1L);
+            verify(transactionManager, times(2)).commit(any());
         }
     }
 }
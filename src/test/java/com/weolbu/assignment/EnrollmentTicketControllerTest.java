@@ -0,0 +1,117 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.config.CurrentUserArgumentResolver;
+import com.weolbu.assignment.controller.EnrollmentController;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.exception.GlobalExceptionHandler;
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.auth.AuthenticatedUser;
+import com.weolbu.assignment.service.cart.CartEnrollmentProcessor;
+import com.weolbu.assignment.service.queue.EnrollmentTicket;
+import com.weolbu.assignment.service.queue.EnrollmentTicketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EnrollmentTicketControllerTest {
+
+    private final EnrollmentTicketService ticketService = mock(EnrollmentTicketService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        EnrollmentController controller = new EnrollmentController(mock(CartEnrollmentProcessor.class), ticketService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new CurrentUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        AuthenticatedUser user = new AuthenticatedUser(1L, Role.STUDENT, "수강생");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("대기열로 접수하면 강의별 티켓을 202로 반환한다")
+    void submit_ReturnsTickets() throws Exception {
+        // Given
+        EnrollmentTicket ticket = EnrollmentTicket.pending(3L, 1L);
+        when(ticketService.submit(List.of(3L), 1L)).thenReturn(List.of(ticket));
+
+        // When & Then
+        mockMvc.perform(post("/api/enrollments")
+                        .param("queued", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[3]"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("accepted"))
+                .andExpect(jsonPath("$.tickets[0].ticketId").value(ticket.getTicketId()))
+                .andExpect(jsonPath("$.tickets[0].status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("롱 폴링 중 처리가 끝나면 티켓 결과를 반환한다")
+    void getTicket_ReturnsResultAfterWait() throws Exception {
+        // Given
+        EnrollmentTicket ticket = EnrollmentTicket.pending(3L, 1L).complete(EnrollmentOutcome.ENROLLED);
+        CompletableFuture<Optional<EnrollmentTicket>> completion = new CompletableFuture<>();
+        when(ticketService.awaitTicket(ticket.getTicketId(), 1L, 1000)).thenReturn(completion);
+
+        MvcResult result = mockMvc.perform(get("/api/enrollments/tickets/{ticketId}", ticket.getTicketId())
+                        .param("waitMillis", "1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        completion.complete(Optional.of(ticket));
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ticketId").value(ticket.getTicketId()))
+                .andExpect(jsonPath("$.status").value("SUCCESS"));
+        verify(ticketService).awaitTicket(ticket.getTicketId(), 1L, 1000);
+    }
+
+    @Test
+    @DisplayName("티켓이 없거나 다른 학생의 티켓이면 404를 반환한다")
+    void getTicket_NotFound() throws Exception {
+        // Given
+        when(ticketService.awaitTicket("unknown", 1L, 0)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/enrollments/tickets/{ticketId}", "unknown"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,227 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.queue.EnrollmentQueue;
+import com.weolbu.assignment.service.queue.EnrollmentTicket;
+import com.weolbu.assignment.service.queue.EnrollmentTicketNotifier;
+import com.weolbu.assignment.service.queue.EnrollmentTicketProcessedEvent;
+import com.weolbu.assignment.service.queue.EnrollmentTicketService;
+import com.weolbu.assignment.service.queue.EnrollmentTicketWaiters;
+import com.weolbu.assignment.service.queue.InMemoryEnrollmentTicketStore;
+import com.weolbu.assignment.service.queue.TicketStatus;
+import com.weolbu.assignment.service.seat.SeatGate;
+import com.weolbu.assignment.service.seat.SeatGateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EnrollmentTicketServiceTest {
+
+    private final SeatGate seatGate = mock(SeatGate.class);
+    private final EnrollmentQueue enrollmentQueue = mock(EnrollmentQueue.class);
+    private final InMemoryEnrollmentTicketStore ticketStore = new InMemoryEnrollmentTicketStore();
+    private final EnrollmentTicketWaiters waiters = new EnrollmentTicketWaiters();
+    private final EnrollmentTicketNotifier notifier = mock(EnrollmentTicketNotifier.class);
+    private EnrollmentTicketService ticketService;
+
+    @BeforeEach
+    void setUp() {
+        ticketService = new EnrollmentTicketService(seatGate, enrollmentQueue, ticketStore, waiters, notifier);
+    }
+
+    @Nested
+    @DisplayName("티켓 접수 테스트")
+    class SubmitTests {
+
+        @Test
+        @DisplayName("게이트를 통과한 요청은 좌석 확보 표시와 함께 대기열에 넣는다")
+        void submit_Admitted() {
+            // Given
+            when(seatGate.tryAcquire(1L, 10L)).thenReturn(SeatGateResult.ADMITTED);
+
+            // When
+            List<EnrollmentTicket> tickets = ticketService.submit(List.of(1L, 1L), 10L);
+
+            // Then
+            assertThat(tickets).hasSize(1);
+            assertThat(tickets.get(0).getStatus()).isEqualTo(TicketStatus.PENDING);
+            assertThat(tickets.get(0).isGateAdmitted()).isTrue();
+            verify(enrollmentQueue).enqueue(tickets.get(0));
+        }
+
+        @Test
+        @DisplayName("게이트에서 정원 초과로 거절된 요청은 대기열에 넣지 않고 바로 실패 처리한다")
+        void submit_SoldOut() {
+            // Given
+            when(seatGate.tryAcquire(1L, 10L)).thenReturn(SeatGateResult.SOLD_OUT);
+
+            // When
+            List<EnrollmentTicket> tickets = ticketService.submit(List.of(1L), 10L);
+
+            // Then
+            assertThat(tickets.get(0).getStatus()).isEqualTo(TicketStatus.FAILED);
+            assertThat(ticketService.findTicket(tickets.get(0).getTicketId(), 10L)).isPresent();
+            verify(enrollmentQueue, never()).enqueue(any());
+        }
+
+        @Test
+        @DisplayName("다른 학생의 티켓은 조회할 수 없다")
+        void findTicket_OtherStudent() {
+            // Given
+            when(seatGate.tryAcquire(1L, 10L)).thenReturn(SeatGateResult.NOT_TRACKED);
+            EnrollmentTicket ticket = ticketService.submit(List.of(1L), 10L).get(0);
+
+            // When
+            Optional<EnrollmentTicket> found = ticketService.findTicket(ticket.getTicketId(), 11L);
+
+            // Then
+            assertThat(found).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("티켓 처리 결과 테스트")
+    class ProcessedTests {
+
+        @Test
+        @DisplayName("DB 반영에 실패하면 게이트 좌석을 반환하고 완료를 알린다")
+        void onTicketProcessed_FailureReleasesSeat() {
+            // Given
+            EnrollmentTicket ticket = EnrollmentTicket.pending(1L, 10L).admittedByGate();
+            ticketStore.save(ticket);
+
+            // When
+            ticketService.onTicketProcessed(new EnrollmentTicketProcessedEvent(ticket, EnrollmentOutcome.ERROR));
+
+            // Then
+            assertThat(ticketStore.find(ticket.getTicketId())).get()
+                    .extracting(EnrollmentTicket::getStatus).isEqualTo(TicketStatus.FAILED);
+            verify(seatGate).release(1L, 10L);
+            verify(notifier).notifyCompleted(ticket.getTicketId());
+        }
+
+        @Test
+        @DisplayName("신청에 성공하면 게이트 좌석을 유지한다")
+        void onTicketProcessed_Success() {
+            // Given
+            EnrollmentTicket ticket = EnrollmentTicket.pending(1L, 10L).admittedByGate();
+            ticketStore.save(ticket);
+
+            // When
+            ticketService.onTicketProcessed(new EnrollmentTicketProcessedEvent(ticket, EnrollmentOutcome.ENROLLED));
+
+            // Then
+            assertThat(ticketStore.find(ticket.getTicketId())).get()
+                    .extracting(EnrollmentTicket::getStatus).isEqualTo(TicketStatus.SUCCESS);
+            verify(seatGate, never()).release(any(), any());
+        }
+
+        @Test
+        @DisplayName("회수한 티켓이 자신의 신청을 찾으면 성공으로 기록하고 게이트 좌석을 유지한다")
+        void onTicketProcessed_ReclaimedFindsOwnEnrollment() {
+            // Given : 이전 서버가 커밋한 뒤 결과를 저장하기 전에 멈춘 티켓
+            EnrollmentTicket ticket = EnrollmentTicket.pending(1L, 10L).admittedByGate();
+            ticketStore.save(ticket);
+
+            // When
+            ticketService.onTicketProcessed(
+                    new EnrollmentTicketProcessedEvent(ticket.reclaimed(), EnrollmentOutcome.ALREADY_ENROLLED));
+
+            // Then
+            assertThat(ticketStore.find(ticket.getTicketId())).get()
+                    .satisfies(saved -> {
+                        assertThat(saved.getStatus()).isEqualTo(TicketStatus.SUCCESS);
+                        assertThat(saved.getMessage()).isEqualTo(EnrollmentOutcome.ENROLLED.getMessage());
+                    });
+            verify(seatGate, never()).release(any(), any());
+        }
+
+        @Test
+        @DisplayName("회수한 티켓도 정원 초과로 반영되지 않았으면 게이트 좌석을 반환한다")
+        void onTicketProcessed_ReclaimedCapacityExceededReleasesSeat() {
+            // Given
+            EnrollmentTicket ticket = EnrollmentTicket.pending(1L, 10L).admittedByGate();
+            ticketStore.save(ticket);
+
+            // When
+            ticketService.onTicketProcessed(
+                    new EnrollmentTicketProcessedEvent(ticket.reclaimed(), EnrollmentOutcome.CAPACITY_EXCEEDED));
+
+            // Then
+            assertThat(ticketStore.find(ticket.getTicketId())).get()
+                    .extracting(EnrollmentTicket::getStatus).isEqualTo(TicketStatus.FAILED);
+            verify(seatGate).release(1L, 10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("롱 폴링 테스트")
+    class AwaitTests {
+
+        @Test
+        @DisplayName("다른 인스턴스가 처리해 완료 알림이 오면 저장소의 결과로 응답한다")
+        void awaitTicket_CompletedByNotification() throws Exception {
+            // Given
+            EnrollmentTicket ticket = EnrollmentTicket.pending(1L, 10L);
+            ticketStore.save(ticket);
+            CompletableFuture<Optional<EnrollmentTicket>> result =
+                    ticketService.awaitTicket(ticket.getTicketId(), 10L, 5000);
+
+            // When : 다른 인스턴스가 결과를 저장하고 알림을 발행
+            ticketStore.save(ticket.complete(EnrollmentOutcome.ENROLLED));
+            waiters.complete(ticket.getTicketId());
+
+            // Then
+            assertThat(result.get(1, TimeUnit.SECONDS)).get()
+                    .extracting(EnrollmentTicket::getStatus).isEqualTo(TicketStatus.SUCCESS);
+            assertThat(waiters.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("대기 시간이 지나면 처리 중 상태로 응답하고 대기를 정리한다")
+        void awaitTicket_Timeout() throws Exception {
+            // Given
+            EnrollmentTicket ticket = EnrollmentTicket.pending(1L, 10L);
+            ticketStore.save(ticket);
+
+            // When
+            CompletableFuture<Optional<EnrollmentTicket>> result =
+                    ticketService.awaitTicket(ticket.getTicketId(), 10L, 50);
+
+            // Then
+            assertThat(result.get(1, TimeUnit.SECONDS)).get()
+                    .extracting(EnrollmentTicket::getStatus).isEqualTo(TicketStatus.PENDING);
+            assertThat(waiters.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("이미 처리된 티켓은 기다리지 않고 바로 응답한다")
+        void awaitTicket_AlreadyDone() {
+            // Given
+            EnrollmentTicket ticket = EnrollmentTicket.pending(1L, 10L).complete(EnrollmentOutcome.ALREADY_ENROLLED);
+            ticketStore.save(ticket);
+
+            // When
+            CompletableFuture<Optional<EnrollmentTicket>> result =
+                    ticketService.awaitTicket(ticket.getTicketId(), 10L, 5000);
+
+            // Then
+            assertThat(result).isCompleted();
+            assertThat(result.join()).get()
+                    .extracting(EnrollmentTicket::getStatus).isEqualTo(TicketStatus.FAILED);
+        }
+    }
+}
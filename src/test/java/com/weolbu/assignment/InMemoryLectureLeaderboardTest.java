@@ -0,0 +1,96 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.leaderboard.InMemoryLectureLeaderboard;
+import com.weolbu.assignment.service.leaderboard.LectureLeaderboard.LectureScore;
+import com.weolbu.assignment.service.leaderboard.LectureLeaderboard.RankedPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryLectureLeaderboardTest {
+
+    private InMemoryLectureLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new InMemoryLectureLeaderboard();
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 순위를 사용하지 않는다")
+    void findPage_EmptyBeforeRebuild() {
+        // When & Then
+        assertThat(leaderboard.findPage("popular", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("신청자 수, 신청률 순으로 정렬하고 같은 점수는 강의 ID가 큰 순서로 정렬한다")
+    void findPage_OrdersByScoreThenLectureId() {
+        // Given
+        leaderboard.replaceAll(List.of(
+                new LectureScore(1L, 5, 10),
+                new LectureScore(2L, 8, 100),
+                new LectureScore(3L, 5, 5),
+                new LectureScore(4L, 1, 2)));
+
+        // When
+        RankedPage popular = leaderboard.findPage("popular", 0, 10).orElseThrow();
+        RankedPage rate = leaderboard.findPage("rate", 1, 2).orElseThrow();
+
+        // Then
+        assertThat(popular.lectureIds()).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(popular.total()).isEqualTo(4);
+        assertThat(rate.lectureIds()).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("수강 신청 증분을 반영해 순위를 바꾸고 등록되지 않은 강의는 무시한다")
+    void increment_MovesLecture() {
+        // Given
+        leaderboard.replaceAll(List.of(new LectureScore(1L, 5, 10), new LectureScore(2L, 3, 10)));
+
+        // When
+        leaderboard.increment(2L, 3);
+        leaderboard.increment(99L, 1);
+        leaderboard.put(3L, 0, 10);
+
+        // Then
+        RankedPage page = leaderboard.findPage("popular", 0, 10).orElseThrow();
+        assertThat(page.lectureIds()).containsExactly(2L, 1L, 3L);
+        assertThat(page.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 강의에 동시에 증분이 들어와도 항목은 하나이고 점수는 모두 반영된다")
+    void increment_Concurrent() throws InterruptedException {
+        // Given
+        leaderboard.replaceAll(List.of(new LectureScore(1L, 0, 10_000), new LectureScore(2L, 500, 10_000)));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch finished = new CountDownLatch(1000);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                leaderboard.increment(1L, 1);
+                finished.countDown();
+            });
+        }
+        boolean completed = finished.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(completed).isTrue();
+        RankedPage page = leaderboard.findPage("popular", 0, 10).orElseThrow();
+        assertThat(page.lectureIds()).containsExactly(1L, 2L);
+        leaderboard.increment(2L, 501);
+        assertThat(leaderboard.findPage("popular", 0, 10).orElseThrow().lectureIds()).containsExactly(2L, 1L);
+    }
+}
@@ -0,0 +1,167 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.config.JwtFilter;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.service.AuthService;
+import com.weolbu.assignment.service.auth.AccessTokenDenylist;
+import com.weolbu.assignment.service.auth.AuthenticatedUser;
+import com.weolbu.assignment.service.auth.UserStatusCache;
+import com.weolbu.assignment.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class JwtFilterTest {
+
+    private final AuthService authService = mock(AuthService.class);
+    private final UserStatusCache userStatusCache = mock(UserStatusCache.class);
+    private final AccessTokenDenylist accessTokenDenylist = mock(AccessTokenDenylist.class);
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "test_secret_key_test_secret_key_test_secret_key");
+        ReflectionTestUtils.setField(jwtUtil, "accessExpTime", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpTime", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", 100L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        jwtFilter = new JwtFilter();
+        ReflectionTestUtils.setField(jwtFilter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(jwtFilter, "authService", authService);
+        ReflectionTestUtils.setField(jwtFilter, "userStatusCache", userStatusCache);
+        ReflectionTestUtils.setField(jwtFilter, "accessTokenDenylist", accessTokenDenylist);
+        ReflectionTestUtils.setField(jwtFilter, "principalSource", "claims");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("토큰 클레임으로 인증하고 사용자 엔티티를 조회하지 않는다")
+    void authenticatesFromClaims() throws Exception {
+        // Given
+        when(userStatusCache.currentRole(1L)).thenReturn(Optional.of(Role.INSTRUCTOR));
+
+        // When
+        MockHttpServletResponse response = filter(jwtUtil.generateAccessToken(1L, "INSTRUCTOR", "사용자"));
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(authentication.getPrincipal()).isInstanceOf(AuthenticatedUser.class);
+        assertThat(((AuthenticatedUser) authentication.getPrincipal()).getUserId()).isEqualTo(1L);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_INSTRUCTOR");
+        verify(authService, never()).loadUserById(anyLong());
+    }
+
+    @Test
+    @DisplayName("토큰 발급 이후 역할이 바뀌었으면 현재 역할로 인증한다")
+    void usesCurrentRole() throws Exception {
+        // Given
+        when(userStatusCache.currentRole(1L)).thenReturn(Optional.of(Role.STUDENT));
+
+        // When
+        filter(jwtUtil.generateAccessToken(1L, "INSTRUCTOR", "사용자"));
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_STUDENT");
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 토큰은 401로 거절한다")
+    void rejectsMissingUser() throws Exception {
+        // Given
+        when(userStatusCache.currentRole(1L)).thenReturn(Optional.empty());
+
+        // When
+        MockHttpServletResponse response = filter(jwtUtil.generateAccessToken(1L, "STUDENT", "사용자"));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 Access Token은 401로 거절한다")
+    void rejectsRevokedToken() throws Exception {
+        // Given
+        when(accessTokenDenylist.isRevoked(any())).thenReturn(true);
+
+        // When
+        MockHttpServletResponse response = filter(jwtUtil.generateAccessToken(1L, "STUDENT", "사용자"));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userStatusCache);
+    }
+
+    @Test
+    @DisplayName("Refresh Token으로는 인증하지 않는다")
+    void ignoresRefreshToken() throws Exception {
+        // When
+        MockHttpServletResponse response = filter(jwtUtil.generateRefreshToken(1L));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userStatusCache);
+    }
+
+    @Test
+    @DisplayName("인증 없이 여는 조회 API는 토큰을 해석하지 않는다")
+    void skipsPublicRoutes() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lectures");
+        request.addHeader("Authorization", "Bearer not-a-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        verifyNoInteractions(userStatusCache);
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰은 401로 거절한다")
+    void rejectsInvalidToken() throws Exception {
+        // When
+        MockHttpServletResponse response = filter("not-a-token");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    private MockHttpServletResponse filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/enrollments/tickets/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
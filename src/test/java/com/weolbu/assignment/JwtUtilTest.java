@@ -0,0 +1,80 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.util.JwtUtil;
+import com.weolbu.assignment.util.VerifiedToken;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil(60_000L);
+    }
+
+    @Test
+    @DisplayName("검증한 토큰의 클레임을 돌려주고, 같은 토큰은 캐시된 검증 결과를 쓴다")
+    void verify_CachesResult() {
+        // Given
+        String token = jwtUtil.generateAccessToken(1L, "STUDENT", "사용자");
+
+        // When
+        VerifiedToken first = jwtUtil.verify(token);
+        VerifiedToken second = jwtUtil.verify(token);
+
+        // Then
+        assertThat(first.userId()).isEqualTo(1L);
+        assertThat(first.role()).isEqualTo("STUDENT");
+        assertThat(first.isAccessToken()).isTrue();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰과 만료된 토큰은 검증에 실패한다")
+    void verify_RejectsForgedAndExpired() {
+        // Given
+        String forged = jwtUtil(60_000L, "other_secret_key_other_secret_key_other_secret").generateAccessToken(1L, "STUDENT", "사용자");
+        String expired = jwtUtil(-1_000L).generateAccessToken(1L, "STUDENT", "사용자");
+
+        // When & Then
+        assertThatThrownBy(() -> jwtUtil.verify(forged)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtUtil.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("토큰 종류를 구분해 검증한다")
+    void validate_ChecksTokenType() {
+        // Given
+        String accessToken = jwtUtil.generateAccessToken(1L, "STUDENT", "사용자");
+        String refreshToken = jwtUtil.generateRefreshToken(1L);
+
+        // When & Then
+        assertThat(jwtUtil.validateAccessToken(accessToken)).isTrue();
+        assertThat(jwtUtil.validateRefreshToken(refreshToken)).isTrue();
+        assertThatThrownBy(() -> jwtUtil.validateAccessToken(refreshToken))
+                .isInstanceOf(org.springframework.security.authentication.BadCredentialsException.class);
+    }
+
+    private static JwtUtil jwtUtil(long accessExpTime) {
+        return jwtUtil(accessExpTime, "test_secret_key_test_secret_key_test_secret_key");
+    }
+
+    private static JwtUtil jwtUtil(long accessExpTime, String secret) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", secret);
+        ReflectionTestUtils.setField(jwtUtil, "accessExpTime", accessExpTime);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpTime", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", 100L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,95 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 요청 하나의 Access Token 검증 비용 비교 (토큰당 ns).
+ * 이전 방식 : 요청마다 파서를 새로 만들어 같은 토큰을 세 번 해석 (필터, validateAccessToken, isTokenExpired).
+ * 현재 방식 : 재사용 파서로 한 번 해석, 같은 토큰이 다시 오면 다이제스트 캐시 적중.
+ * ./gradlew benchmark -Dbenchmark.tokens=1000 처럼 서로 다른 토큰 수를 바꿔 실행할 수 있다.
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmark {
+
+    private static final String SECRET = "test_secret_key_test_secret_key_test_secret_key";
+    private static final int TOKENS = Integer.getInteger("benchmark.tokens", 1_000);
+    private static final int WARM_UP = 5;
+    private static final int RUNS = 21;
+
+    private static volatile long blackhole;
+
+    @Test
+    @DisplayName("토큰마다 파서 생성 + 3회 해석, 재사용 파서 1회 해석, 캐시 적중 비교")
+    void compareVerification() {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        List<String> tokens = new ArrayList<>(TOKENS);
+        JwtUtil issuer = jwtUtil(0);
+        for (long userId = 1; userId <= TOKENS; userId++) {
+            tokens.add(issuer.generateAccessToken(userId, "STUDENT", "사용자"));
+        }
+
+        double before = medianNanosPerToken(tokens, token -> {
+            long sum = 0;
+            for (int i = 0; i < 3; i++) {
+                Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+                sum += claims.getExpiration().before(new Date()) ? 0 : Long.parseLong(claims.getSubject());
+            }
+            return sum;
+        });
+        // 캐시 크기 0 : 매번 재사용 파서로 검증
+        JwtUtil uncached = jwtUtil(0);
+        double singlePass = medianNanosPerToken(tokens, token -> uncached.verify(token).userId());
+        JwtUtil cached = jwtUtil(TOKENS);
+        double cacheHit = medianNanosPerToken(tokens, token -> cached.verify(token).userId());
+
+        System.out.printf("tokens=%d%n", TOKENS);
+        System.out.printf("%-28s = %10.0f ns/token%n", "new parser x3 (before)", before);
+        System.out.printf("%-28s = %10.0f ns/token%n", "shared parser x1", singlePass);
+        System.out.printf("%-28s = %10.0f ns/token%n", "verified-token cache hit", cacheHit);
+    }
+
+    private static JwtUtil jwtUtil(long cacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessExpTime", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpTime", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheSize", cacheSize);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    // 결과를 합산해 JIT가 검증 호출을 지우지 못하게 함
+    private static double medianNanosPerToken(List<String> tokens, ToLongFunction<String> verify) {
+        long sink = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            for (String token : tokens) {
+                sink += verify.applyAsLong(token);
+            }
+        }
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            for (String token : tokens) {
+                sink += verify.applyAsLong(token);
+            }
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        blackhole = sink;
+        return (double) samples[RUNS / 2] / tokens.size();
+    }
+}
@@ -0,0 +1,94 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.cache.LectureCatalogVersion;
+import com.weolbu.assignment.service.event.LectureCreatedEvent;
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LectureCatalogVersionTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("강의 개설과 수강 신청마다 버전이 증가한다")
+    void bumpsOnChanges() {
+        // Given
+        LectureCatalogVersion catalogVersion = new LectureCatalogVersion(redisTemplate, true, false);
+        long initial = catalogVersion.current().getAsLong();
+
+        // When
+        catalogVersion.onLectureCreated(new LectureCreatedEvent(1L, 30, 10000));
+        catalogVersion.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 1));
+
+        // Then
+        assertThat(catalogVersion.current()).hasValue(initial + 2);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("If-None-Match의 ETag 중 하나가 현재 버전과 같으면 일치로 판단한다")
+    void matches_WeakComparison() {
+        // Given
+        String etag = LectureCatalogVersion.etag(42);
+
+        // When & Then
+        assertThat(etag).isEqualTo("W/\"lectures-42\"");
+        assertThat(LectureCatalogVersion.matches(etag, 42)).isTrue();
+        assertThat(LectureCatalogVersion.matches("\"other\", \"lectures-42\"", 42)).isTrue();
+        assertThat(LectureCatalogVersion.matches("W/\"lectures-41\"", 42)).isFalse();
+        assertThat(LectureCatalogVersion.matches(null, 42)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 버전 증가에 실패하면 다시 증가할 때까지 버전을 알 수 없는 것으로 처리한다")
+    void bumpFailure_HidesVersionUntilRecovered() {
+        // Given
+        LectureCatalogVersion catalogVersion = new LectureCatalogVersion(redisTemplate, true, true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("lecture-catalog:version")), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(101L);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.get("lecture-catalog:version")).thenReturn("101");
+
+        // When
+        catalogVersion.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 1));
+        OptionalLong recovered = catalogVersion.current();
+
+        // Then : 조회 시 밀린 증가를 먼저 반영한 뒤 버전을 읽음
+        assertThat(recovered).hasValue(101);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of("lecture-catalog:version")), anyString());
+    }
+
+    @Test
+    @DisplayName("사용하지 않으면 버전을 내려주지 않는다")
+    void disabled() {
+        // Given
+        LectureCatalogVersion catalogVersion = new LectureCatalogVersion(redisTemplate, false, true);
+
+        // When & Then
+        assertThat(catalogVersion.current()).isEmpty();
+        verifyNoInteractions(redisTemplate);
+    }
+}
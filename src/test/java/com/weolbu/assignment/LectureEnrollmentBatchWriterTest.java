@@ -0,0 +1,167 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.repository.EnrollmentJdbcRepository;
+import com.weolbu.assignment.repository.EnrollmentRepository;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.EnrollmentDuplicateFilter;
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.LectureEnrollmentBatchWriter;
+import com.weolbu.assignment.service.seat.SeatSlotCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LectureEnrollmentBatchWriterTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @Mock
+    private SeatSlotCounter seatSlotCounter;
+
+    @Mock
+    private EnrollmentDuplicateFilter duplicateFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LectureEnrollmentBatchWriter batchWriter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(duplicateFilter.mightBeEnrolled(anyLong(), anyLong())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("남은 좌석은 먼저 접수된 순서대로 배정되고 신청자 수는 한 번에 증가한다")
+    void enroll_AssignsSeatsInArrivalOrder() {
+        // Given
+        when(lectureRepository.findSeatSlotCount(1L)).thenReturn(Optional.of(0));
+        when(enrollmentJdbcRepository.lockRemainingSeats(1L)).thenReturn(Optional.of(2));
+        when(enrollmentRepository.findEnrolledStudentIds(eq(1L), anyCollection())).thenReturn(List.of(11L));
+
+        // When
+        List<EnrollmentOutcome> outcomes = batchWriter.enroll(1L, List.of(10L, 11L, 12L, 10L, 13L));
+
+        // Then
+        assertThat(outcomes).containsExactly(
+                EnrollmentOutcome.ENROLLED,
+                EnrollmentOutcome.ALREADY_ENROLLED,
+                EnrollmentOutcome.ENROLLED,
+                EnrollmentOutcome.ALREADY_ENROLLED,
+                EnrollmentOutcome.CAPACITY_EXCEEDED);
+        verify(enrollmentJdbcRepository, times(1)).addParticipants(1L, 2);
+        verify(enrollmentJdbcRepository, times(1)).insertLectureEnrollments(1L, List.of(10L, 12L));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 강의는 아무것도 저장하지 않는다")
+    void enroll_LectureNotFound() {
+        // Given
+        when(lectureRepository.findSeatSlotCount(1L)).thenReturn(Optional.empty());
+
+        // When
+        List<EnrollmentOutcome> outcomes = batchWriter.enroll(1L, List.of(10L, 11L));
+
+        // Then
+        assertThat(outcomes).containsOnly(EnrollmentOutcome.LECTURE_NOT_FOUND);
+        verify(enrollmentJdbcRepository, never()).addParticipants(anyLong(), anyInt());
+        verify(enrollmentJdbcRepository, never()).insertLectureEnrollments(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("좌석 슬롯으로 나눈 강의는 강의 row를 잠그지 않고 슬롯에서 확보한 좌석만큼 배정한다")
+    void enroll_SeatSlottedLecture() {
+        // Given
+        when(lectureRepository.findSeatSlotCount(1L)).thenReturn(Optional.of(4));
+        when(enrollmentRepository.findEnrolledStudentIds(eq(1L), anyCollection())).thenReturn(List.of(11L));
+        when(seatSlotCounter.claim(1L, 4, 3)).thenReturn(2);
+
+        // When
+        List<EnrollmentOutcome> outcomes = batchWriter.enroll(1L, List.of(10L, 11L, 12L, 13L));
+
+        // Then
+        assertThat(outcomes).containsExactly(
+                EnrollmentOutcome.ENROLLED,
+                EnrollmentOutcome.ALREADY_ENROLLED,
+                EnrollmentOutcome.ENROLLED,
+                EnrollmentOutcome.CAPACITY_EXCEEDED);
+        verify(enrollmentJdbcRepository, never()).lockRemainingSeats(anyLong());
+        verify(enrollmentJdbcRepository, never()).addParticipants(anyLong(), anyInt());
+        verify(enrollmentJdbcRepository, times(1)).insertLectureEnrollments(1L, List.of(10L, 12L));
+    }
+
+    @Test
+    @DisplayName("확인 이후 다른 요청이 먼저 저장한 학생만 이미 신청한 것으로 처리하고 나머지는 그대로 신청된다")
+    void enroll_DuplicateFailsOnlyThatStudent() {
+        // Given
+        when(lectureRepository.findSeatSlotCount(1L)).thenReturn(Optional.of(0));
+        when(enrollmentJdbcRepository.lockRemainingSeats(1L)).thenReturn(Optional.of(5));
+        when(enrollmentJdbcRepository.insertLectureEnrollments(1L, List.of(10L, 11L, 12L))).thenReturn(Set.of(11L));
+
+        // When
+        List<EnrollmentOutcome> outcomes = batchWriter.enroll(1L, List.of(10L, 11L, 12L));
+
+        // Then
+        assertThat(outcomes).containsExactly(
+                EnrollmentOutcome.ENROLLED,
+                EnrollmentOutcome.ALREADY_ENROLLED,
+                EnrollmentOutcome.ENROLLED);
+        verify(enrollmentJdbcRepository, times(1)).addParticipants(1L, 2);
+    }
+
+    @Test
+    @DisplayName("좌석 슬롯 강의에서 먼저 저장된 학생 몫으로 확보한 좌석은 슬롯에 반환한다")
+    void enroll_SeatSlottedLectureReleasesDuplicateSeats() {
+        // Given
+        when(lectureRepository.findSeatSlotCount(1L)).thenReturn(Optional.of(4));
+        when(seatSlotCounter.claim(1L, 4, 2)).thenReturn(2);
+        when(enrollmentJdbcRepository.insertLectureEnrollments(1L, List.of(10L, 11L))).thenReturn(Set.of(10L));
+
+        // When
+        List<EnrollmentOutcome> outcomes = batchWriter.enroll(1L, List.of(10L, 11L));
+
+        // Then
+        assertThat(outcomes).containsExactly(EnrollmentOutcome.ALREADY_ENROLLED, EnrollmentOutcome.ENROLLED);
+        verify(seatSlotCounter, times(1)).release(1L, 4, 1);
+    }
+
+    @Test
+    @DisplayName("중복 필터가 신청한 적 없다고 확인한 학생만 있으면 중복 확인 쿼리를 실행하지 않는다")
+    void enroll_SkipsDuplicateQueryForUnseenStudents() {
+        // Given
+        when(duplicateFilter.mightBeEnrolled(anyLong(), anyLong())).thenReturn(false);
+        when(lectureRepository.findSeatSlotCount(1L)).thenReturn(Optional.of(0));
+        when(enrollmentJdbcRepository.lockRemainingSeats(1L)).thenReturn(Optional.of(5));
+
+        // When
+        List<EnrollmentOutcome> outcomes = batchWriter.enroll(1L, List.of(10L, 11L));
+
+        // Then
+        assertThat(outcomes).containsOnly(EnrollmentOutcome.ENROLLED);
+        verify(enrollmentRepository, never()).findEnrolledStudentIds(anyLong(), anyCollection());
+        verify(duplicateFilter, times(1)).record(1L, 10L);
+        verify(duplicateFilter, times(1)).record(1L, 11L);
+    }
+}
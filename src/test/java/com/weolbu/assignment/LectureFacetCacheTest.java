@@ -0,0 +1,67 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.dto.LectureFacetResponse;
+import com.weolbu.assignment.dto.LectureFacetResponse.PriceBucket;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.LectureFacetCache;
+import com.weolbu.assignment.service.event.LectureCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LectureFacetCacheTest {
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    private LectureFacetCache facetCache;
+
+    @BeforeEach
+    void setUp() {
+        facetCache = new LectureFacetCache(lectureRepository, new int[]{30000, 10000});
+    }
+
+    @Test
+    @DisplayName("가격 구간별 강의 수를 인덱스 범위 COUNT로 다시 계산한다")
+    void refresh_CountsEachBucket() {
+        // Given
+        when(lectureRepository.countByPriceLessThan(10000)).thenReturn(3L);
+        when(lectureRepository.countByPriceGreaterThanEqualAndPriceLessThan(10000, 30000)).thenReturn(5L);
+        when(lectureRepository.countByPriceGreaterThanEqual(30000)).thenReturn(2L);
+        when(lectureRepository.count()).thenReturn(10L);
+        when(lectureRepository.countByFillRateLessThan(1.0)).thenReturn(7L);
+
+        // When
+        facetCache.refresh();
+        LectureFacetResponse facets = facetCache.facets();
+
+        // Then
+        assertThat(facets.getTotalCount()).isEqualTo(10);
+        assertThat(facets.getAvailableCount()).isEqualTo(7);
+        assertThat(facets.getPriceBuckets()).extracting(PriceBucket::getMinPrice).containsExactly(0, 10000, 30000);
+        assertThat(facets.getPriceBuckets()).extracting(PriceBucket::getMaxPrice).containsExactly(10000, 30000, null);
+        assertThat(facets.getPriceBuckets()).extracting(PriceBucket::getCount).containsExactly(3L, 5L, 2L);
+    }
+
+    @Test
+    @DisplayName("개설된 강의는 재계산 없이 가격 구간과 신청 가능 강의 수에 더한다")
+    void onLectureCreated_IncrementsBucket() {
+        // When
+        facetCache.onLectureCreated(new LectureCreatedEvent(1L, 30, 10000));
+        facetCache.onLectureCreated(new LectureCreatedEvent(2L, 30, 50000));
+
+        // Then
+        LectureFacetResponse facets = facetCache.facets();
+        assertThat(facets.getPriceBuckets()).extracting(PriceBucket::getCount).containsExactly(0L, 1L, 1L);
+        assertThat(facets.getTotalCount()).isEqualTo(2);
+        assertThat(facets.getAvailableCount()).isEqualTo(2);
+        verifyNoInteractions(lectureRepository);
+    }
+}
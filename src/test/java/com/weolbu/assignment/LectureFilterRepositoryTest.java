@@ -0,0 +1,103 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.entity.Lecture;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.entity.User;
+import com.weolbu.assignment.repository.LectureFilter;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.LectureRepository.LectureListItem;
+import com.weolbu.assignment.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {"JWT_SECRET_KEY=test_secret_key_test_secret_key_test_secret_key"})
+class LectureFilterRepositoryTest {
+
+    private static final Sort POPULAR = Sort.by(Sort.Order.desc("currentParticipants"));
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User instructor;
+    private final List<Long> lectureIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        instructor = userRepository.save(User.builder()
+                .userName("필터 강사")
+                .email("filter-instructor@example.com")
+                .phone("01077770000")
+                .password("password")
+                .role(Role.INSTRUCTOR)
+                .build());
+
+        // (가격, 신청자 수, 정원) : 마지막 강의는 마감
+        int[][] lectures = {{5000, 1, 10}, {15000, 3, 10}, {25000, 5, 10}, {15000, 10, 10}};
+        for (int[] values : lectures) {
+            lectureIds.add(lectureRepository.save(Lecture.builder()
+                    .title("필터 강의 " + values[0])
+                    .price(values[0])
+                    .currentParticipants(values[1])
+                    .maxParticipants(values[2])
+                    .seatSlotCount(0)
+                    .instructor(instructor)
+                    .build()).getLectureId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        lectureRepository.deleteAllById(lectureIds);
+        userRepository.deleteById(instructor.getUserId());
+    }
+
+    @Test
+    @DisplayName("강사, 가격 범위, 신청 가능 조건을 함께 적용하고 정렬 순서를 유지한다")
+    void findListItemPage_CombinesFilters() {
+        // Given
+        LectureFilter filter = new LectureFilter(10000, 30000, instructor.getUserId(), true);
+
+        // When
+        Page<LectureListItem> page = lectureRepository.findListItemPage(filter, PageRequest.of(0, 10, POPULAR));
+
+        // Then
+        assertThat(page.getContent()).extracting(LectureListItem::getPrice).containsExactly(25000, 15000);
+        assertThat(page.getContent()).extracting(LectureListItem::getInstructorName).containsOnly("필터 강사");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Slice 조회는 한 건 더 읽어 다음 페이지 존재 여부를 판단한다")
+    void findListItemSlice_DetectsNextPage() {
+        // Given
+        LectureFilter filter = new LectureFilter(null, null, instructor.getUserId(), false);
+
+        // When
+        Slice<LectureListItem> first = lectureRepository.findListItemSlice(filter, PageRequest.of(0, 3, POPULAR));
+        Slice<LectureListItem> last = lectureRepository.findListItemSlice(filter, PageRequest.of(1, 3, POPULAR));
+
+        // Then
+        assertThat(first.getContent()).extracting(LectureListItem::getCurrentParticipants).containsExactly(10, 5, 3);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(LectureListItem::getCurrentParticipants).containsExactly(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,194 @@
+package com.weolbu.assignment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weolbu.assignment.dto.LectureSearchResponse;
+import com.weolbu.assignment.service.LectureService;
+import com.weolbu.assignment.service.cache.LectureCatalogVersion;
+import com.weolbu.assignment.service.cache.LectureListingCache;
+import com.weolbu.assignment.service.event.LectureCreatedEvent;
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LectureListingCacheTest {
+
+    @Mock
+    private LectureService lectureService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private LectureCatalogVersion catalogVersion;
+    private LectureListingCache listingCache;
+
+    @BeforeEach
+    void setUp() {
+        // Redis 단계 없이 인스턴스 내부 캐시만 사용, 만료는 테스트 중에 일어나지 않도록 길게 설정
+        catalogVersion = new LectureCatalogVersion(redisTemplate, true, false);
+        listingCache = new LectureListingCache(lectureService, redisTemplate, new ObjectMapper(), catalogVersion,
+                true, false, 5, 100, 60_000, 60_000, 200, 1);
+        lenient().when(lectureService.getLectures(any(), any(), eq(false))).thenReturn(page());
+    }
+
+    @AfterEach
+    void tearDown() {
+        listingCache.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 페이지를 다시 조회하면 DB를 읽지 않는다")
+    void getLectures_HitsNearCache() {
+        // When
+        listingCache.getLectures(PageRequest.of(0, 20), "popular");
+        Page<LectureSearchResponse> second = listingCache.getLectures(PageRequest.of(0, 20), "popular");
+
+        // Then
+        assertThat(second.getContent()).extracting(LectureSearchResponse::getTitle).containsExactly("강의");
+        assertThat(second.getTotalElements()).isEqualTo(1);
+        verify(lectureService, times(1)).getLectures(any(), eq("popular"), eq(false));
+        assertThat(listingCache.stats().nearHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 대상 페이지보다 뒤의 페이지는 항상 DB에서 읽는다")
+    void getLectures_DeepPageBypassesCache() {
+        // When
+        listingCache.getLectures(PageRequest.of(5, 20), "popular");
+        listingCache.getLectures(PageRequest.of(5, 20), "popular");
+
+        // Then
+        verify(lectureService, times(2)).getLectures(any(), eq("popular"), eq(false));
+    }
+
+    @Test
+    @DisplayName("강의가 개설되면 캐시를 바로 무효화한다")
+    void onLectureCreated_InvalidatesImmediately() {
+        // Given
+        listingCache.getLectures(PageRequest.of(0, 20), "recent");
+
+        // When
+        listingCache.onLectureCreated(new LectureCreatedEvent(1L, 30, 10000));
+        listingCache.getLectures(PageRequest.of(0, 20), "recent");
+
+        // Then
+        verify(lectureService, times(2)).getLectures(any(), eq("recent"), eq(false));
+    }
+
+    @Test
+    @DisplayName("수강 신청으로 인한 무효화는 주기마다 한 번으로 모아 처리한다")
+    void onEnrollmentChanged_CoalescedUntilRefresh() {
+        // Given
+        listingCache.getLectures(PageRequest.of(0, 20), "popular");
+
+        // When
+        listingCache.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 1));
+        listingCache.onEnrollmentChanged(new LectureEnrollmentChangedEvent(2L, 1));
+        listingCache.getLectures(PageRequest.of(0, 20), "popular");
+        listingCache.refreshAfterEnrollments();
+        listingCache.refreshAfterEnrollments();
+        listingCache.getLectures(PageRequest.of(0, 20), "popular");
+
+        // Then
+        verify(lectureService, times(2)).getLectures(any(), eq("popular"), eq(false));
+    }
+
+    @Test
+    @DisplayName("캐시된 페이지는 DB에서 읽기 직전의 목록 버전을 유지한다")
+    void getVersionedLectures_KeepsLoadVersion() {
+        // Given
+        long loadVersion = catalogVersion.current().getAsLong();
+        listingCache.getVersionedLectures(PageRequest.of(0, 20), "popular");
+
+        // When : 목록이 바뀌었지만 캐시 무효화 주기 전
+        catalogVersion.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 1));
+        listingCache.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 1));
+        LectureListingCache.VersionedLecturePage cached = listingCache.getVersionedLectures(PageRequest.of(0, 20), "popular");
+
+        // Then
+        assertThat(cached.catalogVersion()).hasValue(loadVersion);
+        assertThat(catalogVersion.current()).hasValue(loadVersion + 1);
+    }
+
+    @Test
+    @DisplayName("만료된 페이지에 동시에 요청이 몰려도 DB는 한 번만 읽는다")
+    void getLectures_SingleLoadUnderConcurrentMisses() throws InterruptedException {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        when(lectureService.getLectures(any(), eq("rate"), eq(false))).thenAnswer(invocation -> {
+            loading.await(1, TimeUnit.SECONDS);
+            return page();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch finished = new CountDownLatch(16);
+
+        // When
+        for (int i = 0; i < 16; i++) {
+            executor.submit(() -> {
+                try {
+                    listingCache.getLectures(PageRequest.of(0, 20), "rate");
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        Thread.sleep(100);
+        loading.countDown();
+        boolean completed = finished.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(completed).isTrue();
+        verify(lectureService, times(1)).getLectures(any(), eq("rate"), eq(false));
+    }
+
+    @Test
+    @DisplayName("Redis 로딩 잠금은 토큰을 비교해 지우는 스크립트 하나로 해제한다")
+    void getLectures_UnlocksWithCompareAndDelete() {
+        // Given : Redis 단계 사용, Redis 조회와 저장은 실패하는 상태
+        listingCache.shutdown();
+        listingCache = new LectureListingCache(lectureService, redisTemplate, new ObjectMapper(), catalogVersion,
+                true, true, 5, 100, 60_000, 60_000, 200, 1);
+
+        // When
+        listingCache.getLectures(PageRequest.of(0, 20), "popular");
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("lecture-listing:lock:popular:0:20")), anyString());
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    private Page<LectureSearchResponse> page() {
+        LectureSearchResponse lecture = LectureSearchResponse.builder()
+                .lectureId(1L)
+                .title("강의")
+                .price(10000)
+                .instructorName("강사")
+                .currentParticipants(1)
+                .maxParticipants(10)
+                .build();
+        return new PageImpl<>(List.of(lecture), PageRequest.of(0, 20), 1);
+    }
+}
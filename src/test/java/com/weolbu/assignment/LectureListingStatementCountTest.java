@@ -0,0 +1,106 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.config.StatementCountingDataSourcePostProcessor;
+import com.weolbu.assignment.dto.LectureCursorPageResponse;
+import com.weolbu.assignment.dto.LectureSearchResponse;
+import com.weolbu.assignment.entity.Lecture;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.entity.User;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.LectureService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(StatementCountingDataSourcePostProcessor.class)
+@TestPropertySource(properties = {"JWT_SECRET_KEY=test_secret_key_test_secret_key_test_secret_key"})
+class LectureListingStatementCountTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private StatementCountingDataSourcePostProcessor statementCounter;
+
+    private final List<User> instructors = new ArrayList<>();
+    private final List<Long> lectureIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            instructors.add(userRepository.save(User.builder()
+                    .userName("목록 강사 " + i)
+                    .email("listing-instructor" + i + "@example.com")
+                    .phone(String.format("0105555%04d", i))
+                    .password("password")
+                    .role(Role.INSTRUCTOR)
+                    .build()));
+        }
+
+        // 다른 테스트의 강의보다 신청자 수를 크게 두어 첫 페이지를 이 강의들로 채움
+        for (int i = 1; i <= PAGE_SIZE + 5; i++) {
+            Lecture lecture = lectureRepository.save(Lecture.builder()
+                    .title("목록 강의 " + i)
+                    .maxParticipants(10_000)
+                    .currentParticipants(5_000 + i)
+                    .price(10000)
+                    .seatSlotCount(0)
+                    .instructor(instructors.get(i % instructors.size()))
+                    .build());
+            lectureIds.add(lecture.getLectureId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        lectureRepository.deleteAllById(lectureIds);
+        userRepository.deleteAll(instructors);
+    }
+
+    @Test
+    @DisplayName("강의 목록 한 페이지는 강사 수와 관계없이 SQL 한 문장으로 조회된다")
+    void getLectures_SingleStatementPerPage() {
+        // When
+        statementCounter.reset();
+        Page<LectureSearchResponse> page = lectureService.getLectures(PageRequest.of(0, PAGE_SIZE), "popular", false);
+        long sliceStatements = statementCounter.getStatementCount();
+
+        statementCounter.reset();
+        LectureCursorPageResponse cursorPage = lectureService.getLecturesByCursor(null, PAGE_SIZE, "popular");
+        long cursorStatements = statementCounter.getStatementCount();
+
+        statementCounter.reset();
+        lectureService.getLectures(PageRequest.of(0, PAGE_SIZE), "popular", true);
+        long exactTotalStatements = statementCounter.getStatementCount();
+
+        // Then
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent().get(0).getInstructorName()).startsWith("목록 강사");
+        assertThat(cursorPage.getContent()).hasSize(PAGE_SIZE);
+        assertThat(sliceStatements).isEqualTo(1);
+        assertThat(cursorStatements).isEqualTo(1);
+        assertThat(exactTotalStatements).isEqualTo(2); // 목록 + COUNT
+    }
+}
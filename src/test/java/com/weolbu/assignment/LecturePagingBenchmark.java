@@ -0,0 +1,137 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.dto.LectureCursorPageResponse;
+import com.weolbu.assignment.dto.LectureSearchResponse;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.entity.User;
+import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.LectureCursor;
+import com.weolbu.assignment.service.LectureService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * offset 페이지 조회와 커서 페이지 조회의 페이지 깊이별 지연 비교.
+ * 기본값은 강의 약 20만 개에서 1페이지와 10,000페이지(페이지 크기 20)를 각각 조회한다.
+ * ./gradlew benchmark -Dbenchmark.page=10000 -Dbenchmark.page-size=20 처럼 조건을 바꿔 실행할 수 있다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = {"JWT_SECRET_KEY=test_secret_key_test_secret_key_test_secret_key"})
+class LecturePagingBenchmark {
+
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page-size", 20);
+    private static final int DEEP_PAGE = Integer.getInteger("benchmark.page", 10_000);
+    private static final int LECTURES = (DEEP_PAGE + 1) * PAGE_SIZE;
+    private static final int WARM_UP = 5;
+    private static final int RUNS = 21;
+    private static final int INSERT_BATCH = 5_000;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User instructor;
+
+    @BeforeEach
+    void setUp() {
+        instructor = userRepository.save(User.builder()
+                .userName("페이지 벤치마크 강사")
+                .email("paging-instructor@example.com")
+                .phone("01099990003")
+                .password("password")
+                .role(Role.INSTRUCTOR)
+                .build());
+        insertLectures();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM lectures WHERE instructor_id = ?", instructor.getUserId());
+        userRepository.deleteById(instructor.getUserId());
+    }
+
+    @Test
+    @DisplayName("1페이지와 깊은 페이지의 offset 조회, 커서 조회 지연 비교")
+    void compareOffsetAndCursorLatency() {
+        LectureCursor deepCursor = cursorBefore(DEEP_PAGE);
+
+        double offsetFirst = medianMillis(() -> lectureService.getLectures(PageRequest.of(0, PAGE_SIZE), "popular", false));
+        double offsetDeep = medianMillis(() -> lectureService.getLectures(PageRequest.of(DEEP_PAGE, PAGE_SIZE), "popular", false));
+        double cursorFirst = medianMillis(() -> lectureService.getLecturesByCursor(null, PAGE_SIZE, "popular"));
+        double cursorDeep = medianMillis(() -> lectureService.getLecturesByCursor(deepCursor.encode(), PAGE_SIZE, "popular"));
+
+        System.out.printf("lectures=%d, page size=%d%n", LECTURES, PAGE_SIZE);
+        System.out.printf("%-8s page 1 = %8.3f ms, page %d = %8.3f ms%n", "offset", offsetFirst, DEEP_PAGE, offsetDeep);
+        System.out.printf("%-8s page 1 = %8.3f ms, page %d = %8.3f ms%n", "cursor", cursorFirst, DEEP_PAGE, cursorDeep);
+
+        // 두 방식이 같은 깊은 페이지를 돌려주는지 확인
+        Page<LectureSearchResponse> offsetPage = lectureService.getLectures(PageRequest.of(DEEP_PAGE, PAGE_SIZE), "popular", false);
+        LectureCursorPageResponse cursorPage = lectureService.getLecturesByCursor(deepCursor.encode(), PAGE_SIZE, "popular");
+        assertThat(cursorPage.getContent()).extracting(LectureSearchResponse::getLectureId)
+                .containsExactlyElementsOf(offsetPage.getContent().stream().map(LectureSearchResponse::getLectureId).toList());
+    }
+
+    // 강의마다 신청자 수를 다르게 (다른 테스트의 강의보다 크게) 두어 offset 정렬과 커서 정렬의 순서가 같도록 함
+    private void insertLectures() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < LECTURES; i++) {
+            rows.add(new Object[]{"페이지 강의 " + i, 2 * LECTURES, LECTURES + i, 10000, (double) (LECTURES + i) / (2 * LECTURES), instructor.getUserId(), now, now});
+            if (rows.size() == INSERT_BATCH || i == LECTURES - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO lectures (title, max_participants, current_participants, price, " +
+                        "seat_slot_count, fill_rate, instructor_id, version, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, 0, ?, ?, 0, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    // page 번째 페이지 직전 강의의 (신청자 수, 강의 ID)로 만든 커서
+    private LectureCursor cursorBefore(int page) {
+        Map<String, Object> last = jdbcTemplate.queryForMap(
+                "SELECT current_participants, lecture_id FROM lectures " +
+                        "ORDER BY current_participants DESC, lecture_id DESC LIMIT 1 OFFSET ?",
+                page * PAGE_SIZE - 1);
+        return new LectureCursor("popular", last.get("CURRENT_PARTICIPANTS").toString(),
+                ((Number) last.get("LECTURE_ID")).longValue());
+    }
+
+    private double medianMillis(Supplier<?> query) {
+        for (int i = 0; i < WARM_UP; i++) {
+            query.get();
+        }
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2] / 1_000_000.0;
+    }
+}
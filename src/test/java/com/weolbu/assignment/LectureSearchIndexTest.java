@@ -0,0 +1,155 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.search.LectureSearchIndex;
+import com.weolbu.assignment.service.search.LectureSearchIndex.IndexedLecture;
+import com.weolbu.assignment.service.search.LectureSearchIndex.SearchHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LectureSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private LectureSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new LectureSearchIndex();
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 검색할 수 없다")
+    void search_EmptyBeforeRebuild() {
+        // When & Then
+        assertThat(searchIndex.search("자바", "relevance", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목과 강사 이름의 부분 문자열로 검색하고 대소문자를 구분하지 않는다")
+    void search_MatchesTitleAndInstructor() {
+        // Given
+        searchIndex.replaceAll(List.of(
+                lecture(1L, "자바 입문", "김강사", 0, 10, 0),
+                lecture(2L, "Spring Boot 실전", "이자바", 0, 10, 1),
+                lecture(3L, "파이썬 기초", "박강사", 0, 10, 2)));
+
+        // When
+        SearchHits java = search("자바", "relevance");
+        SearchHits spring = search("spring", "relevance");
+        SearchHits instructor = search("강사", "relevance");
+
+        // Then
+        assertThat(java.lectureIds()).containsExactly(1L, 2L);
+        assertThat(spring.lectureIds()).containsExactly(2L);
+        assertThat(instructor.lectureIds()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("n-gram이 모두 있어도 원문에 검색어가 이어져 있지 않으면 제외한다")
+    void search_VerifiesCandidates() {
+        // Given : '자바'와 '바스'는 있지만 '자바스'는 없음
+        searchIndex.replaceAll(List.of(
+                lecture(1L, "자바 바스켓", "김강사", 0, 10, 0),
+                lecture(2L, "자바스크립트", "김강사", 0, 10, 1)));
+
+        // When
+        SearchHits hits = search("자바스", "relevance");
+
+        // Then
+        assertThat(hits.lectureIds()).containsExactly(2L);
+        assertThat(hits.total()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 단어는 모두 포함한 강의만 찾고 한 글자 단어도 검색한다")
+    void search_AllWordsAndSingleCharacter() {
+        // Given
+        searchIndex.replaceAll(List.of(
+                lecture(1L, "자바 웹 개발", "김강사", 0, 10, 0),
+                lecture(2L, "자바 기초", "김강사", 0, 10, 1),
+                lecture(3L, "웹 디자인", "김강사", 0, 10, 2)));
+
+        // When & Then
+        assertThat(search("자바 웹", "relevance").lectureIds()).containsExactly(1L);
+        assertThat(search("웹", "relevance").lectureIds()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("관련도는 제목 일치를 강사 이름 일치보다 높게 매기고, 다른 정렬 기준과 함께 쓸 수 있다")
+    void search_RanksAndSorts() {
+        // Given
+        searchIndex.replaceAll(List.of(
+                lecture(1L, "데이터 분석", "자바왕", 9, 10, 0),
+                lecture(2L, "실전 자바", "김강사", 1, 10, 1),
+                lecture(3L, "자바 마스터", "김강사", 5, 100, 2)));
+
+        // When & Then
+        assertThat(search("자바", "relevance").lectureIds()).containsExactly(3L, 2L, 1L);
+        assertThat(search("자바", "popular").lectureIds()).containsExactly(1L, 3L, 2L);
+        assertThat(search("자바", "recent").lectureIds()).containsExactly(3L, 2L, 1L);
+        assertThat(search("자바", "rate").lectureIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("새 강의와 수강 신청을 증분 반영한다")
+    void addAndIncrement() {
+        // Given
+        searchIndex.replaceAll(List.of(lecture(1L, "자바 입문", "김강사", 3, 10, 0)));
+
+        // When
+        searchIndex.add(lecture(2L, "자바 심화", "김강사", 0, 10, 1));
+        searchIndex.increment(2L, 5);
+
+        // Then
+        assertThat(search("자바", "popular").lectureIds()).containsExactly(2L, 1L);
+        assertThat(searchIndex.lastLectureId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("강의 ID가 역순으로 추가되어도 검색 결과에 포함한다")
+    void add_OutOfOrder() {
+        // Given
+        searchIndex.replaceAll(List.of(lecture(5L, "자바 입문", "김강사", 0, 10, 0)));
+
+        // When
+        searchIndex.add(lecture(3L, "자바 심화", "김강사", 0, 10, 1));
+
+        // Then
+        assertThat(search("자바", "relevance").lectureIds()).containsExactly(5L, 3L);
+        assertThat(search("심화", "relevance").lectureIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("건너뛰기 지점을 넘는 긴 포스팅 목록에서도 교집합과 페이지 구간이 정확하다")
+    void search_LongPostingLists() {
+        // Given : 모든 강의에 '강의', 3의 배수 강의에만 '특강'
+        List<IndexedLecture> lectures = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            lectures.add(lecture(id, id % 3 == 0 ? "특강 강의 " + id : "일반 강의 " + id, "김강사", 0, 10, 0));
+        }
+        searchIndex.replaceAll(lectures);
+
+        // When
+        SearchHits hits = searchIndex.search("특강 강의", "relevance", 10, 5).orElseThrow();
+
+        // Then
+        assertThat(hits.total()).isEqualTo(666);
+        assertThat(hits.lectureIds()).containsExactly(1968L, 1965L, 1962L, 1959L, 1956L);
+    }
+
+    private SearchHits search(String query, String sort) {
+        return searchIndex.search(query, sort, 0, 10).orElseThrow();
+    }
+
+    private static IndexedLecture lecture(long lectureId, String title, String instructorName,
+                                          int participants, int maxParticipants, int minutes) {
+        return new IndexedLecture(lectureId, title, instructorName, BASE.plusMinutes(minutes), participants, maxParticipants);
+    }
+}
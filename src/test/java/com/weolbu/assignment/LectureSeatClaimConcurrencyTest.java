@@ -0,0 +1,106 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.entity.Lecture;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.entity.User;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {"JWT_SECRET_KEY=test_secret_key_test_secret_key_test_secret_key"})
+class LectureSeatClaimConcurrencyTest {
+
+    private static final int MAX_PARTICIPANTS = 100;
+    private static final int REQUEST_COUNT = 3000;
+    private static final int THREAD_COUNT = 64;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User instructor;
+    private Lecture lecture;
+
+    @BeforeEach
+    void setUp() {
+        instructor = userRepository.save(User.builder()
+                .userName("동시성 강사")
+                .email("concurrency-instructor@example.com")
+                .phone("01099990000")
+                .password("password")
+                .role(Role.INSTRUCTOR)
+                .build());
+
+        lecture = lectureRepository.save(Lecture.builder()
+                .title("동시성 테스트 강의")
+                .maxParticipants(MAX_PARTICIPANTS)
+                .currentParticipants(0)
+                .price(10000)
+                .instructor(instructor)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        lectureRepository.deleteById(lecture.getLectureId());
+        userRepository.deleteById(instructor.getUserId());
+    }
+
+    @Test
+    @DisplayName("동시에 수천 건의 좌석 확보 요청이 들어와도 정원을 초과하지 않는다")
+    void claimSeat_NoOversellUnderContention() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger claimed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Long lectureId = lecture.getLectureId();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startGate.await();
+                    if (lectureRepository.claimSeat(lectureId) == 1) {
+                        claimed.incrementAndGet();
+                    } else {
+                        rejected.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        // When
+        startGate.countDown();
+        boolean completed = finished.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(completed).isTrue();
+        assertThat(claimed.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(rejected.get()).isEqualTo(REQUEST_COUNT - MAX_PARTICIPANTS);
+        assertThat(lectureRepository.findById(lectureId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(MAX_PARTICIPANTS);
+    }
+}
@@ -2,14 +2,30 @@ package com.weolbu.assignment;
 
 
 import com.weolbu.assignment.dto.LectureCreateRequest;
+import com.weolbu.assignment.dto.LectureCursorPageResponse;
 import com.weolbu.assignment.dto.LectureSearchResponse;
 import com.weolbu.assignment.entity.Lecture;
 import com.weolbu.assignment.entity.Role;
 import com.weolbu.assignment.entity.User;
 import com.weolbu.assignment.exception.InstructorRoleRequiredException;
+import com.weolbu.assignment.exception.InvalidCursorException;
+import com.weolbu.assignment.exception.InvalidLectureFilterException;
+import com.weolbu.assignment.exception.InvalidSearchQueryException;
+import com.weolbu.assignment.exception.SearchUnavailableException;
+import com.weolbu.assignment.repository.LectureFilter;
 import com.weolbu.assignment.repository.LectureRepository;
-import com.weolbu.assignment.service.AuthService;
+import com.weolbu.assignment.repository.LectureRepository.LectureListItem;
+import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.auth.AuthenticatedUser;
+import com.weolbu.assignment.service.LectureCountCache;
+import com.weolbu.assignment.service.LectureCursor;
 import com.weolbu.assignment.service.LectureService;
+import com.weolbu.assignment.service.leaderboard.LectureLeaderboard;
+import com.weolbu.assignment.service.leaderboard.LectureLeaderboard.RankedPage;
+import com.weolbu.assignment.service.search.LectureSearchIndex;
+import com.weolbu.assignment.service.search.LectureSearchIndex.SearchHits;
+import com.weolbu.assignment.service.seat.SeatGate;
+import com.weolbu.assignment.service.seat.SeatSlotCounter;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,11 +33,17 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,14 +54,34 @@ import static org.mockito.Mockito.*;
 class LectureServiceTest {
 
     @Mock
-    private AuthService authService;
+    private UserRepository userRepository;
 
     @Mock
     private LectureRepository lectureRepository;
 
+    @Mock
+    private SeatGate seatGate;
+
+    @Mock
+    private SeatSlotCounter seatSlotCounter;
+
+    @Mock
+    private LectureCountCache lectureCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LectureLeaderboard leaderboard;
+
+    @Mock
+    private LectureSearchIndex searchIndex;
+
     @InjectMocks
     private LectureService lectureService;
 
+    private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
     @Nested
     @DisplayName("강의 생성 성공 테스트")
     class CreateLectureSuccessTests {
@@ -59,14 +101,10 @@ class LectureServiceTest {
         }
 
         @Test
-        @DisplayName("강사가 강의 생성에 성공한다")
+        @DisplayName("강사가 강의 생성에 성공하고 사용자는 조회하지 않는다")
         void createLecture_Success() {
             // Given
-            UserDetails userDetails = org.springframework.security.core.userdetails.User
-                    .withUsername("instructor@example.com")
-                    .password("password")
-                    .roles("INSTRUCTOR")
-                    .build();
+            AuthenticatedUser user = new AuthenticatedUser(1L, Role.INSTRUCTOR, "강사");
 
             LectureCreateRequest lectureRequest = LectureCreateRequest.builder()
                     .title("강의 제목")
@@ -74,13 +112,67 @@ class LectureServiceTest {
                     .price(100000)
                     .build();
 
-            when(authService.getUserFromUserDetails(userDetails)).thenReturn(instructor);
+            when(userRepository.getReferenceById(1L)).thenReturn(instructor);
 
             // When
-            lectureService.createLecture(userDetails, lectureRequest);
+            lectureService.createLecture(user, lectureRequest);
 
             // Then
             Mockito.verify(lectureRepository, times(1)).save(any(Lecture.class));
+            Mockito.verify(userRepository, never()).findById(any());
+            Mockito.verify(lectureCountCache, times(1)).increment();
+        }
+
+        @Test
+        @DisplayName("강의 생성 트랜잭션이 커밋된 뒤에만 좌석 게이트에 등록한다")
+        void createLecture_RegistersSeatGateAfterCommit() {
+            // Given
+            AuthenticatedUser user = new AuthenticatedUser(1L, Role.INSTRUCTOR, "강사");
+            LectureCreateRequest lectureRequest = LectureCreateRequest.builder()
+                    .title("강의 제목")
+                    .maxParticipants(100)
+                    .price(100000)
+                    .build();
+            when(userRepository.getReferenceById(1L)).thenReturn(instructor);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // When
+                lectureService.createLecture(user, lectureRequest);
+
+                // Then
+                verify(seatGate, never()).register(any(), anyInt(), any());
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                verify(seatGate, times(1)).register(any(), eq(100), eq(List.of()));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("강의 생성 트랜잭션이 롤백되면 좌석 게이트에 등록하지 않는다")
+        void createLecture_RolledBack_DoesNotRegisterSeatGate() {
+            // Given
+            AuthenticatedUser user = new AuthenticatedUser(1L, Role.INSTRUCTOR, "강사");
+            LectureCreateRequest lectureRequest = LectureCreateRequest.builder()
+                    .title("강의 제목")
+                    .maxParticipants(100)
+                    .price(100000)
+                    .build();
+            when(userRepository.getReferenceById(1L)).thenReturn(instructor);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // When
+                lectureService.createLecture(user, lectureRequest);
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+                // Then
+                verify(seatGate, never()).register(any(), anyInt(), any());
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
         }
     }
 
@@ -106,11 +198,7 @@ class LectureServiceTest {
         @DisplayName("수강생이 강의 생성 시도 시 실패한다")
         void createLecture_Failure_StudentRole() {
             // Given
-            UserDetails userDetails = org.springframework.security.core.userdetails.User
-                    .withUsername("student@example.com")
-                    .password("password")
-                    .roles("STUDENT")
-                    .build();
+            AuthenticatedUser user = new AuthenticatedUser(student.getUserId(), student.getRole(), student.getUserName());
 
             LectureCreateRequest lectureRequest = LectureCreateRequest.builder()
                     .title("강의 제목")
@@ -118,11 +206,9 @@ class LectureServiceTest {
                     .price(100000)
                     .build();
 
-            when(authService.getUserFromUserDetails(userDetails)).thenReturn(student);
-
             // When & Then
             assertThrows(InstructorRoleRequiredException.class,
-                    () -> lectureService.createLecture(userDetails, lectureRequest));
+                    () -> lectureService.createLecture(user, lectureRequest));
 
             Mockito.verify(lectureRepository, times(0)).save(any(Lecture.class));
         }
@@ -131,30 +217,16 @@ class LectureServiceTest {
     @Nested
     @DisplayName("강의 조회 성공 테스트")
     class GetLectureSuccessTests {
-        private User instructor;
-        private List<Lecture> mockLectures;
+        private List<LectureListItem> mockLectures;
 
         @BeforeEach
         void setUp() {
             MockitoAnnotations.openMocks(this);
 
-            // Mock 강사 생성
-            instructor = User.builder()
-                    .userName("Instructor")
-                    .role(Role.INSTRUCTOR)
-                    .build();
-
             // Mock 강의 21개 생성
             mockLectures = new ArrayList<>();
             for (int i = 1; i <= 21; i++) {
-                mockLectures.add(Lecture.builder()
-                        .lectureId((long) i)
-                        .title("Lecture " + i)
-                        .price(10000 + i * 100)
-                        .currentParticipants(i % 10)
-                        .maxParticipants(10)
-                        .instructor(instructor)
-                        .build());
+                mockLectures.add(listItem(i, 10000 + i * 100, i % 10, 10));
             }
         }
 
@@ -163,11 +235,11 @@ class LectureServiceTest {
         void testGetLecturesSortedByRecent() {
             // Given
             Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt")));
-            Page<Lecture> mockPage = new PageImpl<>(mockLectures.subList(0, 10), pageable, 21);
-            when(lectureRepository.findAll(pageable)).thenReturn(mockPage);
+            Page<LectureListItem> mockPage = new PageImpl<>(mockLectures.subList(0, 10), pageable, 21);
+            when(lectureRepository.findListItemPage(pageable)).thenReturn(mockPage);
 
             // When
-            Page<LectureSearchResponse> result = lectureService.getLectures(pageable, "recent");
+            Page<LectureSearchResponse> result = lectureService.getLectures(pageable, "recent", true);
 
             // Then
             assertThat(result.getContent()).hasSize(10);
@@ -180,12 +252,16 @@ class LectureServiceTest {
         void testGetLecturesSortedByRate() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
+            PageRequest rateRequest = PageRequest.of(0, 10,
+                    Sort.by(Sort.Order.desc("fillRate"), Sort.Order.desc("lectureId")));
 
-            // 전체 강의 목록을 반환하도록 Mock 설정
-            when(lectureRepository.findAllOrderByRate(Pageable.unpaged())).thenReturn(mockLectures);
+            // 요청한 페이지만 DB에서 정렬해 가져오도록 Mock 설정
+            Slice<LectureListItem> mockSlice = new SliceImpl<>(mockLectures.subList(0, 10), rateRequest, true);
+            when(lectureRepository.findListItemSlice(rateRequest)).thenReturn(mockSlice);
+            when(lectureCountCache.approximateCount()).thenReturn(21L);
 
             // When
-            Page<LectureSearchResponse> result = lectureService.getLectures(pageable, "rate");
+            Page<LectureSearchResponse> result = lectureService.getLectures(pageable, "rate", false);
 
             // Then
             assertThat(result.getContent()).hasSize(10); // 페이지 크기 확인
@@ -198,11 +274,11 @@ class LectureServiceTest {
         void testGetLecturesSortedByPopular() {
             // Given
             Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("currentParticipants")));
-            Page<Lecture> mockPage = new PageImpl<>(mockLectures.subList(0, 10), pageable, 21);
-            when(lectureRepository.findAll(pageable)).thenReturn(mockPage);
+            Page<LectureListItem> mockPage = new PageImpl<>(mockLectures.subList(0, 10), pageable, 21);
+            when(lectureRepository.findListItemPage(pageable)).thenReturn(mockPage);
 
             // When
-            Page<LectureSearchResponse> result = lectureService.getLectures(pageable, "popular");
+            Page<LectureSearchResponse> result = lectureService.getLectures(pageable, "popular", true);
 
             // Then
             assertThat(result.getContent()).hasSize(10);
@@ -210,5 +286,260 @@ class LectureServiceTest {
             assertThat(result.getContent().get(0).getTitle()).isEqualTo("Lecture 1");
         }
 
+        @Test
+        @DisplayName("정확한 전체 건수를 요청하지 않으면 COUNT 쿼리 없이 캐시된 건수를 사용한다")
+        void testGetLecturesWithoutCountQuery() {
+            // Given
+            PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("currentParticipants")));
+            when(lectureRepository.findListItemSlice(pageable)).thenReturn(new SliceImpl<>(mockLectures.subList(0, 10), pageable, true));
+            when(lectureCountCache.approximateCount()).thenReturn(30L);
+
+            // When
+            Page<LectureSearchResponse> result = lectureService.getLectures(pageable, "popular", false);
+
+            // Then
+            assertThat(result.getContent()).hasSize(10);
+            assertThat(result.getTotalElements()).isEqualTo(30);
+            assertThat(result.hasNext()).isTrue();
+            verify(lectureRepository, never()).findListItemPage(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("마지막 페이지에서는 캐시된 건수 대신 실제 건수를 반환한다")
+        void testGetLecturesLastSliceUsesSeenCount() {
+            // Given
+            PageRequest pageable = PageRequest.of(2, 10, Sort.by(Sort.Order.desc("currentParticipants")));
+            when(lectureRepository.findListItemSlice(pageable)).thenReturn(new SliceImpl<>(mockLectures.subList(20, 21), pageable, false));
+
+            // When
+            Page<LectureSearchResponse> result = lectureService.getLectures(pageable, "popular", false);
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(21);
+            assertThat(result.hasNext()).isFalse();
+            verify(lectureCountCache, never()).approximateCount();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("순위 기반 강의 조회 테스트")
+    class GetRankedLecturesTests {
+
+        @Test
+        @DisplayName("순위 구간의 강의만 조회해 순위 순서대로 반환한다")
+        void getLectures_UsesLeaderboardOrder() {
+            // Given
+            PageRequest pageable = PageRequest.of(1, 3);
+            when(leaderboard.findPage("popular", 3, 3)).thenReturn(Optional.of(new RankedPage(List.of(7L, 4L, 9L), 12)));
+            when(lectureRepository.findListItemsByLectureIdIn(List.of(7L, 4L, 9L)))
+                    .thenReturn(List.of(listItem(4, 10000, 8, 10), listItem(9, 10000, 7, 10), listItem(7, 10000, 9, 10)));
+
+            // When
+            Page<LectureSearchResponse> result = lectureService.getLectures(pageable, "popular", false);
+
+            // Then
+            assertThat(result.getContent()).extracting(LectureSearchResponse::getLectureId).containsExactly(7L, 4L, 9L);
+            assertThat(result.getTotalElements()).isEqualTo(12);
+            verify(lectureRepository, never()).findListItemSlice(any());
+        }
+
+        @Test
+        @DisplayName("순위를 사용할 수 없거나 최근 등록 순이면 DB에서 정렬한다")
+        void getLectures_FallsBackToDatabaseSort() {
+            // Given
+            PageRequest popular = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("currentParticipants")));
+            PageRequest recent = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt")));
+            when(leaderboard.findPage("popular", 0, 10)).thenReturn(Optional.empty());
+            when(lectureRepository.findListItemSlice(any())).thenReturn(new SliceImpl<>(List.of(), popular, false));
+
+            // When
+            lectureService.getLectures(popular, "popular", false);
+            lectureService.getLectures(recent, "recent", false);
+
+            // Then
+            verify(lectureRepository).findListItemSlice(popular);
+            verify(lectureRepository).findListItemSlice(recent);
+            verify(leaderboard, never()).findPage(eq("recent"), anyLong(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("필터 강의 조회 테스트")
+    class GetFilteredLecturesTests {
+
+        @Test
+        @DisplayName("필터가 있으면 순위와 전체 강의 수 캐시 대신 필터 조회를 사용한다")
+        void getLectures_UsesFilterQuery() {
+            // Given
+            LectureFilter filter = new LectureFilter(10000, 50000, 7L, true);
+            PageRequest expected = PageRequest.of(1, 2, Sort.by(Sort.Order.desc("fillRate"), Sort.Order.desc("lectureId")));
+            when(lectureRepository.findListItemSlice(filter, expected))
+                    .thenReturn(new SliceImpl<>(List.of(listItem(5, 20000, 9, 10), listItem(4, 30000, 8, 10)), expected, true));
+
+            // When
+            Page<LectureSearchResponse> result = lectureService.getLectures(PageRequest.of(1, 2), "rate", false, filter);
+
+            // Then
+            assertThat(result.getContent()).extracting(LectureSearchResponse::getLectureId).containsExactly(5L, 4L);
+            assertThat(result.getTotalElements()).isEqualTo(5);
+            verifyNoInteractions(leaderboard, lectureCountCache);
+        }
+
+        @Test
+        @DisplayName("최소 가격이 최대 가격보다 크면 예외가 발생한다")
+        void getLectures_InvalidPriceRange() {
+            // Given
+            LectureFilter filter = new LectureFilter(50000, 10000, null, false);
+
+            // When & Then
+            assertThrows(InvalidLectureFilterException.class,
+                    () -> lectureService.getLectures(PageRequest.of(0, 20), "popular", false, filter));
+            verifyNoInteractions(lectureRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("강의 검색 테스트")
+    class SearchLecturesTests {
+
+        @Test
+        @DisplayName("검색 색인이 정한 순서대로 강의를 반환한다")
+        void searchLectures_UsesIndexOrder() {
+            // Given
+            when(searchIndex.search("자바", "relevance", 0, 20)).thenReturn(Optional.of(new SearchHits(List.of(3L, 1L), 2)));
+            when(lectureRepository.findListItemsByLectureIdIn(List.of(3L, 1L)))
+                    .thenReturn(List.of(listItem(1, 10000, 5, 10), listItem(3, 20000, 1, 10)));
+
+            // When
+            Page<LectureSearchResponse> result = lectureService.searchLectures("자바", PageRequest.of(0, 20), "relevance");
+
+            // Then
+            assertThat(result.getContent()).extracting(LectureSearchResponse::getLectureId).containsExactly(3L, 1L);
+            assertThat(result.getTotalElements()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 정렬 기준은 신청자 많은 순으로 검색하고 결과가 없으면 강의를 조회하지 않는다")
+        void searchLectures_NormalizesSort() {
+            // Given
+            when(searchIndex.search("스프링", "popular", 10, 10)).thenReturn(Optional.of(new SearchHits(List.of(), 0)));
+
+            // When
+            Page<LectureSearchResponse> result = lectureService.searchLectures("스프링", PageRequest.of(1, 10), "unknown");
+
+            // Then
+            assertThat(result.getContent()).isEmpty();
+            verify(lectureRepository, never()).findListItemsByLectureIdIn(any());
+        }
+
+        @Test
+        @DisplayName("검색어가 비어 있거나 너무 길면 예외가 발생한다")
+        void searchLectures_InvalidQuery() {
+            // When & Then
+            assertThrows(InvalidSearchQueryException.class,
+                    () -> lectureService.searchLectures(" ", PageRequest.of(0, 20), "relevance"));
+            assertThrows(InvalidSearchQueryException.class,
+                    () -> lectureService.searchLectures("가".repeat(LectureSearchIndex.MAX_QUERY_LENGTH + 1), PageRequest.of(0, 20), "relevance"));
+            verifyNoInteractions(searchIndex);
+        }
+
+        @Test
+        @DisplayName("검색 색인이 준비되지 않았으면 예외가 발생한다")
+        void searchLectures_IndexNotReady() {
+            // Given
+            when(searchIndex.search("자바", "relevance", 0, 20)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThrows(SearchUnavailableException.class,
+                    () -> lectureService.searchLectures("자바", PageRequest.of(0, 20), "relevance"));
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 방식 강의 조회 테스트")
+    class GetLecturesByCursorTests {
+        private List<LectureListItem> mockLectures;
+
+        @BeforeEach
+        void setUp() {
+            // 신청자 수 내림차순으로 정렬된 강의 11개
+            mockLectures = new ArrayList<>();
+            for (int i = 1; i <= 11; i++) {
+                mockLectures.add(listItem(i, 10000, 20 - i, 30));
+            }
+        }
+
+        @Test
+        @DisplayName("첫 페이지 조회 시 마지막 강의 위치를 담은 다음 커서를 반환한다")
+        void getLecturesByCursor_FirstPage() {
+            // Given
+            when(lectureRepository.findFirstPageByPopular(PageRequest.of(0, 11))).thenReturn(mockLectures);
+
+            // When
+            LectureCursorPageResponse result = lectureService.getLecturesByCursor(null, 10, "popular");
+
+            // Then
+            assertThat(result.getContent()).hasSize(10);
+            assertThat(result.isHasNext()).isTrue();
+            LectureCursor next = LectureCursor.decode(result.getNextCursor(), "popular");
+            assertThat(next.participantsKey()).isEqualTo(10);
+            assertThat(next.getLectureId()).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("커서가 주어지면 커서의 정렬 값과 강의 ID 다음부터 조회한다")
+        void getLecturesByCursor_NextPage() {
+            // Given
+            String cursor = LectureCursor.after("popular", mockLectures.get(9)).encode();
+            when(lectureRepository.findNextPageByPopular(10, 10L, PageRequest.of(0, 11)))
+                    .thenReturn(mockLectures.subList(10, 11));
+
+            // When
+            LectureCursorPageResponse result = lectureService.getLecturesByCursor(cursor, 10, "popular");
+
+            // Then
+            assertThat(result.getContent()).extracting(LectureSearchResponse::getTitle).containsExactly("Lecture 11");
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("페이지 크기는 최대값으로 제한된다")
+        void getLecturesByCursor_PageSizeCapped() {
+            // Given
+            when(lectureRepository.findFirstPageByPopular(any())).thenReturn(List.of());
+
+            // When
+            lectureService.getLecturesByCursor(null, 100_000, "popular");
+
+            // Then
+            verify(lectureRepository).findFirstPageByPopular(PageRequest.of(0, LectureService.MAX_PAGE_SIZE + 1));
+        }
+
+        @Test
+        @DisplayName("다른 정렬 기준의 커서나 잘못된 커서는 거부한다")
+        void getLecturesByCursor_InvalidCursor() {
+            // Given
+            String popularCursor = LectureCursor.after("popular", mockLectures.get(0)).encode();
+
+            // When & Then
+            assertThrows(InvalidCursorException.class, () -> lectureService.getLecturesByCursor(popularCursor, 10, "rate"));
+            assertThrows(InvalidCursorException.class, () -> lectureService.getLecturesByCursor("not-a-cursor", 10, "popular"));
+        }
+    }
+
+    // 목록 조회 프로젝션 (Map 값으로 구현)
+    private static LectureListItem listItem(long lectureId, int price, int currentParticipants, int maxParticipants) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("lectureId", lectureId);
+        values.put("title", "Lecture " + lectureId);
+        values.put("price", price);
+        values.put("instructorName", "Instructor");
+        values.put("currentParticipants", currentParticipants);
+        values.put("maxParticipants", maxParticipants);
+        values.put("seatSlotCount", 0);
+        values.put("fillRate", (double) currentParticipants / maxParticipants);
+        return PROJECTIONS.createProjection(LectureListItem.class, values);
     }
-}
\ No newline at end of file
+}
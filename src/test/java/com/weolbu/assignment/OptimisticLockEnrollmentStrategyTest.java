@@ -0,0 +1,114 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.exception.EnrollmentConflictException;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.concurrency.EnrollmentConcurrencyStrategy;
+import com.weolbu.assignment.service.concurrency.OptimisticLockEnrollmentStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticLockEnrollmentStrategyTest {
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    private OptimisticLockEnrollmentStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new OptimisticLockEnrollmentStrategy(lectureRepository, 3, 0);
+    }
+
+    private LectureRepository.LectureSeatVersion seatOf(int current, int max, long version) {
+        return new LectureRepository.LectureSeatVersion() {
+            @Override
+            public Integer getCurrentParticipants() {
+                return current;
+            }
+
+            @Override
+            public Integer getMaxParticipants() {
+                return max;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("읽은 version 그대로면 좌석을 확보한다")
+    void claimSeat_Success() {
+        // Given
+        when(lectureRepository.findSeatVersion(1L)).thenReturn(Optional.of(seatOf(3, 10, 7L)));
+        when(lectureRepository.claimSeatIfVersion(1L, 7L)).thenReturn(1);
+
+        // When & Then
+        assertThat(strategy.claimSeat(1L)).isTrue();
+        assertThat(strategy.retryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("정원이 찬 강의는 갱신을 시도하지 않는다")
+    void claimSeat_SoldOut() {
+        // Given
+        when(lectureRepository.findSeatVersion(1L)).thenReturn(Optional.of(seatOf(10, 10, 7L)));
+
+        // When & Then
+        assertThat(strategy.claimSeat(1L)).isFalse();
+        verify(lectureRepository, never()).claimSeatIfVersion(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("version이 바뀌어 실패하면 트랜잭션 안에서 대기하지 않고 바로 충돌 예외가 발생한다")
+    void claimSeat_ConflictWithoutWaiting() {
+        // Given
+        when(lectureRepository.findSeatVersion(1L)).thenReturn(Optional.of(seatOf(3, 10, 7L)));
+        when(lectureRepository.claimSeatIfVersion(eq(1L), anyLong())).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> strategy.claimSeat(1L)).isInstanceOf(EnrollmentConflictException.class);
+        verify(lectureRepository, times(1)).claimSeatIfVersion(1L, 7L);
+        assertThat(strategy.retryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 강의를 확보할 때 충돌한 강의만 충돌 결과가 된다")
+    void claimSeats_MarksOnlyConflictedLecture() {
+        // Given
+        when(lectureRepository.findSeatVersion(1L)).thenReturn(Optional.of(seatOf(3, 10, 7L)));
+        when(lectureRepository.findSeatVersion(2L)).thenReturn(Optional.of(seatOf(3, 10, 4L)));
+        when(lectureRepository.claimSeatIfVersion(1L, 7L)).thenReturn(0);
+        when(lectureRepository.claimSeatIfVersion(2L, 4L)).thenReturn(1);
+
+        // When
+        int[] claimed = strategy.claimSeats(List.of(1L, 2L));
+
+        // Then
+        assertThat(claimed).containsExactly(EnrollmentConcurrencyStrategy.CONFLICT, 1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 더 기다리지 않는다")
+    void awaitRetry_StopsAtMaxAttempts() {
+        assertThat(strategy.awaitRetry(0)).isTrue();
+        assertThat(strategy.awaitRetry(1)).isTrue();
+        assertThat(strategy.awaitRetry(2)).isFalse();
+    }
+}
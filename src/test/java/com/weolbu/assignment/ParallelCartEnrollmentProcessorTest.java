@@ -0,0 +1,141 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.EnrollmentOutcome;
+import com.weolbu.assignment.service.EnrollmentService;
+import com.weolbu.assignment.service.cart.ParallelCartEnrollmentProcessor;
+import com.weolbu.assignment.service.concurrency.EnrollmentConcurrencyStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ParallelCartEnrollmentProcessorTest {
+
+    private final LectureRepository lectureRepository = mock(LectureRepository.class);
+    private final EnrollmentService enrollmentService = mock(EnrollmentService.class);
+    private final EnrollmentConcurrencyStrategy concurrencyStrategy = mock(EnrollmentConcurrencyStrategy.class);
+
+    private ParallelCartEnrollmentProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new ParallelCartEnrollmentProcessor(lectureRepository, enrollmentService, concurrencyStrategy, 8, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    private LectureRepository.LectureTitle titleOf(Long lectureId, String title) {
+        return new LectureRepository.LectureTitle() {
+            @Override
+            public Long getLectureId() {
+                return lectureId;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public Integer getSeatSlotCount() {
+                return 0;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("강의별 신청을 동시에 실행하되 동시에 열리는 트랜잭션 수는 제한을 넘지 않는다")
+    void enroll_RunsLecturesConcurrentlyWithinPermits() {
+        // Given
+        when(lectureRepository.findTitlesByLectureIdIn(anyCollection())).thenReturn(List.of(
+                titleOf(1L, "Lecture 1"), titleOf(2L, "Lecture 2"), titleOf(3L, "Lecture 3"), titleOf(4L, "Lecture 4")));
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(enrollmentService.enrollInLecture(any(), eq(1L))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(100);
+            running.decrementAndGet();
+            LectureRepository.LectureTitle lecture = invocation.getArgument(0);
+            return lecture.getLectureId() == 4L ? EnrollmentOutcome.CAPACITY_EXCEEDED : EnrollmentOutcome.ENROLLED;
+        });
+
+        // When
+        Map<String, String> results = processor.enroll(List.of(1L, 2L, 3L, 4L, 5L), 1L);
+
+        // Then
+        assertThat(results)
+                .containsEntry("Lecture 1", "강의 수강 신청 성공")
+                .containsEntry("Lecture 2", "강의 수강 신청 성공")
+                .containsEntry("Lecture 3", "강의 수강 신청 성공")
+                .containsEntry("Lecture 4", " 강의는 수강 정원을 초과했습니다.")
+                .containsEntry("5", "번 강의를 찾을 수 없습니다.");
+        assertThat(maxRunning.get()).isEqualTo(2);
+        verify(enrollmentService, times(4)).enrollInLecture(any(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("충돌한 강의는 대기 후 새 트랜잭션으로 다시 시도하고, 끝내 충돌하면 그 강의만 충돌 결과가 된다")
+    void enroll_RetriesConflictedLecture() {
+        // Given
+        when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                .thenReturn(List.of(titleOf(1L, "Lecture 1"), titleOf(2L, "Lecture 2")));
+        AtomicInteger firstLectureAttempts = new AtomicInteger();
+        when(enrollmentService.enrollInLecture(any(), eq(1L))).thenAnswer(invocation -> {
+            LectureRepository.LectureTitle lecture = invocation.getArgument(0);
+            if (lecture.getLectureId() == 1L) {
+                return firstLectureAttempts.incrementAndGet() < 2 ? EnrollmentOutcome.CONFLICT : EnrollmentOutcome.ENROLLED;
+            }
+            return EnrollmentOutcome.CONFLICT;
+        });
+        when(concurrencyStrategy.awaitRetry(anyInt())).thenAnswer(invocation -> invocation.<Integer>getArgument(0) < 2);
+
+        // When
+        Map<String, String> results = processor.enroll(List.of(1L, 2L), 1L);
+
+        // Then
+        assertThat(results)
+                .containsEntry("Lecture 1", "강의 수강 신청 성공")
+                .containsEntry("Lecture 2", EnrollmentOutcome.CONFLICT.toCartMessage());
+        assertThat(firstLectureAttempts.get()).isEqualTo(2);
+        verify(enrollmentService, times(5)).enrollInLecture(any(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("한 강의 처리 중 예외가 발생해도 다른 강의 결과는 그대로 반환한다")
+    void enroll_IsolatesLectureFailure() {
+        // Given
+        when(lectureRepository.findTitlesByLectureIdIn(anyCollection()))
+                .thenReturn(List.of(titleOf(1L, "Lecture 1"), titleOf(2L, "Lecture 2")));
+        when(enrollmentService.enrollInLecture(any(), eq(1L))).thenAnswer(invocation -> {
+            LectureRepository.LectureTitle lecture = invocation.getArgument(0);
+            if (lecture.getLectureId() == 1L) {
+                throw new IllegalStateException("DB 오류");
+            }
+            return EnrollmentOutcome.ENROLLED;
+        });
+
+        // When
+        Map<String, String> results = processor.enroll(List.of(1L, 2L), 1L);
+
+        // Then
+        assertThat(results)
+                .containsEntry("Lecture 1", " 수강 신청 처리 중 오류가 발생했습니다.")
+                .containsEntry("Lecture 2", "강의 수강 신청 성공");
+    }
+}
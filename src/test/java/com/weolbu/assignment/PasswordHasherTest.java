@@ -0,0 +1,171 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.exception.PasswordHashingBusyException;
+import com.weolbu.assignment.service.auth.BCryptWorkFactor;
+import com.weolbu.assignment.service.auth.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHasherTest {
+
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 실행기에서 해시하고 검증한다")
+    void encodeAndMatch() {
+        // Given
+        passwordHasher = hasher(new BCryptPasswordEncoder(4), 4, 1, 1, 5_000);
+
+        // When
+        String encoded = passwordHasher.encode("password");
+
+        // Then
+        assertThat(BCryptWorkFactor.strengthOf(encoded)).isEqualTo(4);
+        assertThat(passwordHasher.matches("password", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("실행 중인 해시와 대기열이 가득 차면 기다리지 않고 거절한다")
+    void rejectsWhenSaturated() throws Exception {
+        // Given : 스레드 1개, 대기열 1칸을 모두 채움
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = mock(PasswordEncoder.class);
+        when(blocking.encode(anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "encoded";
+        });
+        passwordHasher = hasher(blocking, 4, 1, 1, 5_000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<String> running = callers.submit(() -> passwordHasher.encode("a"));
+        Future<String> queued = callers.submit(() -> passwordHasher.encode("b"));
+        Thread.sleep(200);
+
+        // When & Then
+        assertThatThrownBy(() -> passwordHasher.encode("c")).isInstanceOf(PasswordHashingBusyException.class);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 거절한다")
+    void rejectsAfterMaxWait() {
+        // Given
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.encode(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return "encoded";
+        });
+        passwordHasher = hasher(slow, 4, 1, 1, 50);
+
+        // When & Then
+        assertThatThrownBy(() -> passwordHasher.encode("a")).isInstanceOf(PasswordHashingBusyException.class);
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 비용이 현재 비용과 다르면 올리거나 내려서 다시 저장한다")
+    void rehashesOnCostChange() throws Exception {
+        // Given
+        passwordHasher = hasher(new BCryptPasswordEncoder(5), 5, 1, 4, 5_000);
+        String weaker = new BCryptPasswordEncoder(4).encode("password");
+        String stronger = new BCryptPasswordEncoder(6).encode("password");
+        String current = new BCryptPasswordEncoder(5).encode("password");
+
+        // When
+        String upgraded = rehash("password", weaker);
+        String downgraded = rehash("password", stronger);
+        AtomicReference<String> unchanged = new AtomicReference<>();
+        passwordHasher.rehashIfNeeded("password", current, unchanged::set);
+
+        // Then
+        assertThat(BCryptWorkFactor.strengthOf(upgraded)).isEqualTo(5);
+        assertThat(BCryptWorkFactor.strengthOf(downgraded)).isEqualTo(5);
+        assertThat(passwordHasher.matches("password", upgraded)).isTrue();
+        assertThat(unchanged.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("설정한 비용이 없어 측정값을 쓰면 비용이 낮은 해시만 다시 저장한다")
+    void rehashesOnlyUpwardWhenCalibrated() throws Exception {
+        // Given : 측정값이 5로 제한되는 서버
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), new BCryptWorkFactor(0, 1, 5, 5), 1, 4, 5_000);
+        String weaker = new BCryptPasswordEncoder(4).encode("password");
+        String stronger = new BCryptPasswordEncoder(6).encode("password");
+
+        // When
+        String upgraded = rehash("password", weaker);
+        AtomicReference<String> unchanged = new AtomicReference<>();
+        passwordHasher.rehashIfNeeded("password", stronger, unchanged::set);
+
+        // Then
+        assertThat(BCryptWorkFactor.strengthOf(upgraded)).isEqualTo(5);
+        assertThat(unchanged.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("재해시 저장이 늦어져도 해시 전용 스레드는 다음 요청을 처리한다")
+    void storesRehashOffHashingThread() throws Exception {
+        // Given : 해시 스레드 1개, 저장이 끝나지 않는 상태
+        passwordHasher = hasher(new BCryptPasswordEncoder(5), 5, 1, 4, 1_000);
+        CountDownLatch storing = new CountDownLatch(1);
+        CountDownLatch releaseStore = new CountDownLatch(1);
+        passwordHasher.rehashIfNeeded("password", new BCryptPasswordEncoder(4).encode("password"), rehashed -> {
+            storing.countDown();
+            try {
+                releaseStore.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(storing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        String encoded = passwordHasher.encode("other");
+
+        // Then
+        assertThat(passwordHasher.matches("other", encoded)).isTrue();
+        releaseStore.countDown();
+    }
+
+    @Test
+    @DisplayName("해시 문자열에서 비용을 읽는다")
+    void strengthOf() {
+        assertThat(BCryptWorkFactor.strengthOf("$2a$12$abcdefghijklmnopqrstuu")).isEqualTo(12);
+        assertThat(BCryptWorkFactor.strengthOf("plain")).isEqualTo(-1);
+        assertThat(BCryptWorkFactor.strengthOf(null)).isEqualTo(-1);
+    }
+
+    private String rehash(String rawPassword, String encoded) throws Exception {
+        CompletableFuture<String> stored = new CompletableFuture<>();
+        passwordHasher.rehashIfNeeded(rawPassword, encoded, stored::complete);
+        return stored.get(5, TimeUnit.SECONDS);
+    }
+
+    private static PasswordHasher hasher(PasswordEncoder encoder, int strength, int threads, int queueCapacity, long maxWait) {
+        return new PasswordHasher(encoder, new BCryptWorkFactor(strength, 250, 4, 31), threads, queueCapacity, maxWait);
+    }
+}
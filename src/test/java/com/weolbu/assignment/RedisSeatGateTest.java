@@ -0,0 +1,95 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.seat.SeatGate;
+import com.weolbu.assignment.service.seat.SeatGateResult;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"JWT_SECRET_KEY=test_secret_key_test_secret_key_test_secret_key"})
+class RedisSeatGateTest {
+
+    private static RedisServer redisServer;
+
+    @Autowired
+    private SeatGate seatGate;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(6370);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("정원만큼만 좌석을 확보하고 중복 신청은 거절한다")
+    void tryAcquire_AdmitsUpToCapacity() {
+        // Given
+        seatGate.register(1L, 2, List.of(100L));
+
+        // When & Then
+        assertThat(seatGate.tryAcquire(1L, 100L)).isEqualTo(SeatGateResult.ALREADY_ENROLLED);
+        assertThat(seatGate.tryAcquire(1L, 1L)).isEqualTo(SeatGateResult.ADMITTED);
+        assertThat(seatGate.tryAcquire(1L, 1L)).isEqualTo(SeatGateResult.ALREADY_ENROLLED);
+        assertThat(seatGate.tryAcquire(1L, 2L)).isEqualTo(SeatGateResult.ADMITTED);
+        assertThat(seatGate.tryAcquire(1L, 3L)).isEqualTo(SeatGateResult.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("보상 처리로 반환된 좌석은 다른 학생이 확보할 수 있다")
+    void release_ReturnsSeat() {
+        // Given
+        seatGate.register(1L, 1, List.of());
+        seatGate.tryAcquire(1L, 1L);
+
+        // When
+        seatGate.release(1L, 1L);
+        seatGate.release(1L, 1L);
+
+        // Then
+        assertThat(seatGate.tryAcquire(1L, 2L)).isEqualTo(SeatGateResult.ADMITTED);
+        assertThat(seatGate.tryAcquire(1L, 3L)).isEqualTo(SeatGateResult.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 강의는 DB에서 판단하도록 통과시키고, 이미 등록된 강의는 덮어쓰지 않는다")
+    void register_DoesNotOverwrite() {
+        // Given
+        seatGate.register(1L, 1, List.of());
+        seatGate.tryAcquire(1L, 1L);
+
+        // When
+        seatGate.register(1L, 10, List.of());
+
+        // Then
+        assertThat(seatGate.tryAcquire(2L, 1L)).isEqualTo(SeatGateResult.NOT_TRACKED);
+        assertThat(seatGate.tryAcquire(1L, 2L)).isEqualTo(SeatGateResult.SOLD_OUT);
+    }
+}
@@ -0,0 +1,127 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.queue.EnrollmentLanes;
+import com.weolbu.assignment.service.queue.EnrollmentTicket;
+import com.weolbu.assignment.service.queue.EnrollmentTicketStore;
+import com.weolbu.assignment.service.queue.RedisStreamEnrollmentQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisStreamEnrollmentQueueTest {
+
+    private static final int REDIS_PORT = 6371;
+
+    private final EnrollmentLanes enrollmentLanes = mock(EnrollmentLanes.class);
+    private final EnrollmentTicketStore ticketStore = mock(EnrollmentTicketStore.class);
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisStreamEnrollmentQueue queue;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (queue != null) {
+            queue.stop();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열 읽기 중 Redis 오류가 나도 구독을 취소하지 않는다")
+    void readRequest_KeepsSubscriptionOnError() {
+        // Given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        queue = new RedisStreamEnrollmentQueue(redisTemplate, enrollmentLanes, ticketStore, 60000);
+
+        // When
+        StreamReadRequest<String> readRequest = queue.readRequest();
+
+        // Then
+        assertThat(readRequest.getCancelSubscriptionOnError()
+                .test(new RedisConnectionFailureException("Connection closed"))).isFalse();
+        assertThatCode(() -> readRequest.getErrorHandler()
+                .handleError(new RedisConnectionFailureException("Connection closed"))).doesNotThrowAnyException();
+        verify(redisTemplate, never()).opsForStream();
+    }
+
+    @Test
+    @DisplayName("재시작된 Redis에 컨슈머 그룹이 없으면 읽기 오류를 처리하면서 그룹을 다시 만든다")
+    @SuppressWarnings("unchecked")
+    void readRequest_RecreatesMissingConsumerGroup() {
+        // Given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        queue = new RedisStreamEnrollmentQueue(redisTemplate, enrollmentLanes, ticketStore, 60000);
+
+        // When
+        queue.readRequest().getErrorHandler().handleError(new RedisSystemException(
+                "NOGROUP No such key 'enrollment-queue' or consumer group 'enrollment-lanes'", null));
+
+        // Then
+        verify(streamOperations).createGroup(eq("enrollment-queue"), any(ReadOffset.class), eq("enrollment-lanes"));
+    }
+
+    @Test
+    @DisplayName("Redis가 중단되었다가 다시 시작되어도 이후 접수된 티켓을 레인으로 넘긴다")
+    void receive_ResumesAfterRedisInterruption() throws Exception {
+        // Given
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        EnrollmentTicket ticket = EnrollmentTicket.pending(1L, 10L);
+        CountDownLatch dispatched = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            EnrollmentTicket received = invocation.getArgument(0);
+            if (received.getTicketId().equals(ticket.getTicketId())) {
+                dispatched.countDown();
+            }
+            return null;
+        }).when(enrollmentLanes).dispatch(any(EnrollmentTicket.class), any(Runnable.class));
+
+        queue = new RedisStreamEnrollmentQueue(redisTemplate, enrollmentLanes, ticketStore, 60000);
+        queue.start();
+
+        // When : 폴링 도중 Redis 중단 후 재시작
+        Thread.sleep(300);
+        redisServer.stop();
+        Thread.sleep(500);
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        queue.enqueue(ticket);
+
+        // Then
+        assertThat(dispatched.await(15, TimeUnit.SECONDS)).isTrue();
+    }
+}
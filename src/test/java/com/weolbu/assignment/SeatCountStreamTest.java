@@ -0,0 +1,95 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.controller.LectureController;
+import com.weolbu.assignment.dto.LectureSearchResponse;
+import com.weolbu.assignment.exception.GlobalExceptionHandler;
+import com.weolbu.assignment.service.LectureFacetCache;
+import com.weolbu.assignment.service.LectureService;
+import com.weolbu.assignment.service.cache.LectureCatalogVersion;
+import com.weolbu.assignment.service.cache.LectureListingCache;
+import com.weolbu.assignment.service.stream.SeatCountBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SeatCountStreamTest {
+
+    private LectureService lectureService;
+    private SeatCountBroadcaster broadcaster;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        lectureService = mock(LectureService.class);
+        broadcaster = new SeatCountBroadcaster(lectureService, 2, 100, 60_000, 1);
+        LectureController controller = new LectureController(lectureService, mock(LectureListingCache.class),
+                mock(LectureFacetCache.class), mock(LectureCatalogVersion.class), broadcaster);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("처음에 현재 신청자 수를 보내고 이후에는 구독한 강의의 변화량만 보낸다")
+    void stream_SnapshotThenDeltas() throws Exception {
+        // Given
+        when(lectureService.getLecturesByIds(Set.of(1L, 2L))).thenReturn(List.of(LectureSearchResponse.builder()
+                .lectureId(1L).title("강의").price(10000).instructorName("강사").currentParticipants(3).maxParticipants(10)
+                .build()));
+        MvcResult result = mockMvc.perform(get("/api/lectures/stream").param("ids", "1", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        broadcaster.fanOut(Map.of(1L, 2, 3L, 5));
+        String body = awaitContent(result, "event:seats");
+
+        // Then
+        assertThat(body.indexOf("event:snapshot")).isLessThan(body.indexOf("event:seats"));
+        assertThat(body).contains("\"currentParticipants\":3");
+        assertThat(body).contains("{\"lectureId\":1,\"delta\":2}");
+        assertThat(body).doesNotContain("\"lectureId\":3");
+        assertThat(broadcaster.hasSubscribers(2L)).isTrue();
+        assertThat(broadcaster.hasSubscribers(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("강의 ID가 없거나 너무 많으면 400을 반환한다")
+    void stream_InvalidIds() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/lectures/stream")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/lectures/stream").param("ids", "1", "2", "3")).andExpect(status().isBadRequest());
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 2000;
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+}
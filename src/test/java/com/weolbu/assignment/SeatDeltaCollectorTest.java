@@ -0,0 +1,67 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.service.event.LectureEnrollmentChangedEvent;
+import com.weolbu.assignment.service.stream.SeatCountBroadcaster;
+import com.weolbu.assignment.service.stream.SeatDeltaCollector;
+import com.weolbu.assignment.service.stream.SeatDeltaRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatDeltaCollectorTest {
+
+    @Mock
+    private SeatDeltaRelay relay;
+
+    @Mock
+    private SeatCountBroadcaster broadcaster;
+
+    private SeatDeltaCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        collector = new SeatDeltaCollector(relay, broadcaster);
+    }
+
+    @Test
+    @DisplayName("한 틱 동안의 변화량을 강의별로 합쳐 한 번만 발행한다")
+    void tick_CoalescesPerLecture() {
+        // Given
+        when(relay.localOnly()).thenReturn(false);
+        collector.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 1));
+        collector.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 2));
+        collector.onEnrollmentChanged(new LectureEnrollmentChangedEvent(2L, 1));
+
+        // When
+        collector.tick();
+        collector.tick();
+
+        // Then
+        verify(relay, times(1)).publish(Map.of(1L, 3, 2L, 1));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스로 보내지 않으면 구독자가 없는 강의의 변화량은 모으지 않는다")
+    void onEnrollmentChanged_SkipsUnwatchedLecturesLocally() {
+        // Given
+        when(relay.localOnly()).thenReturn(true);
+        when(broadcaster.hasSubscribers(1L)).thenReturn(true);
+        when(broadcaster.hasSubscribers(2L)).thenReturn(false);
+
+        // When
+        collector.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 1));
+        collector.onEnrollmentChanged(new LectureEnrollmentChangedEvent(2L, 1));
+        collector.tick();
+
+        // Then
+        verify(relay).publish(Map.of(1L, 1));
+    }
+}
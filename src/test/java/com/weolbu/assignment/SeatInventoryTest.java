@@ -0,0 +1,266 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.service.seat.SeatGateResult;
+import com.weolbu.assignment.service.seat.SeatInventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryTest {
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @InjectMocks
+    private SeatInventory seatInventory;
+
+    private LectureRepository.LectureSeatCount seatCountOf(Long lectureId, int maxParticipants, long enrolledCount) {
+        return new LectureRepository.LectureSeatCount() {
+            @Override
+            public Long getLectureId() {
+                return lectureId;
+            }
+
+            @Override
+            public Integer getMaxParticipants() {
+                return maxParticipants;
+            }
+
+            @Override
+            public Long getEnrolledCount() {
+                return enrolledCount;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("좌석 확보 테스트")
+    class AcquireTests {
+
+        @Test
+        @DisplayName("남은 좌석만큼만 확보되고 반환된 좌석은 다시 확보할 수 있다")
+        void tryAcquire_UntilSoldOut() {
+            // Given
+            seatInventory.register(1L, 2, List.of());
+
+            // When & Then
+            assertThat(seatInventory.tryAcquire(1L, 10L)).isEqualTo(SeatGateResult.ADMITTED);
+            assertThat(seatInventory.tryAcquire(1L, 11L)).isEqualTo(SeatGateResult.ADMITTED);
+            assertThat(seatInventory.tryAcquire(1L, 12L)).isEqualTo(SeatGateResult.SOLD_OUT);
+
+            seatInventory.release(1L, 11L);
+            assertThat(seatInventory.tryAcquire(1L, 12L)).isEqualTo(SeatGateResult.ADMITTED);
+        }
+
+        @Test
+        @DisplayName("같은 확보를 여러 번 반환해도 좌석은 한 번만 돌아온다")
+        void release_AtMostOncePerHold() {
+            // Given : 신청 실패 시 catch 블록과 롤백 후처리가 모두 반환하는 경우
+            seatInventory.register(1L, 1, List.of());
+            seatInventory.tryAcquire(1L, 10L);
+
+            // When
+            seatInventory.release(1L, 10L);
+            seatInventory.release(1L, 10L);
+            seatInventory.release(1L, 11L);
+
+            // Then
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("좌석을 확보 중인 학생이 다시 신청하면 이미 신청한 것으로 거절한다")
+        void tryAcquire_AlreadyHolding() {
+            // Given
+            seatInventory.register(1L, 5, List.of());
+            seatInventory.tryAcquire(1L, 10L);
+
+            // When & Then
+            assertThat(seatInventory.tryAcquire(1L, 10L)).isEqualTo(SeatGateResult.ALREADY_ENROLLED);
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 강의는 DB에서 판단하도록 넘긴다")
+        void tryAcquire_NotTracked() {
+            assertThat(seatInventory.tryAcquire(99L, 10L)).isEqualTo(SeatGateResult.NOT_TRACKED);
+        }
+
+        @Test
+        @DisplayName("이미 등록된 강의는 다시 등록해도 남은 좌석이 바뀌지 않는다")
+        void register_KeepsExistingInventory() {
+            // Given
+            seatInventory.register(1L, 1, List.of());
+            seatInventory.tryAcquire(1L, 10L);
+
+            // When
+            seatInventory.register(1L, 10, List.of());
+
+            // Then
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("세그먼트 크기를 넘는 강의 수도 각자의 좌석을 가진다")
+        void register_ManyLectures() {
+            // Given
+            for (long lectureId = 1; lectureId <= 3000; lectureId++) {
+                seatInventory.register(lectureId, (int) (lectureId % 7), List.of());
+            }
+
+            // Then
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(1);
+            assertThat(seatInventory.remainingSeats(2048L)).hasValue(4);
+            assertThat(seatInventory.remainingSeats(3000L)).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("동시에 많은 요청이 들어와도 정원을 초과해 확보하지 않는다")
+        void tryAcquire_NoOversellUnderContention() throws InterruptedException {
+            // Given
+            seatInventory.register(1L, 100, List.of());
+            ExecutorService executor = Executors.newFixedThreadPool(32);
+            CountDownLatch finished = new CountDownLatch(10_000);
+            AtomicInteger admitted = new AtomicInteger();
+
+            // When
+            for (int i = 0; i < 10_000; i++) {
+                long studentId = i;
+                executor.submit(() -> {
+                    if (seatInventory.tryAcquire(1L, studentId) == SeatGateResult.ADMITTED) {
+                        admitted.incrementAndGet();
+                    }
+                    finished.countDown();
+                });
+            }
+            boolean completed = finished.await(30, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // Then
+            assertThat(completed).isTrue();
+            assertThat(admitted.get()).isEqualTo(100);
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("DB 정합성 보정 테스트")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("같은 차이가 두 번 연속 발견되면 DB 기준으로 보정한다")
+        void reconcile_RepairsPersistentDrift() {
+            // Given : 정원 10명, DB 신청 3건인데 메모리에는 5석만 남은 상태
+            seatInventory.register(1L, 5, List.of());
+            when(lectureRepository.findSeatCountsByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(seatCountOf(1L, 10, 3)));
+
+            // When
+            seatInventory.reconcile();
+            int afterFirstCheck = seatInventory.remainingSeats(1L).getAsInt();
+            seatInventory.reconcile();
+
+            // Then
+            assertThat(afterFirstCheck).isEqualTo(5);
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(7);
+        }
+
+        @Test
+        @DisplayName("다음 점검 전에 사라진 차이는 보정하지 않는다")
+        void reconcile_IgnoresInFlightDifference() {
+            // Given : 좌석을 확보했지만 아직 커밋되지 않은 신청 1건
+            seatInventory.register(1L, 10, List.of());
+            seatInventory.tryAcquire(1L, 10L);
+            when(lectureRepository.findSeatCountsByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(seatCountOf(1L, 10, 0)), List.of(seatCountOf(1L, 10, 1)));
+
+            // When
+            seatInventory.reconcile();
+            seatInventory.reconcile();
+
+            // Then
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(9);
+        }
+
+        @Test
+        @DisplayName("신청이 실패해 좌석을 두 번 반환해도 점검에서 차이가 생기지 않는다")
+        void reconcile_AfterFailedEnrollment() {
+            // Given : 정원 10명, 1명은 신청 완료, 1명은 DB 저장 실패로 반환이 두 번 호출됨
+            seatInventory.register(1L, 10, List.of());
+            seatInventory.tryAcquire(1L, 10L);
+            seatInventory.tryAcquire(1L, 11L);
+            seatInventory.release(1L, 11L);
+            seatInventory.release(1L, 11L);
+            when(lectureRepository.findSeatCountsByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(seatCountOf(1L, 10, 1)));
+
+            // When
+            seatInventory.reconcile();
+            seatInventory.reconcile();
+
+            // Then
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(9);
+        }
+
+        @Test
+        @DisplayName("점검으로 비운 뒤 늦게 실패한 확보의 좌석은 반환되지 않고 다음 점검에서 보정된다")
+        void reconcile_RepairsSeatOfLateFailure() {
+            // Given : 좌석을 확보한 신청이 점검 이후에 실패
+            seatInventory.register(1L, 10, List.of());
+            seatInventory.tryAcquire(1L, 10L);
+            when(lectureRepository.findSeatCountsByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(seatCountOf(1L, 10, 1)), List.of(seatCountOf(1L, 10, 0)));
+            seatInventory.reconcile();
+
+            // When
+            seatInventory.release(1L, 10L);
+            int afterRelease = seatInventory.remainingSeats(1L).getAsInt();
+            seatInventory.reconcile();
+            seatInventory.reconcile();
+
+            // Then
+            assertThat(afterRelease).isEqualTo(9);
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(10);
+        }
+
+        @Test
+        @DisplayName("점검으로 비운 뒤 같은 학생의 중복 신청이 확보한 좌석은 반환되어 남은 좌석이 유지된다")
+        void reconcile_ThenDuplicateRequest_ReturnsSeat() {
+            // Given : 정원 10명, 1명이 신청 완료되어 점검에서 확보 기록을 비운 상태
+            seatInventory.register(1L, 10, List.of());
+            seatInventory.tryAcquire(1L, 10L);
+            when(lectureRepository.findSeatCountsByLectureIdIn(anyCollection()))
+                    .thenReturn(List.of(seatCountOf(1L, 10, 1)));
+            seatInventory.reconcile();
+
+            // When : 같은 학생의 중복 신청이 게이트를 통과한 뒤 DB에서 중복으로 확인되어 반환
+            SeatGateResult duplicate = seatInventory.tryAcquire(1L, 10L);
+            seatInventory.release(1L, 10L);
+            int afterRelease = seatInventory.remainingSeats(1L).getAsInt();
+            seatInventory.reconcile();
+            seatInventory.reconcile();
+
+            // Then
+            assertThat(duplicate).isEqualTo(SeatGateResult.ADMITTED);
+            assertThat(afterRelease).isEqualTo(9);
+            assertThat(seatInventory.remainingSeats(1L)).hasValue(9);
+        }
+    }
+}
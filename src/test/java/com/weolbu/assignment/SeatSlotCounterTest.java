@@ -0,0 +1,191 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.entity.Lecture;
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.entity.User;
+import com.weolbu.assignment.repository.LectureRepository;
+import com.weolbu.assignment.repository.LectureSeatSlotRepository;
+import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.seat.SeatSlotCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "JWT_SECRET_KEY=test_secret_key_test_secret_key_test_secret_key",
+        "enrollment.seat-slots.fold-interval=3600000"
+})
+class SeatSlotCounterTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private SeatSlotCounter seatSlotCounter;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureSeatSlotRepository seatSlotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User instructor;
+
+    @BeforeEach
+    void setUp() {
+        instructor = userRepository.save(User.builder()
+                .userName("슬롯 강사")
+                .email("seat-slot-instructor@example.com")
+                .phone("01099990001")
+                .password("password")
+                .role(Role.INSTRUCTOR)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatSlotRepository.deleteAllInBatch();
+        lectureRepository.findAll().stream()
+                .filter(lecture -> lecture.getInstructor().getUserId().equals(instructor.getUserId()))
+                .forEach(lectureRepository::delete);
+        userRepository.deleteById(instructor.getUserId());
+    }
+
+    private Lecture createSlottedLecture(int maxParticipants, int seatSlotCount) {
+        Lecture lecture = lectureRepository.save(Lecture.builder()
+                .title("인기 강의")
+                .maxParticipants(maxParticipants)
+                .currentParticipants(0)
+                .price(10000)
+                .seatSlotCount(seatSlotCount)
+                .instructor(instructor)
+                .build());
+        seatSlotCounter.createSlots(lecture.getLectureId(), maxParticipants, seatSlotCount);
+        return lecture;
+    }
+
+    // 스레드 여러 개로 좌석 확보 요청을 보내고 확보된 좌석 수 반환 (holdMillis : 좌석 확보 후 트랜잭션이 더 이어지는 시간)
+    private int claimConcurrently(Long lectureId, int seatSlotCount, int requestCount, long holdMillis)
+            throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(requestCount);
+        AtomicInteger claimed = new AtomicInteger();
+
+        for (int i = 0; i < requestCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startGate.await();
+                    transactionTemplate.executeWithoutResult(status -> {
+                        claimed.addAndGet(seatSlotCounter.claim(lectureId, seatSlotCount, 1));
+                        sleep(holdMillis);
+                    });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        startGate.countDown();
+        assertThat(finished.await(120, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return claimed.get();
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int participantsOf(Long lectureId) {
+        int folded = lectureRepository.findById(lectureId).orElseThrow().getCurrentParticipants();
+        return folded + seatSlotCounter.usedSeats(List.of(lectureId)).getOrDefault(lectureId, 0);
+    }
+
+    @Test
+    @DisplayName("슬롯 하나가 소진되면 다른 슬롯에서 좌석을 확보하고 전체 정원은 넘지 않는다")
+    void claim_FallsBackToOtherSlotsWithoutOversell() throws InterruptedException {
+        // Given
+        Lecture lecture = createSlottedLecture(100, 8);
+
+        // When
+        int claimed = claimConcurrently(lecture.getLectureId(), 8, 1000, 0);
+
+        // Then
+        assertThat(claimed).isEqualTo(100);
+        assertThat(participantsOf(lecture.getLectureId())).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("슬롯 사용 좌석을 강의 신청자 수로 옮겨도 전체 신청자 수와 남은 정원은 유지된다")
+    void foldAll_KeepsTotals() throws InterruptedException {
+        // Given
+        Lecture lecture = createSlottedLecture(10, 4);
+        claimConcurrently(lecture.getLectureId(), 4, 6, 0);
+
+        // When
+        seatSlotCounter.foldAll();
+        int claimedAfterFold = claimConcurrently(lecture.getLectureId(), 4, 10, 0);
+
+        // Then
+        assertThat(lectureRepository.findById(lecture.getLectureId()).orElseThrow().getCurrentParticipants())
+                .isEqualTo(6);
+        assertThat(claimedAfterFold).isEqualTo(4);
+        assertThat(participantsOf(lecture.getLectureId())).isEqualTo(10);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("슬롯 수를 늘리면 좌석 확보 처리량이 슬롯 수에 비례해 증가한다")
+    void claim_ThroughputScalesWithSlots() throws InterruptedException {
+        int requestCount = 800;
+        Map<Integer, Double> throughputBySlots = new LinkedHashMap<>();
+
+        for (int seatSlotCount : new int[]{1, 2, 4, 8}) {
+            Lecture lecture = createSlottedLecture(100_000, seatSlotCount);
+
+            long startedAt = System.nanoTime();
+            int claimed = claimConcurrently(lecture.getLectureId(), seatSlotCount, requestCount, 2);
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+            assertThat(claimed).isEqualTo(requestCount);
+            throughputBySlots.put(seatSlotCount, requestCount / seconds);
+            System.out.printf("slots=%d, claims/s=%.0f%n", seatSlotCount, requestCount / seconds);
+        }
+
+        assertThat(throughputBySlots.get(8)).isGreaterThan(throughputBySlots.get(1) * 3);
+    }
+}
@@ -7,6 +7,7 @@ import com.weolbu.assignment.exception.EmailAlreadyExistsException;
 import com.weolbu.assignment.exception.PhoneAlreadyExistsException;
 import com.weolbu.assignment.repository.UserRepository;
 import com.weolbu.assignment.service.UserService;
+import com.weolbu.assignment.service.auth.PasswordHasher;
 import org.junit.jupiter.api.DisplayName;
 
 import org.junit.jupiter.api.Nested;
@@ -18,7 +19,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -32,7 +32,7 @@ public class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Nested
     @DisplayName("회원가입 성공 테스트")
@@ -53,7 +53,7 @@ public class UserServiceTest {
 
             when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
             when(userRepository.existsByPhone(request.getPhone())).thenReturn(false);
-            when(passwordEncoder.encode(request.getPassword())).thenReturn("encodedPassword");
+            when(passwordHasher.encode(request.getPassword())).thenReturn("encodedPassword");
 
             // When
             userService.registerUser(request);
@@ -0,0 +1,64 @@
+package com.weolbu.assignment;
+
+import com.weolbu.assignment.entity.Role;
+import com.weolbu.assignment.repository.UserRepository;
+import com.weolbu.assignment.service.auth.UserStatusCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class UserStatusCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserStatusCache userStatusCache = new UserStatusCache(userRepository, 100, 60_000);
+
+    @Test
+    @DisplayName("캐시된 사용자 상태는 다시 조회하지 않는다")
+    void currentRole_CachesLookup() {
+        // Given
+        when(userRepository.findRoleByUserId(1L)).thenReturn(Optional.of(Role.STUDENT));
+
+        // When
+        userStatusCache.currentRole(1L);
+        Optional<Role> role = userStatusCache.currentRole(1L);
+
+        // Then
+        assertThat(role).contains(Role.STUDENT);
+        verify(userRepository, times(1)).findRoleByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("없는 사용자도 캐시한다")
+    void currentRole_CachesMissingUser() {
+        // Given
+        when(userRepository.findRoleByUserId(2L)).thenReturn(Optional.empty());
+
+        // When
+        userStatusCache.currentRole(2L);
+        Optional<Role> missing = userStatusCache.currentRole(2L);
+
+        // Then
+        assertThat(missing).isEmpty();
+        verify(userRepository, times(1)).findRoleByUserId(2L);
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지나면 다시 조회해 바뀐 역할을 반영한다")
+    void currentRole_ReloadsAfterTtl() throws InterruptedException {
+        // Given
+        UserStatusCache shortLived = new UserStatusCache(userRepository, 100, 50);
+        when(userRepository.findRoleByUserId(1L)).thenReturn(Optional.of(Role.STUDENT), Optional.of(Role.INSTRUCTOR));
+        shortLived.currentRole(1L);
+
+        // When
+        Thread.sleep(100);
+        Optional<Role> role = shortLived.currentRole(1L);
+
+        // Then
+        assertThat(role).contains(Role.INSTRUCTOR);
+    }
+}